@@ -9,12 +9,12 @@ echo ""
 echo "📌 检查 Java 版本..."
 JAVA_VERSION=$(java -version 2>&1 | grep "version" | awk '{print $3}' | sed 's/"//g' | cut -d'.' -f1)
 if [ -z "$JAVA_VERSION" ]; then
-    echo "❌ 未检测到 Java，请先安装 JDK 17+"
+    echo "❌ 未检测到 Java，请先安装 JDK 21+"
     exit 1
 fi
 
-if [ "$JAVA_VERSION" -lt 17 ]; then
-    echo "❌ Java 版本过低（当前: $JAVA_VERSION），需要 JDK 17+"
+if [ "$JAVA_VERSION" -lt 21 ]; then
+    echo "❌ Java 版本过低（当前: $JAVA_VERSION），需要 JDK 21+"
     exit 1
 fi
 echo "✅ Java 版本: $(java -version 2>&1 | grep "version" | awk '{print $3}' | sed 's/"//g')"
@@ -9,7 +9,7 @@ echo ""
 echo "📌 检查 Java 版本..."
 java -version 2>&1 | grep "version" | awk '{print $3}' | sed 's/"//g'
 if [ $? -ne 0 ]; then
-    echo "❌ 未检测到 Java，请先安装 JDK 17+"
+    echo "❌ 未检测到 Java，请先安装 JDK 21+"
     exit 1
 fi
 
@@ -12,14 +12,14 @@ USE delicious_moments;
 -- 用户聚合根表
 CREATE TABLE user_aggregate (
     id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '用户ID（聚合根ID）',
-    openid VARCHAR(100) UNIQUE NOT NULL COMMENT '微信openid',
+    openid VARCHAR(100) NOT NULL COMMENT '微信openid',
     union_id VARCHAR(100) COMMENT '微信unionid',
     session_key VARCHAR(100) COMMENT '会话密钥',
     version INT DEFAULT 0 COMMENT '乐观锁版本号',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
     deleted_at TIMESTAMP NULL COMMENT '软删除时间',
-    INDEX idx_openid (openid),
+    UNIQUE KEY uk_openid (openid),
     INDEX idx_deleted_at (deleted_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='用户聚合根表';
 
@@ -111,11 +111,14 @@ CREATE TABLE dish_aggregate (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
     deleted_at TIMESTAMP NULL COMMENT '软删除时间',
-    INDEX idx_family_id (family_id),
+    INDEX idx_family_deleted (family_id, deleted_at) COMMENT '二级索引隐含主键，兼作按ID的键集分页索引',
+    INDEX idx_family_deleted_cooked (family_id, deleted_at, cooked_count, id),
+    INDEX idx_family_deleted_liked (family_id, deleted_at, like_count, id),
     INDEX idx_creator_id (creator_id),
     INDEX idx_category_id (category_id),
     INDEX idx_cooked_count (cooked_count),
     INDEX idx_deleted_at (deleted_at),
+    INDEX idx_family_updated (family_id, updated_at) COMMENT '增量同步：软删除同样刷新 updated_at',
     FULLTEXT INDEX ft_name (name) WITH PARSER ngram
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='菜谱聚合根表';
 
@@ -142,7 +145,7 @@ CREATE TABLE dish_category (
     dish_count INT DEFAULT 0 COMMENT '菜谱数量',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
-    INDEX idx_family_id (family_id)
+    INDEX idx_family_updated (family_id, updated_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='分类表';
 
 -- 标签表
@@ -154,7 +157,7 @@ CREATE TABLE dish_tag (
     use_count INT DEFAULT 0 COMMENT '使用次数',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
-    INDEX idx_family_id (family_id)
+    INDEX idx_family_updated (family_id, updated_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='标签表';
 
 -- 菜谱标签关联表
@@ -200,7 +203,8 @@ CREATE TABLE menu_item (
     actual_cooking_time INT COMMENT '实际烹饪时间',
     notes TEXT COMMENT '备注',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
-    INDEX idx_menu_plan_id (menu_plan_id),
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+    INDEX idx_plan_updated (menu_plan_id, updated_at),
     INDEX idx_dish_id (dish_id),
     INDEX idx_selector_id (selector_id),
     INDEX idx_meal_time (meal_time)
@@ -243,7 +247,9 @@ CREATE TABLE shopping_item (
     actual_price DECIMAL(10,2) COMMENT '实际单价',
     notes VARCHAR(200) COMMENT '备注',
     checked_at TIMESTAMP NULL COMMENT '勾选时间',
-    INDEX idx_shopping_list_id (shopping_list_id),
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+    UNIQUE KEY uk_list_name_unit (shopping_list_id, ingredient_name, unit),
+    INDEX idx_list_updated (shopping_list_id, updated_at),
     INDEX idx_category (category),
     INDEX idx_is_checked (is_checked)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='购物项表';
@@ -308,6 +314,38 @@ CREATE TABLE family_stats_snapshot (
     INDEX idx_snapshot_date (snapshot_date)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='家庭统计快照表';
 
+-- 家庭统计日计数表（按天累加的各维度计数，周/月快照由日计数汇总得到）
+CREATE TABLE family_stats_daily_counter (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '计数ID',
+    family_id BIGINT NOT NULL COMMENT '家庭ID',
+    stat_date DATE NOT NULL COMMENT '统计日期',
+    dimension TINYINT NOT NULL COMMENT '维度：1制作次数 2菜品 3厨师 4标签',
+    key_id BIGINT NOT NULL DEFAULT 0 COMMENT '维度键（菜品/用户/标签ID，汇总维度为0）',
+    count_value BIGINT NOT NULL DEFAULT 0 COMMENT '计数值',
+    UNIQUE KEY uk_family_date_dimension_key (family_id, stat_date, dimension, key_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='家庭统计日计数表';
+
+-- 统计处理进度表
+CREATE TABLE stats_checkpoint (
+    name VARCHAR(50) PRIMARY KEY COMMENT '处理器名称',
+    last_record_id BIGINT NOT NULL DEFAULT 0 COMMENT '处理进度（已处理的最大记录ID或日志段号）',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='统计处理进度表';
+
+-- ============================================
+-- 增量同步
+-- ============================================
+
+-- 物理删除记录的墓碑（软删除的菜谱通过 deleted_at 同步，不写墓碑）
+CREATE TABLE sync_tombstone (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '墓碑ID',
+    family_id BIGINT NOT NULL COMMENT '家庭ID',
+    entity_type VARCHAR(20) NOT NULL COMMENT '实体类型：category分类 tag标签 menu_item菜单项 shopping_item购物项',
+    entity_id BIGINT NOT NULL COMMENT '被删除记录ID',
+    deleted_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '删除时间',
+    INDEX idx_family_type_deleted (family_id, entity_type, deleted_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='同步墓碑表';
+
 -- ============================================
 -- 领域事件表
 -- ============================================
@@ -0,0 +1,74 @@
+package com.delicious.moments.application.service;
+
+import com.delicious.moments.DeliciousMomentsApplication;
+import com.delicious.moments.interfaces.dto.response.UserDTO;
+import com.delicious.moments.interfaces.dto.response.UserSummaryDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 用户应用服务端到端基准（内嵌 H2，MySQL 兼容模式）
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserApplicationServiceBenchmark {
+    
+    /**
+     * 与 bench-data.sql 中初始化的用户数一致
+     */
+    private static final int USER_COUNT = 1000;
+    private static final int BATCH_SIZE = 100;
+    /**
+     * bench-data.sql 中全部用户同属一个家庭
+     */
+    private static final long VIEWER_ID = 1;
+    
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+    
+    private ConfigurableApplicationContext context;
+    private UserApplicationService userApplicationService;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DeliciousMomentsApplication.class)
+            .web(WebApplicationType.NONE)
+            .run("--spring.profiles.active=bench", "--app.cache.user.enabled=" + cacheEnabled);
+        userApplicationService = context.getBean(UserApplicationService.class);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public UserDTO getUserProfile() {
+        return userApplicationService.getUserProfile(randomUserId());
+    }
+    
+    @Benchmark
+    public Map<Long, UserSummaryDTO> getUserSummaries() {
+        List<Long> userIds = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            userIds.add(randomUserId());
+        }
+        return userApplicationService.getUserSummaries(VIEWER_ID, userIds);
+    }
+    
+    private static long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(1, USER_COUNT + 1);
+    }
+}
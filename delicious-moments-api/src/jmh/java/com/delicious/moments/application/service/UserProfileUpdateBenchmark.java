@@ -0,0 +1,60 @@
+package com.delicious.moments.application.service;
+
+import com.delicious.moments.DeliciousMomentsApplication;
+import com.delicious.moments.interfaces.dto.request.UpdateProfileRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 用户资料更新延迟分布：同步落库 vs 异步合并写（内嵌 H2，MySQL 兼容模式）
+ * <p>
+ * SampleTime 模式输出 p0.99 等分位数，对比两种模式下更新接口的尾延迟。
+ * 资料落库使用 MySQL 的多表 UPDATE ... JOIN，H2 不支持：同步模式需把数据源指向 MySQL
+ * （-jvmArgsAppend -Dspring.datasource.url=...，并先导入同样的 1000 个用户）才能运行。
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserProfileUpdateBenchmark {
+    
+    /**
+     * 与 bench-data.sql 中初始化的用户数一致
+     */
+    private static final int USER_COUNT = 1000;
+    
+    @Param({"false", "true"})
+    public boolean writeBehind;
+    
+    private ConfigurableApplicationContext context;
+    private UserApplicationService userApplicationService;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DeliciousMomentsApplication.class)
+            .web(WebApplicationType.NONE)
+            .run("--spring.profiles.active=bench", "--app.user.write-behind.enabled=" + writeBehind);
+        userApplicationService = context.getBean(UserApplicationService.class);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public void updateAvatar() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UpdateProfileRequest request = new UpdateProfileRequest();
+        request.setAvatarUrl("https://cdn.example.com/avatar/" + random.nextInt() + ".png");
+        userApplicationService.updateUserProfile(random.nextLong(1, USER_COUNT + 1), request);
+    }
+}
@@ -0,0 +1,74 @@
+package com.delicious.moments.domain.menu.service;
+
+import com.delicious.moments.domain.menu.valueobject.CookingEvent;
+import com.delicious.moments.domain.menu.valueobject.DishFeature;
+import com.delicious.moments.domain.menu.valueobject.DishRecommendation;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 菜谱推荐基准：单个家庭的打分取前 K，以及模型构建
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DishRecommenderBenchmark {
+    
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
+    private static final long[] MEMBERS = {1, 2, 3, 4};
+    
+    @Param({"200", "2000", "5000"})
+    private int dishCount;
+    
+    private List<DishFeature> features;
+    private List<CookingEvent> history;
+    private FamilyDishRecommender model;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        features = new ArrayList<>(dishCount);
+        for (int i = 0; i < dishCount; i++) {
+            long[] tags = {random.nextInt(30) + 1, random.nextInt(30) + 1};
+            long[] likedBy = random.nextBoolean() ? new long[]{MEMBERS[random.nextInt(MEMBERS.length)]} : new long[0];
+            features.add(new DishFeature(i + 1, "菜" + i, 100 + random.nextInt(700),
+                random.nextInt(50), random.nextInt(100), random.nextInt(50) / 10.0, tags, likedBy));
+        }
+        // 两年的三餐历史
+        history = new ArrayList<>();
+        for (int day = 0; day < 730; day++) {
+            for (String meal : FamilyDishRecommender.MEALS) {
+                for (int k = 0; k < 3; k++) {
+                    history.add(new CookingEvent(history.size() + 1, 1L, random.nextInt(dishCount) + 1,
+                        TODAY.minusDays(730 - day), meal, MEMBERS[random.nextInt(MEMBERS.length)]));
+                }
+            }
+        }
+        model = build();
+    }
+    
+    @Benchmark
+    public List<DishRecommendation> recommend() {
+        return model.recommend(TODAY, "dinner", 2L, 400, 10);
+    }
+    
+    @Benchmark
+    public List<DishRecommendation> recommendWithoutContext() {
+        return model.recommend(TODAY, null, null, null, 10);
+    }
+    
+    @Benchmark
+    public FamilyDishRecommender build() {
+        FamilyDishRecommender recommender = new FamilyDishRecommender(features, history.size());
+        history.forEach(recommender::addCooking);
+        return recommender;
+    }
+}
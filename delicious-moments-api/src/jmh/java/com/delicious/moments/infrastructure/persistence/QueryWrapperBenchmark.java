@@ -0,0 +1,56 @@
+package com.delicious.moments.infrastructure.persistence;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.delicious.moments.infrastructure.persistence.po.UserPO;
+import com.delicious.moments.infrastructure.persistence.po.UserProfilePO;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBatis-Plus 条件构造器构建开销基准
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryWrapperBenchmark {
+    
+    private static final String OPEN_ID = "bench_openid_10001";
+    private static final Long USER_ID = 10001L;
+    
+    @Setup
+    public void setUp() {
+        // Lambda 条件构造器解析列名依赖 TableInfo 缓存，需先初始化
+        MapperBuilderAssistant assistant = new MapperBuilderAssistant(new MybatisConfiguration(), "");
+        TableInfoHelper.initTableInfo(assistant, UserPO.class);
+        TableInfoHelper.initTableInfo(assistant, UserProfilePO.class);
+    }
+    
+    @Benchmark
+    public String lambdaQueryByOpenId() {
+        return new LambdaQueryWrapper<UserPO>()
+            .eq(UserPO::getOpenid, OPEN_ID)
+            .getSqlSegment();
+    }
+    
+    @Benchmark
+    public String lambdaQueryProfileByUserId() {
+        return new LambdaQueryWrapper<UserProfilePO>()
+            .eq(UserProfilePO::getUserId, USER_ID)
+            .getSqlSegment();
+    }
+    
+    @Benchmark
+    public String stringQueryByOpenId() {
+        return new QueryWrapper<UserPO>()
+            .eq("openid", OPEN_ID)
+            .getSqlSegment();
+    }
+}
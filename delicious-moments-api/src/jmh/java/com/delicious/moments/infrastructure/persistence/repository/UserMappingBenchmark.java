@@ -0,0 +1,67 @@
+package com.delicious.moments.infrastructure.persistence.repository;
+
+import com.delicious.moments.domain.user.aggregate.User;
+import com.delicious.moments.domain.user.valueobject.UserId;
+import com.delicious.moments.infrastructure.persistence.po.UserAggregatePO;
+import com.delicious.moments.infrastructure.persistence.po.UserPO;
+import com.delicious.moments.infrastructure.persistence.po.UserProfilePO;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 用户 PO 与领域对象映射基准
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserMappingBenchmark {
+    
+    private UserAggregatePO aggregatePO;
+    private User user;
+    
+    @Setup
+    public void setUp() {
+        UserPO userPO = new UserPO();
+        userPO.setId(10001L);
+        userPO.setOpenid("bench_openid_10001");
+        userPO.setUnionId("bench_unionid_10001");
+        userPO.setVersion(3);
+        userPO.setCreatedAt(LocalDateTime.now());
+        userPO.setUpdatedAt(LocalDateTime.now());
+        
+        UserProfilePO profilePO = new UserProfilePO();
+        profilePO.setId(20001L);
+        profilePO.setUserId(10001L);
+        profilePO.setNickname("妈妈");
+        profilePO.setAvatarUrl("https://cdn.example.com/avatar/10001.png");
+        profilePO.setPhone("13800000000");
+        
+        aggregatePO = new UserAggregatePO();
+        aggregatePO.setId(10001L);
+        aggregatePO.setUser(userPO);
+        aggregatePO.setProfile(profilePO);
+        
+        user = UserRepositoryImpl.toDomain(aggregatePO);
+        user.setUserId(UserId.of(10001L));
+    }
+    
+    @Benchmark
+    public User toDomain() {
+        return UserRepositoryImpl.toDomain(aggregatePO);
+    }
+    
+    @Benchmark
+    public UserPO toPO() {
+        return UserRepositoryImpl.toPO(user);
+    }
+    
+    @Benchmark
+    public UserProfilePO toProfilePO() {
+        return UserRepositoryImpl.toProfilePO(user);
+    }
+}
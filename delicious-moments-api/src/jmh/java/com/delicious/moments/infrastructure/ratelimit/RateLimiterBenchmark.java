@@ -0,0 +1,109 @@
+package com.delicious.moments.infrastructure.ratelimit;
+
+import com.delicious.moments.infrastructure.config.RateLimitProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 限流器开销基准（多线程争用）
+ * <p>
+ * sharedClient：所有线程为同一地址的未认证请求，争用同一个桶；distinctUsers：每个线程一个用户，只争用 map；
+ * synchronizedSharedFamily：同一个桶改为加锁实现，作为对照。速率足够高，请求全部放行，测量的是获取路径本身。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+    
+    private static final String PATH = "/dishes";
+    private static final long FAMILY_ID = 1L;
+    private static final String CLIENT_ADDRESS = "10.0.0.1";
+    
+    private RateLimiter rateLimiter;
+    private LockedBucket lockedBucket;
+    
+    @State(Scope.Thread)
+    public static class ThreadUser {
+        
+        private static final AtomicLong SEQUENCE = new AtomicLong(10000);
+        
+        Long userId;
+        
+        @Setup
+        public void setUp() {
+            userId = SEQUENCE.incrementAndGet();
+        }
+    }
+    
+    @Setup
+    public void setUp() {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(TokenBucket.MAX_CAPACITY);
+        limit.setPermitsPerSecond(1_000_000_000);
+        RateLimitProperties.Group group = new RateLimitProperties.Group();
+        group.setName("default");
+        group.setPatterns(List.of("/**"));
+        group.setUser(limit);
+        group.setFamily(limit);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setGroups(List.of(group));
+        rateLimiter = new RateLimiter(properties);
+        lockedBucket = new LockedBucket(limit.getCapacity(), limit.getPermitsPerSecond());
+    }
+    
+    @Benchmark
+    public long sharedClient() {
+        return rateLimiter.tryAcquire(PATH, null, null, CLIENT_ADDRESS);
+    }
+    
+    @Benchmark
+    public long distinctUsers(ThreadUser user) {
+        return rateLimiter.tryAcquire(PATH, user.userId, null, CLIENT_ADDRESS);
+    }
+    
+    @Benchmark
+    public long distinctUsersSharedFamily(ThreadUser user) {
+        return rateLimiter.tryAcquire(PATH, user.userId, FAMILY_ID, CLIENT_ADDRESS);
+    }
+    
+    @Benchmark
+    public long synchronizedSharedFamily() {
+        return lockedBucket.tryAcquire(System.nanoTime() / 1_000_000);
+    }
+    
+    /**
+     * 加锁的令牌桶，与 {@link TokenBucket} 算法相同
+     */
+    private static final class LockedBucket {
+        
+        private final double capacity;
+        private final double permitsPerMilli;
+        private double tokens;
+        private long time;
+        
+        LockedBucket(int capacity, double permitsPerSecond) {
+            this.capacity = capacity;
+            this.permitsPerMilli = permitsPerSecond / 1000;
+            this.tokens = capacity;
+        }
+        
+        synchronized long tryAcquire(long nowMillis) {
+            if (nowMillis > time) {
+                tokens = Math.min(capacity, tokens + (nowMillis - time) * permitsPerMilli);
+                time = nowMillis;
+            }
+            if (tokens < 1) {
+                return 1;
+            }
+            tokens--;
+            return 0;
+        }
+    }
+}
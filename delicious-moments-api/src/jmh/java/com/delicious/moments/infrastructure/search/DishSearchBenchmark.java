@@ -0,0 +1,72 @@
+package com.delicious.moments.infrastructure.search;
+
+import com.delicious.moments.domain.dish.valueobject.DishSearchDocument;
+import com.delicious.moments.domain.dish.valueobject.DishSearchHit;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 菜谱检索索引基准：单个家庭内的前缀、子串和拼音首字母检索
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DishSearchBenchmark {
+    
+    private static final String[] INGREDIENTS = {"番茄", "鸡蛋", "土豆", "牛肉", "排骨", "豆腐", "茄子", "青椒", "虾仁", "黄瓜"};
+    private static final String[] METHODS = {"炒", "烧", "炖", "蒸", "拌", "焖", "煎", "烤"};
+    private static final String[] TAGS = {"家常", "快手", "下饭", "清淡", "辣", "宝宝爱吃"};
+    
+    @Param({"200", "2000"})
+    private int dishCount;
+    
+    private List<DishSearchDocument> documents;
+    private FamilyDishIndex index;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        documents = new ArrayList<>(dishCount);
+        for (int i = 0; i < dishCount; i++) {
+            String name = INGREDIENTS[random.nextInt(INGREDIENTS.length)]
+                + METHODS[random.nextInt(METHODS.length)]
+                + INGREDIENTS[random.nextInt(INGREDIENTS.length)];
+            List<String> tags = List.of(TAGS[random.nextInt(TAGS.length)], TAGS[random.nextInt(TAGS.length)]);
+            documents.add(new DishSearchDocument(i + 1, 1L, name, tags,
+                random.nextInt(50), random.nextInt(100), random.nextInt(50) / 10.0));
+        }
+        index = FamilyDishIndex.build(documents);
+    }
+    
+    @Benchmark
+    public List<DishSearchHit> prefix() {
+        return index.search("番茄", 20);
+    }
+    
+    @Benchmark
+    public List<DishSearchHit> substring() {
+        return index.search("炒鸡蛋", 20);
+    }
+    
+    @Benchmark
+    public List<DishSearchHit> pinyinInitials() {
+        return index.search("fqc", 20);
+    }
+    
+    @Benchmark
+    public List<DishSearchHit> singleChar() {
+        return index.search("蛋", 20);
+    }
+    
+    @Benchmark
+    public FamilyDishIndex rebuild() {
+        return FamilyDishIndex.build(documents);
+    }
+}
@@ -0,0 +1,77 @@
+package com.delicious.moments.infrastructure.security;
+
+import com.delicious.moments.infrastructure.config.JwtProperties;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 验证基准
+ * <p>
+ * 对比每次请求重新构建密钥和解析器、复用解析器逐次验证签名、以及命中已验证 Token 缓存三种路径。
+ * sessions 为轮流使用的不同 Token 数，模拟多个会话交替访问。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtVerificationBenchmark {
+    
+    private static final String SECRET = "delicious-moments-secret-key-2024";
+    
+    @Param({"1", "1000"})
+    private int sessions;
+    
+    private JwtTokenService uncached;
+    private JwtTokenService cached;
+    private String[] tokens;
+    private int next;
+    
+    @Setup
+    public void setUp() {
+        uncached = new JwtTokenService(properties(0));
+        cached = new JwtTokenService(properties(10_000));
+        tokens = new String[sessions];
+        for (int i = 0; i < sessions; i++) {
+            tokens[i] = cached.issue(10001L + i);
+        }
+    }
+    
+    @Benchmark
+    public Long rebuildParserPerRequest() {
+        return Long.valueOf(Jwts.parser()
+            .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .build()
+            .parseSignedClaims(nextToken())
+            .getPayload()
+            .getSubject());
+    }
+    
+    @Benchmark
+    public Long verifyWithoutCache() {
+        return uncached.verify(nextToken());
+    }
+    
+    @Benchmark
+    public Long verifyWithCache() {
+        return cached.verify(nextToken());
+    }
+    
+    private String nextToken() {
+        String token = tokens[next];
+        next = next + 1 == tokens.length ? 0 : next + 1;
+        return token;
+    }
+    
+    private static JwtProperties properties(long tokenCacheSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setTokenCacheSize(tokenCacheSize);
+        return properties;
+    }
+}
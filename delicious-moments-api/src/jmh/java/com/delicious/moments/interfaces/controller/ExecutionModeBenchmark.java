@@ -0,0 +1,87 @@
+package com.delicious.moments.interfaces.controller;
+
+import com.delicious.moments.DeliciousMomentsApplication;
+import com.delicious.moments.infrastructure.security.JwtTokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求执行模式对比：平台线程 vs 虚拟线程（内嵌 H2，MySQL 兼容模式）
+ * <p>
+ * 启动完整的 Web 服务，多线程并发请求读接口 GET /users/profile（关闭用户缓存，每次请求都查库），
+ * 请求携带预先为每个用户签发的 Token。
+ * SampleTime 模式同时给出吞吐（线程数 / 平均耗时）和 p0.99 尾延迟。
+ * H2 内存库没有网络往返，查询不阻塞，两种模式的差距会小于真实 MySQL。
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutionModeBenchmark {
+    
+    /**
+     * 与 bench-data.sql 中初始化的用户数一致
+     */
+    private static final int USER_COUNT = 1000;
+    
+    @Param({"platform", "virtual"})
+    public String executionMode;
+    
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI profileUri;
+    private String[] authorizations;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DeliciousMomentsApplication.class)
+            .web(WebApplicationType.SERVLET)
+            .run("--spring.profiles.active=bench",
+                "--server.port=0",
+                "--app.server.execution-mode=" + executionMode,
+                "--app.cache.user.enabled=false",
+                "--app.rate-limit.enabled=false");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        profileUri = URI.create("http://localhost:" + port + "/api/users/profile");
+        JwtTokenService jwtTokenService = context.getBean(JwtTokenService.class);
+        authorizations = new String[USER_COUNT];
+        for (int i = 0; i < USER_COUNT; i++) {
+            authorizations[i] = "Bearer " + jwtTokenService.issue((long) i + 1);
+        }
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public int getUserProfile() throws IOException, InterruptedException {
+        String authorization = authorizations[ThreadLocalRandom.current().nextInt(USER_COUNT)];
+        HttpRequest request = HttpRequest.newBuilder(profileUri)
+            .header(HttpHeaders.AUTHORIZATION, authorization)
+            .GET()
+            .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("unexpected status " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
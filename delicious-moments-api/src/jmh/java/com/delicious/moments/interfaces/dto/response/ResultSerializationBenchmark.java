@@ -0,0 +1,101 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import com.delicious.moments.infrastructure.web.ResultHttpMessageConverter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result / PageResult 响应体序列化基准
+ * <p>
+ * 对比默认 Jackson 转换器的写法与 {@link ResultHttpMessageConverter}，以及缓存字节直接写出的路径。
+ * 每次操作的分配量见 gc profiler 输出的 gc.alloc.rate.norm（-Djmh.prof=gc，默认开启）。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultSerializationBenchmark {
+    
+    @Param({"20"})
+    public int pageSize;
+    
+    private ObjectMapper objectMapper;
+    private ResultHttpMessageConverter converter;
+    private ByteArrayOutputStream out;
+    private UserDTO user;
+    private PageResult<UserDTO> page;
+    private RawJson cachedPage;
+    
+    @Setup
+    public void setUp() {
+        // 与 Spring MVC 默认消息转换器使用相同的构建方式
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        user = newUser(10001L);
+        
+        List<UserDTO> records = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            records.add(newUser(10001L + i));
+        }
+        page = PageResult.of(records, 1000L, 1L, (long) pageSize);
+        
+        ObjectMapper fastMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+        converter = new ResultHttpMessageConverter(fastMapper);
+        out = new ByteArrayOutputStream(16 * 1024);
+        try {
+            cachedPage = RawJson.of(fastMapper.writeValueAsBytes(page));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    @Benchmark
+    public byte[] serializeUserResult() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(Result.success(user));
+    }
+    
+    @Benchmark
+    public byte[] serializePageResult() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(Result.success(page));
+    }
+    
+    @Benchmark
+    public int convertUserResult() throws IOException {
+        out.reset();
+        converter.write(Result.success(user), out);
+        return out.size();
+    }
+    
+    @Benchmark
+    public int convertPageResult() throws IOException {
+        out.reset();
+        converter.write(Result.success(page), out);
+        return out.size();
+    }
+    
+    @Benchmark
+    public int convertCachedPageResult() throws IOException {
+        out.reset();
+        converter.write(Result.success(cachedPage), out);
+        return out.size();
+    }
+    
+    private static UserDTO newUser(long userId) {
+        UserDTO dto = new UserDTO();
+        dto.setUserId(userId);
+        dto.setNickname("用户" + userId);
+        dto.setAvatarUrl("https://cdn.example.com/avatar/" + userId + ".png");
+        dto.setPhone("13800000000");
+        return dto;
+    }
+}
@@ -0,0 +1,15 @@
+-- 基准测试数据：1000 个用户及其资料、一个包含全部用户的家庭
+-- SYSTEM_RANGE 的列名为大写 X，DATABASE_TO_LOWER=TRUE 下须加引号引用
+
+INSERT INTO user_aggregate (openid, version)
+SELECT CONCAT('bench_openid_', "X"), 0 FROM SYSTEM_RANGE(1, 1000);
+
+INSERT INTO user_profile (user_id, nickname, avatar_url, phone)
+SELECT "X", CONCAT('用户', "X"), CONCAT('https://cdn.example.com/avatar/', "X", '.png'), '13800000000'
+FROM SYSTEM_RANGE(1, 1000);
+
+-- 全部用户同属一个家庭，用户 1 为创建者
+INSERT INTO family_aggregate (id, name, invite_code, creator_id) VALUES (1, '基准家庭', 'BENCH1', 1);
+
+INSERT INTO family_member (family_id, user_id, role)
+SELECT 1, "X", CASE WHEN "X" = 1 THEN 'creator' ELSE 'member' END FROM SYSTEM_RANGE(1, 1000);
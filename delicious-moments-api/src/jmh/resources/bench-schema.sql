@@ -0,0 +1,51 @@
+-- 基准测试表结构（H2 MySQL 兼容模式，仅包含用户上下文和家庭成员）
+
+CREATE TABLE user_aggregate (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    openid VARCHAR(100) NOT NULL,
+    union_id VARCHAR(100),
+    session_key VARCHAR(100),
+    version INT DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    deleted_at TIMESTAMP NULL,
+    CONSTRAINT uk_openid UNIQUE (openid)
+);
+
+CREATE TABLE user_profile (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    nickname VARCHAR(50),
+    avatar_url VARCHAR(255),
+    phone VARCHAR(20),
+    gender TINYINT,
+    birthday DATE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_user_id UNIQUE (user_id)
+);
+
+CREATE TABLE family_aggregate (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    name VARCHAR(100) NOT NULL,
+    invite_code VARCHAR(20) NOT NULL,
+    creator_id BIGINT NOT NULL,
+    status TINYINT DEFAULT 1,
+    version INT DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    deleted_at TIMESTAMP NULL,
+    CONSTRAINT uk_invite_code UNIQUE (invite_code)
+);
+
+CREATE TABLE family_member (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    family_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    role VARCHAR(20) NOT NULL,
+    nickname VARCHAR(50),
+    joined_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_family_user UNIQUE (family_id, user_id)
+);
+
+CREATE INDEX idx_family_member_user_id ON family_member (user_id);
@@ -0,0 +1,28 @@
+package com.delicious.moments.application.event;
+
+import com.delicious.moments.application.service.FamilyMembershipService;
+import com.delicious.moments.domain.family.event.FamilyMemberJoinedEvent;
+import com.delicious.moments.domain.family.event.FamilyMemberLeftEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 成员加入或退出家庭提交后失效成员身份缓存
+ */
+@Component
+@RequiredArgsConstructor
+public class FamilyMembershipCacheListener {
+    
+    private final FamilyMembershipService familyMembershipService;
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberJoined(FamilyMemberJoinedEvent event) {
+        familyMembershipService.evict(event.getUserId(), event.getFamilyId());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberLeft(FamilyMemberLeftEvent event) {
+        familyMembershipService.evict(event.getUserId(), event.getFamilyId());
+    }
+}
@@ -0,0 +1,28 @@
+package com.delicious.moments.application.event;
+
+import com.delicious.moments.application.service.FamilyStatsRollupService;
+import com.delicious.moments.domain.menu.event.MenuItemAddedEvent;
+import com.delicious.moments.domain.menu.event.MenuItemRemovedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 菜单项变更提交后标记家庭统计的平均卡路里待重新计算
+ */
+@Component
+@RequiredArgsConstructor
+public class FamilyStatsPlanListener {
+    
+    private final FamilyStatsRollupService familyStatsRollupService;
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuItemAdded(MenuItemAddedEvent event) {
+        familyStatsRollupService.markPlanChanged(event.getFamilyId(), event.getMenuDate());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuItemRemoved(MenuItemRemovedEvent event) {
+        familyStatsRollupService.markPlanChanged(event.getFamilyId(), event.getMenuDate());
+    }
+}
@@ -0,0 +1,28 @@
+package com.delicious.moments.application.event;
+
+import com.delicious.moments.application.service.MenuNutritionService;
+import com.delicious.moments.domain.dish.event.DishDeletedEvent;
+import com.delicious.moments.domain.dish.event.DishSavedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 菜谱变更提交后失效家庭的菜单营养合计（菜单项增删由计划版本号区分，无需失效）
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuNutritionCacheListener {
+    
+    private final MenuNutritionService menuNutritionService;
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDishSaved(DishSavedEvent event) {
+        menuNutritionService.evictFamily(event.getFamilyId());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDishDeleted(DishDeletedEvent event) {
+        menuNutritionService.evictFamily(event.getFamilyId());
+    }
+}
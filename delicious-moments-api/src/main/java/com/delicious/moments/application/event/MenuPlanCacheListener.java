@@ -0,0 +1,40 @@
+package com.delicious.moments.application.event;
+
+import com.delicious.moments.application.service.MenuPlanApplicationService;
+import com.delicious.moments.domain.dish.event.DishDeletedEvent;
+import com.delicious.moments.domain.dish.event.DishSavedEvent;
+import com.delicious.moments.domain.menu.event.MenuItemAddedEvent;
+import com.delicious.moments.domain.menu.event.MenuItemRemovedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 菜单项或菜谱变更提交后失效菜单计划缓存
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuPlanCacheListener {
+    
+    private final MenuPlanApplicationService menuPlanApplicationService;
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuItemAdded(MenuItemAddedEvent event) {
+        menuPlanApplicationService.evict(event.getFamilyId(), event.getMenuDate());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuItemRemoved(MenuItemRemovedEvent event) {
+        menuPlanApplicationService.evict(event.getFamilyId(), event.getMenuDate());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDishSaved(DishSavedEvent event) {
+        menuPlanApplicationService.evictFamily(event.getFamilyId());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDishDeleted(DishDeletedEvent event) {
+        menuPlanApplicationService.evictFamily(event.getFamilyId());
+    }
+}
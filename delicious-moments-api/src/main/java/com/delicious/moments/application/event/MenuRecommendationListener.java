@@ -0,0 +1,34 @@
+package com.delicious.moments.application.event;
+
+import com.delicious.moments.application.service.MenuRecommendationService;
+import com.delicious.moments.domain.dish.event.DishDeletedEvent;
+import com.delicious.moments.domain.dish.event.DishSavedEvent;
+import com.delicious.moments.domain.dish.event.DishesImportedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 菜谱变更提交后失效家庭的推荐模型
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuRecommendationListener {
+    
+    private final MenuRecommendationService menuRecommendationService;
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDishSaved(DishSavedEvent event) {
+        menuRecommendationService.evictFamily(event.getFamilyId());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDishDeleted(DishDeletedEvent event) {
+        menuRecommendationService.evictFamily(event.getFamilyId());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDishesImported(DishesImportedEvent event) {
+        menuRecommendationService.evictFamily(event.getFamilyId());
+    }
+}
@@ -0,0 +1,28 @@
+package com.delicious.moments.application.event;
+
+import com.delicious.moments.application.service.ShoppingListApplicationService;
+import com.delicious.moments.domain.menu.event.MenuItemAddedEvent;
+import com.delicious.moments.domain.menu.event.MenuItemRemovedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 菜单项变更后增量更新购物清单
+ */
+@Component
+@RequiredArgsConstructor
+public class ShoppingListMenuItemListener {
+    
+    private final ShoppingListApplicationService shoppingListApplicationService;
+    
+    @EventListener
+    public void onMenuItemAdded(MenuItemAddedEvent event) {
+        shoppingListApplicationService.onMenuItemAdded(event.getFamilyId(), event.getDishId(), event.getMenuDate());
+    }
+    
+    @EventListener
+    public void onMenuItemRemoved(MenuItemRemovedEvent event) {
+        shoppingListApplicationService.onMenuItemRemoved(event.getFamilyId(), event.getDishId(), event.getMenuDate());
+    }
+}
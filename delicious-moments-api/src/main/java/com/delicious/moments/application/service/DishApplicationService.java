@@ -0,0 +1,115 @@
+package com.delicious.moments.application.service;
+
+import com.delicious.moments.domain.dish.aggregate.Dish;
+import com.delicious.moments.domain.dish.repository.DishRepository;
+import com.delicious.moments.domain.dish.service.DishCounters;
+import com.delicious.moments.domain.dish.service.DishSearcher;
+import com.delicious.moments.domain.dish.valueobject.DishCounterType;
+import com.delicious.moments.domain.dish.valueobject.DishCursor;
+import com.delicious.moments.domain.dish.valueobject.DishId;
+import com.delicious.moments.domain.dish.valueobject.DishSearchHit;
+import com.delicious.moments.domain.dish.valueobject.DishSortKey;
+import com.delicious.moments.interfaces.dto.response.CursorPage;
+import com.delicious.moments.interfaces.dto.response.DishDTO;
+import com.delicious.moments.interfaces.dto.response.DishSearchHitDTO;
+import com.delicious.moments.shared.exception.BusinessException;
+import com.delicious.moments.shared.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 菜谱应用服务
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DishApplicationService {
+    
+    private final DishRepository dishRepository;
+    private final DishSearcher dishSearcher;
+    private final DishCounters dishCounters;
+    private final FamilyMembershipService familyMembershipService;
+    
+    /**
+     * 获取菜谱详情，只允许菜谱所属家庭的成员查看
+     */
+    public DishDTO getDish(Long userId, Long dishId) {
+        Dish dish = dishRepository.findById(DishId.of(dishId))
+            .orElseThrow(() -> new BusinessException(ErrorCode.DISH_NOT_FOUND));
+        familyMembershipService.checkMember(userId, dish.getFamilyId());
+        return toDTO(dish);
+    }
+    
+    /**
+     * 游标分页查询家庭菜谱
+     *
+     * @param sort      排序方式：latest / cooked / liked，默认 latest
+     * @param cursor    上一页返回的 nextCursor，第一页为空
+     * @param withTotal 是否统计总数（需要额外一次 COUNT 查询）
+     */
+    public CursorPage<DishDTO> listDishes(Long familyId, String sort, String cursor, int size, boolean withTotal) {
+        DishSortKey sortKey;
+        DishCursor after = null;
+        try {
+            sortKey = DishSortKey.fromCode(sort);
+            if (cursor != null && !cursor.isEmpty()) {
+                after = DishCursor.decode(cursor, sortKey);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR, "无效的排序方式或分页游标");
+        }
+        
+        // 多取一条判断是否还有下一页
+        List<Dish> dishes = dishRepository.findPage(familyId, sortKey, after, size + 1);
+        boolean hasMore = dishes.size() > size;
+        if (hasMore) {
+            dishes = dishes.subList(0, size);
+        }
+        String nextCursor = hasMore ? DishCursor.after(sortKey, dishes.get(dishes.size() - 1)).encode() : null;
+        Long total = withTotal ? dishRepository.countByFamily(familyId) : null;
+        
+        return CursorPage.of(dishes.stream().map(this::toDTO).toList(), nextCursor, total);
+    }
+    
+    /**
+     * 按菜名、标签或拼音首字母检索家庭菜谱
+     */
+    public List<DishSearchHitDTO> searchDishes(Long familyId, String keyword, int limit) {
+        return dishSearcher.search(familyId, keyword, limit).stream()
+            .map(this::toHitDTO)
+            .toList();
+    }
+    
+    private DishSearchHitDTO toHitDTO(DishSearchHit hit) {
+        DishSearchHitDTO dto = new DishSearchHitDTO();
+        dto.setDishId(hit.getDishId());
+        dto.setName(hit.getName());
+        dto.setCookedCount(hit.getCookedCount());
+        dto.setLikeCount(hit.getLikeCount());
+        dto.setScore(hit.getScore());
+        return dto;
+    }
+    
+    private DishDTO toDTO(Dish dish) {
+        DishDTO dto = new DishDTO();
+        dto.setDishId(dish.getId().getValue());
+        dto.setFamilyId(dish.getFamilyId());
+        dto.setName(dish.getName());
+        dto.setCoverUrl(dish.getCoverUrl());
+        dto.setDescription(dish.getDescription());
+        dto.setCalories(dish.getNutrition().getCalories());
+        dto.setCookingTime(dish.getCookingTime());
+        dto.setDifficulty(dish.getDifficulty());
+        dto.setServingSize(dish.getServingSize());
+        // 持久化的计数加上尚未写入的增量
+        Long dishId = dish.getId().getValue();
+        dto.setCookedCount((int) (dish.getCookedCount() + dishCounters.pending(dishId, DishCounterType.COOKED)));
+        dto.setLikeCount((int) (dish.getLikeCount() + dishCounters.pending(dishId, DishCounterType.LIKED)));
+        dto.setAvgRating(dish.getAvgRating());
+        dto.setCategoryId(dish.getCategoryId());
+        return dto;
+    }
+}
@@ -0,0 +1,202 @@
+package com.delicious.moments.application.service;
+
+import com.delicious.moments.domain.dish.event.DishesImportedEvent;
+import com.delicious.moments.domain.dish.repository.DishRepository;
+import com.delicious.moments.domain.dish.valueobject.DishArchive;
+import com.delicious.moments.infrastructure.config.DishExportProperties;
+import com.delicious.moments.interfaces.dto.response.DishArchiveDTO;
+import com.delicious.moments.interfaces.dto.response.DishImportResultDTO;
+import com.delicious.moments.shared.exception.BusinessException;
+import com.delicious.moments.shared.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 菜谱库导入/导出应用服务
+ * <p>
+ * 导出从数据库流式读取，逐个菜谱写出一行 NDJSON，内存占用与菜谱数量无关。
+ * 读取和写出在同一线程交替进行，写出阻塞时读取也停下，整个导出期间占用一个连接和未读完的结果集，
+ * 慢客户端会一直拖住连接；因此按 {@link DishExportProperties} 限制并发导出数和单次导出时长。
+ * 导入逐行解析，每 {@value #IMPORT_CHUNK_SIZE} 个菜谱在一个事务内批量写入，
+ * 失败时之前已提交的分块保留，返回的错误中包含出错的行号。
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(DishExportProperties.class)
+public class DishArchiveApplicationService {
+    
+    static final int IMPORT_CHUNK_SIZE = 200;
+    
+    private final DishRepository dishRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectWriter archiveWriter;
+    private final ObjectReader archiveReader;
+    private final Semaphore exportPermits;
+    private final long exportMaxNanos;
+    
+    public DishArchiveApplicationService(DishRepository dishRepository, ApplicationEventPublisher eventPublisher,
+                                         ObjectMapper objectMapper, DishExportProperties exportProperties) {
+        this.dishRepository = dishRepository;
+        this.eventPublisher = eventPublisher;
+        this.archiveWriter = objectMapper.writerFor(DishArchiveDTO.class);
+        this.archiveReader = objectMapper.readerFor(DishArchiveDTO.class);
+        this.exportPermits = new Semaphore(exportProperties.getMaxConcurrent());
+        this.exportMaxNanos = exportProperties.getMaxDuration().toNanos();
+    }
+    
+    /**
+     * 导出家庭的全部菜谱，每行一个 {@link DishArchiveDTO}
+     * <p>
+     * 并发导出数已满时在写出任何内容之前拒绝；超过最长时间时抛出异常中断响应，释放连接。
+     */
+    public void exportDishes(Long familyId, OutputStream out) {
+        if (!exportPermits.tryAcquire()) {
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "导出任务过多，请稍后重试");
+        }
+        long start = System.nanoTime();
+        int[] count = new int[1];
+        try {
+            dishRepository.forEachArchive(familyId, archive -> {
+                if (System.nanoTime() - start > exportMaxNanos) {
+                    throw new BusinessException(ErrorCode.SYSTEM_ERROR, "导出超时，已导出" + count[0] + "个菜谱");
+                }
+                try {
+                    out.write(archiveWriter.writeValueAsBytes(toDTO(archive)));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+        } finally {
+            exportPermits.release();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        log.info("菜谱导出完成: familyId={}, dishes={}, elapsed={}ms, rate={}/s", familyId, count[0],
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos), perSecond(count[0], elapsedNanos));
+    }
+    
+    /**
+     * 导入 NDJSON 格式的菜谱，分类和标签按名称匹配，不存在的自动创建
+     */
+    public DishImportResultDTO importDishes(Long familyId, Long userId, InputStream in) {
+        long start = System.nanoTime();
+        int dishes = 0;
+        int rows = 0;
+        List<DishArchive> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        try (MappingIterator<DishArchiveDTO> lines = archiveReader.readValues(in)) {
+            while (lines.hasNextValue()) {
+                DishArchiveDTO dto = lines.next();
+                int line = dishes + chunk.size() + 1;
+                if (dto.getName() == null || dto.getName().isBlank()) {
+                    throw new BusinessException(ErrorCode.PARAM_ERROR, "第" + line + "行菜名不能为空");
+                }
+                chunk.add(toArchive(dto));
+                if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                    rows += writeChunk(familyId, userId, chunk);
+                    dishes += chunk.size();
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException | RuntimeJsonMappingException e) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR, "第" + (dishes + chunk.size() + 1) + "行格式错误");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!chunk.isEmpty()) {
+            rows += writeChunk(familyId, userId, chunk);
+            dishes += chunk.size();
+        }
+        
+        long elapsedNanos = System.nanoTime() - start;
+        DishImportResultDTO result = new DishImportResultDTO();
+        result.setDishes(dishes);
+        result.setRows(rows);
+        result.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        result.setRowsPerSecond(perSecond(rows, elapsedNanos));
+        log.info("菜谱导入完成: familyId={}, dishes={}, rows={}, elapsed={}ms, rate={} rows/s",
+            familyId, dishes, rows, result.getElapsedMillis(), result.getRowsPerSecond());
+        return result;
+    }
+    
+    /**
+     * 一个分块一个事务，提交后通知检索索引等重新加载
+     */
+    private int writeChunk(Long familyId, Long userId, List<DishArchive> chunk) {
+        int rows = dishRepository.importArchives(familyId, userId, chunk);
+        eventPublisher.publishEvent(new DishesImportedEvent(familyId, chunk.size()));
+        return rows;
+    }
+    
+    private static long perSecond(long count, long elapsedNanos) {
+        return elapsedNanos == 0 ? count : count * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+    
+    private static DishArchiveDTO toDTO(DishArchive archive) {
+        DishArchiveDTO dto = new DishArchiveDTO();
+        dto.setName(archive.getName());
+        dto.setCoverUrl(archive.getCoverUrl());
+        dto.setDescription(archive.getDescription());
+        dto.setCalories(archive.getCalories());
+        dto.setProtein(archive.getProtein());
+        dto.setFat(archive.getFat());
+        dto.setCarbohydrate(archive.getCarbohydrate());
+        dto.setCookingTime(archive.getCookingTime());
+        dto.setDifficulty(archive.getDifficulty());
+        dto.setServingSize(archive.getServingSize());
+        dto.setCategory(archive.getCategoryName());
+        dto.setTags(archive.getTags());
+        List<DishArchiveDTO.Ingredient> ingredients = new ArrayList<>(archive.getIngredients().size());
+        for (DishArchive.Ingredient ingredient : archive.getIngredients()) {
+            DishArchiveDTO.Ingredient item = new DishArchiveDTO.Ingredient();
+            item.setName(ingredient.getName());
+            item.setQuantity(ingredient.getQuantity());
+            item.setUnit(ingredient.getUnit());
+            item.setCategory(ingredient.getCategory());
+            ingredients.add(item);
+        }
+        dto.setIngredients(ingredients);
+        return dto;
+    }
+    
+    private static DishArchive toArchive(DishArchiveDTO dto) {
+        List<DishArchive.Ingredient> ingredients = new ArrayList<>();
+        if (dto.getIngredients() != null) {
+            for (DishArchiveDTO.Ingredient item : dto.getIngredients()) {
+                if (item != null && item.getName() != null && !item.getName().isBlank()) {
+                    ingredients.add(new DishArchive.Ingredient(item.getName().trim(), item.getQuantity(),
+                        item.getUnit(), item.getCategory()));
+                }
+            }
+        }
+        List<String> tags = new ArrayList<>();
+        if (dto.getTags() != null) {
+            for (String tag : dto.getTags()) {
+                if (tag != null && !tag.isBlank()) {
+                    tags.add(tag.trim());
+                }
+            }
+        }
+        String category = dto.getCategory() == null || dto.getCategory().isBlank() ? null : dto.getCategory().trim();
+        return new DishArchive(dto.getName().trim(), dto.getCoverUrl(), dto.getDescription(), dto.getCalories(),
+            dto.getProtein(), dto.getFat(), dto.getCarbohydrate(), dto.getCookingTime(), dto.getDifficulty(),
+            dto.getServingSize(), category, tags, ingredients);
+    }
+}
@@ -0,0 +1,155 @@
+package com.delicious.moments.application.service;
+
+import com.delicious.moments.domain.family.repository.FamilyMemberRepository;
+import com.delicious.moments.domain.family.valueobject.FamilyMembership;
+import com.delicious.moments.domain.family.valueobject.FamilyRole;
+import com.delicious.moments.infrastructure.config.MembershipCacheProperties;
+import com.delicious.moments.shared.exception.BusinessException;
+import com.delicious.moments.shared.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 家庭成员身份服务
+ * <p>
+ * 按用户缓存其加入的家庭和角色（有序 long 数组 + 角色数组，二分查找），首次访问时加载，
+ * 加入/退出事件提交后失效。用户通常只属于一两个家庭，每次权限检查不查库、不装箱。
+ * 家庭的成员用户ID（有序 long 数组）同样按家庭缓存，用于判断两个用户是否同属一个家庭。
+ */
+@Service
+@EnableConfigurationProperties(MembershipCacheProperties.class)
+public class FamilyMembershipService {
+    
+    private static final FamilyRole[] ROLES = FamilyRole.values();
+    
+    private final FamilyMemberRepository familyMemberRepository;
+    private final Cache<Long, UserFamilies> users;
+    private final Cache<Long, long[]> familyMembers;
+    
+    public FamilyMembershipService(FamilyMemberRepository familyMemberRepository,
+                                   MembershipCacheProperties properties) {
+        this.familyMemberRepository = familyMemberRepository;
+        this.users = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .build();
+        this.familyMembers = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .build();
+    }
+    
+    /**
+     * 用户在家庭中的角色，不是成员时返回 null
+     */
+    public FamilyRole roleOf(Long userId, long familyId) {
+        return users.get(userId, this::load).roleOf(familyId);
+    }
+    
+    /**
+     * 校验用户是家庭成员
+     */
+    public void checkMember(Long userId, long familyId) {
+        if (roleOf(userId, familyId) == null) {
+            throw new BusinessException(ErrorCode.NOT_FAMILY_MEMBER);
+        }
+    }
+    
+    /**
+     * 校验用户是家庭创建者
+     */
+    public void checkCreator(Long userId, long familyId) {
+        FamilyRole role = roleOf(userId, familyId);
+        if (role == null) {
+            throw new BusinessException(ErrorCode.NOT_FAMILY_MEMBER);
+        }
+        if (role != FamilyRole.CREATOR) {
+            throw new BusinessException(ErrorCode.NOT_FAMILY_CREATOR);
+        }
+    }
+    
+    /**
+     * 从候选用户中筛出与用户同属至少一个家庭的用户（含用户本人）
+     * <p>
+     * 用户的家庭列表（已排除解散的家庭）和各家庭的成员都取自缓存，未命中时每个家庭查询一次。
+     */
+    public Set<Long> familyMatesAmong(Long userId, Collection<Long> candidateIds) {
+        long[] familyIds = users.get(userId, this::load).familyIds;
+        long[][] members = new long[familyIds.length][];
+        for (int i = 0; i < familyIds.length; i++) {
+            members[i] = familyMembers.get(familyIds[i], this::loadMembers);
+        }
+        Set<Long> mates = new HashSet<>();
+        for (Long candidateId : candidateIds) {
+            if (candidateId.equals(userId) || isMemberOfAny(members, candidateId)) {
+                mates.add(candidateId);
+            }
+        }
+        return mates;
+    }
+    
+    /**
+     * 失效用户的成员身份和所在家庭的成员列表，下次检查时重新加载
+     */
+    public void evict(Long userId, Long familyId) {
+        users.invalidate(userId);
+        familyMembers.invalidate(familyId);
+    }
+    
+    private static boolean isMemberOfAny(long[][] members, long userId) {
+        for (long[] familyMemberIds : members) {
+            if (Arrays.binarySearch(familyMemberIds, userId) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private long[] loadMembers(Long familyId) {
+        long[] userIds = familyMemberRepository.findUserIdsByFamilyId(familyId).stream()
+            .mapToLong(Long::longValue)
+            .toArray();
+        Arrays.sort(userIds);
+        return userIds;
+    }
+    
+    private UserFamilies load(Long userId) {
+        List<FamilyMembership> memberships = familyMemberRepository.findByUserId(userId);
+        FamilyMembership[] sorted = memberships.toArray(new FamilyMembership[0]);
+        Arrays.sort(sorted, (a, b) -> Long.compare(a.getFamilyId(), b.getFamilyId()));
+        long[] familyIds = new long[sorted.length];
+        byte[] roles = new byte[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            familyIds[i] = sorted[i].getFamilyId();
+            roles[i] = (byte) sorted[i].getRole().ordinal();
+        }
+        return new UserFamilies(familyIds, roles);
+    }
+    
+    /**
+     * 单个用户的家庭列表（不可变）
+     */
+    private static final class UserFamilies {
+        
+        private final long[] familyIds;
+        private final byte[] roles;
+        
+        UserFamilies(long[] familyIds, byte[] roles) {
+            this.familyIds = familyIds;
+            this.roles = roles;
+        }
+        
+        FamilyRole roleOf(long familyId) {
+            int i = Arrays.binarySearch(familyIds, familyId);
+            return i < 0 ? null : ROLES[roles[i]];
+        }
+    }
+}
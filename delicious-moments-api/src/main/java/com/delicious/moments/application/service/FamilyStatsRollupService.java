@@ -0,0 +1,354 @@
+package com.delicious.moments.application.service;
+
+import com.delicious.moments.domain.menu.service.MenuNutritionTable;
+import com.delicious.moments.domain.menu.valueobject.NutritionTotals;
+import com.delicious.moments.domain.stats.aggregate.FamilyStatsSnapshot;
+import com.delicious.moments.domain.stats.repository.FamilyStatsRepository;
+import com.delicious.moments.domain.stats.service.FamilyStatsAccumulator;
+import com.delicious.moments.domain.stats.valueobject.CookingFact;
+import com.delicious.moments.domain.stats.valueobject.PeriodType;
+import com.delicious.moments.infrastructure.config.StatsRollupProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 家庭统计汇总服务
+ * <p>
+ * 增量模式按记录ID顺序消费新的烹饪记录，把计数增量累加到日计数表，
+ * 再由受影响日期所在的日/周/月范围内的日计数重新汇总出快照，不回扫烹饪记录。
+ * 重建模式按家庭并行处理，每个家庭流式读取全部记录，在内存中得到日累加器后合并出周/月快照。
+ * 快照的平均卡路里取周期内菜单计划的日均卡路里，每个家庭一次汇总覆盖其全部受影响周期的营养表；
+ * 菜单计划变更提交后记下变更的家庭和日期，下一轮汇总时重新计算所在周期已有快照的平均卡路里。
+ * <p>
+ * 多实例部署时，每批增量汇总在事务内锁定进度行（FOR UPDATE SKIP LOCKED），重建在整个过程中持有该行锁，
+ * 同一时刻只有一个实例在推进统计。进度只推进到提交延迟窗口之前的记录，晚提交的记录不会被跳过。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@EnableConfigurationProperties(StatsRollupProperties.class)
+public class FamilyStatsRollupService {
+    
+    /**
+     * 增量汇总进度：已计入统计的最大烹饪记录ID
+     */
+    static final String ROLLUP_CHECKPOINT = "family_stats";
+    
+    /**
+     * 重建进度：大于0表示有未完成的重建，值为重建截止的记录ID
+     */
+    static final String BACKFILL_CHECKPOINT = "family_stats_backfill";
+    
+    private final FamilyStatsRepository statsRepository;
+    private final MenuNutritionService menuNutritionService;
+    private final StatsRollupProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    
+    private final ReentrantLock rollupLock = new ReentrantLock();
+    /**
+     * 菜单计划有变更、平均卡路里待重新计算的家庭日期
+     */
+    private final Set<FamilyDay> planChanges = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService scheduler;
+    
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "family-stats-rollup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (properties.isBackfillOnStartup()) {
+            scheduler.execute(this::backfillQuietly);
+        }
+        long intervalMillis = properties.getPollInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::runQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("家庭统计汇总已启用: batchSize={}, pollInterval={}, backfillOnStartup={}",
+            properties.getBatchSize(), properties.getPollInterval(), properties.isBackfillOnStartup());
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+    }
+    
+    /**
+     * 增量汇总全部新的烹饪记录，返回处理的记录数
+     */
+    public int rollup() {
+        rollupLock.lock();
+        try {
+            long settledId = statsRepository.findSettledRecordId(properties.getCommitLag());
+            int processed = 0;
+            int batch;
+            do {
+                Integer count = transactionTemplate.execute(status -> rollupBatch(settledId));
+                batch = count == null ? 0 : count;
+                processed += batch;
+            } while (batch > 0);
+            refreshPlannedCalories();
+            return processed;
+        } finally {
+            rollupLock.unlock();
+        }
+    }
+    
+    /**
+     * 重建全部家庭的历史统计，返回处理的家庭数
+     */
+    public int backfill() {
+        rollupLock.lock();
+        try {
+            Integer families = transactionTemplate.execute(status -> {
+                // 整个重建期间持有增量进度行锁，其他实例的增量汇总和重建都会跳过
+                if (statsRepository.lockCheckpoint(ROLLUP_CHECKPOINT) == null) {
+                    log.info("其他实例正在汇总家庭统计，跳过本次重建");
+                    return 0;
+                }
+                return rebuildAll();
+            });
+            return families == null ? 0 : families;
+        } finally {
+            rollupLock.unlock();
+        }
+    }
+    
+    /**
+     * 记录菜单计划变更（计划版本号已变化），由下一轮汇总重新计算平均卡路里；未启用汇总时忽略
+     */
+    public void markPlanChanged(Long familyId, LocalDate menuDate) {
+        if (properties.isEnabled()) {
+            planChanges.add(new FamilyDay(familyId, menuDate));
+        }
+    }
+    
+    private int rebuildAll() {
+        long maxRecordId = statsRepository.findSettledRecordId(properties.getCommitLag());
+        // 先在独立事务中提交重建截止点：中途失败时，已重建的家庭包含截止点前的全部记录，不能再按旧进度增量累加
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        requiresNew.executeWithoutResult(status -> statsRepository.saveCheckpoint(BACKFILL_CHECKPOINT, maxRecordId));
+        List<Long> familyIds = statsRepository.findFamilyIdsWithRecords(maxRecordId);
+        
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(properties.getBackfillParallelism(), r -> {
+            Thread thread = new Thread(r, "family-stats-backfill-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture<?>[] tasks = familyIds.stream()
+                .map(familyId -> CompletableFuture.runAsync(() -> rebuildFamily(familyId, maxRecordId), pool))
+                .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(tasks).join();
+        } finally {
+            pool.shutdown();
+        }
+        
+        statsRepository.saveCheckpoint(ROLLUP_CHECKPOINT, maxRecordId);
+        statsRepository.saveCheckpoint(BACKFILL_CHECKPOINT, 0);
+        log.info("家庭统计重建完成: families={}, maxRecordId={}", familyIds.size(), maxRecordId);
+        return familyIds.size();
+    }
+    
+    private void runQuietly() {
+        try {
+            if (statsRepository.loadCheckpoint(BACKFILL_CHECKPOINT) > 0) {
+                log.warn("检测到未完成的家庭统计重建，重新执行");
+                backfill();
+                return;
+            }
+            int processed = rollup();
+            if (processed > 0) {
+                log.debug("家庭统计增量汇总: records={}", processed);
+            }
+        } catch (RuntimeException e) {
+            log.error("家庭统计汇总失败，待下次重试", e);
+        }
+    }
+    
+    private void backfillQuietly() {
+        try {
+            backfill();
+        } catch (RuntimeException e) {
+            log.error("家庭统计重建失败，待下次重试", e);
+        }
+    }
+    
+    private int rollupBatch(long settledId) {
+        Long checkpoint = statsRepository.lockCheckpoint(ROLLUP_CHECKPOINT);
+        if (checkpoint == null || statsRepository.loadCheckpoint(BACKFILL_CHECKPOINT) > 0) {
+            // 其他实例正在汇总或重建
+            return 0;
+        }
+        List<CookingFact> facts = statsRepository.findFactsAfter(checkpoint, settledId, properties.getBatchSize());
+        if (facts.isEmpty()) {
+            return 0;
+        }
+        
+        Map<FamilyDay, FamilyStatsAccumulator> deltas = new HashMap<>();
+        for (CookingFact fact : facts) {
+            deltas.computeIfAbsent(new FamilyDay(fact.getFamilyId(), fact.getCookingDate()),
+                key -> new FamilyStatsAccumulator()).add(fact);
+        }
+        
+        Set<FamilyPeriod> touched = new LinkedHashSet<>();
+        deltas.forEach((day, delta) -> {
+            statsRepository.addDailyCounters(day.familyId(), day.date(), delta);
+            for (PeriodType periodType : PeriodType.values()) {
+                touched.add(new FamilyPeriod(day.familyId(), periodType, periodType.startOf(day.date())));
+            }
+        });
+        
+        Map<Long, List<FamilyStatsSnapshot>> snapshotsByFamily = new HashMap<>();
+        for (FamilyPeriod period : touched) {
+            FamilyStatsAccumulator totals = statsRepository.sumDailyCounters(
+                period.familyId(), period.start(), period.periodType().endOf(period.start()));
+            snapshotsByFamily.computeIfAbsent(period.familyId(), k -> new ArrayList<>())
+                .add(totals.toSnapshot(period.familyId(), period.periodType(), period.start()));
+        }
+        List<FamilyStatsSnapshot> snapshots = new ArrayList<>(touched.size());
+        snapshotsByFamily.forEach((familyId, familySnapshots) -> {
+            applyPlannedCalories(familyId, familySnapshots);
+            snapshots.addAll(familySnapshots);
+        });
+        statsRepository.saveSnapshots(snapshots);
+        statsRepository.saveCheckpoint(ROLLUP_CHECKPOINT, facts.get(facts.size() - 1).getRecordId());
+        return facts.size();
+    }
+    
+    private void rebuildFamily(Long familyId, long maxRecordId) {
+        Map<LocalDate, FamilyStatsAccumulator> days = new TreeMap<>();
+        statsRepository.forEachFamilyFact(familyId, maxRecordId, fact ->
+            days.computeIfAbsent(fact.getCookingDate(), date -> new FamilyStatsAccumulator()).add(fact));
+        
+        // 周/月累加器由日累加器合并得到
+        Map<PeriodType, Map<LocalDate, FamilyStatsAccumulator>> rollups = new EnumMap<>(PeriodType.class);
+        rollups.put(PeriodType.WEEKLY, new TreeMap<>());
+        rollups.put(PeriodType.MONTHLY, new TreeMap<>());
+        List<FamilyStatsSnapshot> snapshots = new ArrayList<>();
+        days.forEach((date, day) -> {
+            snapshots.add(day.toSnapshot(familyId, PeriodType.DAILY, date));
+            rollups.forEach((periodType, periods) -> periods
+                .computeIfAbsent(periodType.startOf(date), start -> new FamilyStatsAccumulator())
+                .merge(day));
+        });
+        rollups.forEach((periodType, periods) -> periods.forEach((start, totals) ->
+            snapshots.add(totals.toSnapshot(familyId, periodType, start))));
+        applyPlannedCalories(familyId, snapshots);
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            statsRepository.deleteFamilyStats(familyId);
+            days.forEach((date, day) -> statsRepository.addDailyCounters(familyId, date, day));
+            statsRepository.saveSnapshots(snapshots);
+        });
+        log.debug("家庭统计重建: familyId={}, days={}", familyId, days.size());
+    }
+    
+    /**
+     * 重新计算菜单计划变更日期所在日/周/月快照的平均卡路里
+     * <p>
+     * 与增量汇总持有同一进度行锁，其他实例的汇总不会用变更前读到的营养表覆盖结果。
+     * 取到锁后先移出本轮处理的变更再读营养表，之后的变更留待下一轮；失败时放回。
+     */
+    private void refreshPlannedCalories() {
+        if (planChanges.isEmpty()) {
+            return;
+        }
+        List<FamilyDay> changes = new ArrayList<>(planChanges);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (statsRepository.lockCheckpoint(ROLLUP_CHECKPOINT) == null
+                    || statsRepository.loadCheckpoint(BACKFILL_CHECKPOINT) > 0) {
+                    return;
+                }
+                changes.forEach(planChanges::remove);
+                Map<Long, Set<FamilyPeriod>> periodsByFamily = new HashMap<>();
+                for (FamilyDay change : changes) {
+                    Set<FamilyPeriod> periods = periodsByFamily.computeIfAbsent(change.familyId(),
+                        k -> new LinkedHashSet<>());
+                    for (PeriodType periodType : PeriodType.values()) {
+                        periods.add(new FamilyPeriod(change.familyId(), periodType, periodType.startOf(change.date())));
+                    }
+                }
+                periodsByFamily.forEach((familyId, periods) -> {
+                    List<FamilyStatsSnapshot> snapshots = new ArrayList<>(periods.size());
+                    for (FamilyPeriod period : periods) {
+                        FamilyStatsSnapshot snapshot = new FamilyStatsSnapshot();
+                        snapshot.setFamilyId(familyId);
+                        snapshot.setPeriodType(period.periodType());
+                        snapshot.setSnapshotDate(period.start());
+                        snapshots.add(snapshot);
+                    }
+                    applyPlannedCalories(familyId, snapshots);
+                    statsRepository.updateAvgCalories(snapshots);
+                });
+            });
+        } catch (RuntimeException e) {
+            planChanges.addAll(changes);
+            throw e;
+        }
+    }
+    
+    /**
+     * 用周期内菜单计划的日均卡路里填充快照的平均卡路里
+     */
+    private void applyPlannedCalories(Long familyId, List<FamilyStatsSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        LocalDate start = snapshots.get(0).getSnapshotDate();
+        LocalDate end = start;
+        for (FamilyStatsSnapshot snapshot : snapshots) {
+            LocalDate periodStart = snapshot.getSnapshotDate();
+            LocalDate periodEnd = snapshot.getPeriodType().endOf(periodStart);
+            start = periodStart.isBefore(start) ? periodStart : start;
+            end = periodEnd.isAfter(end) ? periodEnd : end;
+        }
+        MenuNutritionTable nutrition = menuNutritionService.summarize(familyId, start, end);
+        for (FamilyStatsSnapshot snapshot : snapshots) {
+            NutritionTotals average = nutrition.dailyAverage(snapshot.getSnapshotDate(),
+                snapshot.getPeriodType().endOf(snapshot.getSnapshotDate()));
+            snapshot.setAvgCalories(average == null ? null
+                : BigDecimal.valueOf(average.getCalories()).setScale(2, RoundingMode.HALF_UP));
+        }
+    }
+    
+    private record FamilyDay(Long familyId, LocalDate date) {
+    }
+    
+    private record FamilyPeriod(Long familyId, PeriodType periodType, LocalDate start) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.delicious.moments.application.service;
+
+import com.delicious.moments.domain.file.service.ImageStorage;
+import com.delicious.moments.domain.file.valueobject.ImageFile;
+import com.delicious.moments.domain.file.valueobject.StoredImage;
+import com.delicious.moments.infrastructure.config.FileStorageProperties;
+import com.delicious.moments.interfaces.dto.response.ImageUploadDTO;
+import com.delicious.moments.shared.exception.BusinessException;
+import com.delicious.moments.shared.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 文件应用服务
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileApplicationService {
+    
+    private final ImageStorage imageStorage;
+    private final FileStorageProperties properties;
+    
+    /**
+     * 上传图片，返回可直接写入菜谱封面或用户头像的地址
+     */
+    public ImageUploadDTO uploadImage(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR, "文件不能为空");
+        }
+        // multipart 内容已由容器写入临时文件，这里读取的是文件流
+        try (InputStream in = file.getInputStream()) {
+            return toDTO(imageStorage.store(in));
+        } catch (IOException e) {
+            log.error("图片存储失败: name={}, size={}", file.getOriginalFilename(), file.getSize(), e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+    
+    /**
+     * 读取图片，width 为配置的缩略图宽度之一时返回缩略图
+     */
+    public Optional<ImageFile> openImage(String key, Integer width) {
+        return imageStorage.open(key, width);
+    }
+    
+    private ImageUploadDTO toDTO(StoredImage image) {
+        String url = properties.getBaseUrl() + "/" + image.getKey();
+        ImageUploadDTO dto = new ImageUploadDTO();
+        dto.setUrl(url);
+        dto.setKey(image.getKey());
+        dto.setContentType(image.getContentType());
+        dto.setSize(image.getSize());
+        dto.setDeduplicated(image.isDeduplicated());
+        Map<Integer, String> thumbnails = new LinkedHashMap<>();
+        for (Integer width : imageStorage.thumbnailWidths()) {
+            thumbnails.put(width, url + "?w=" + width);
+        }
+        dto.setThumbnails(thumbnails);
+        return dto;
+    }
+}
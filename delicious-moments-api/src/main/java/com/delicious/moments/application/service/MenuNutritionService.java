@@ -0,0 +1,158 @@
+package com.delicious.moments.application.service;
+
+import com.delicious.moments.domain.menu.repository.MenuNutritionRepository;
+import com.delicious.moments.domain.menu.service.MenuNutritionTable;
+import com.delicious.moments.domain.menu.valueobject.MenuItemNutrition;
+import com.delicious.moments.domain.menu.valueobject.MenuPlanVersion;
+import com.delicious.moments.domain.menu.valueobject.NutritionTotals;
+import com.delicious.moments.infrastructure.config.NutritionCacheProperties;
+import com.delicious.moments.interfaces.dto.response.DailyNutritionDTO;
+import com.delicious.moments.interfaces.dto.response.MenuNutritionDTO;
+import com.delicious.moments.interfaces.dto.response.NutritionDTO;
+import com.delicious.moments.shared.exception.BusinessException;
+import com.delicious.moments.shared.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 菜单营养应用服务
+ * <p>
+ * 按（菜单计划, 版本号）缓存单个计划按营养素 × 餐次的合计。查询日期范围时先取范围内计划的版本号，
+ * 只为未命中的计划一次查询菜单项营养，再把各计划的合计拼入列式营养表，周视图只扫描一遍。
+ * 菜单项增删会递增计划版本号；菜谱营养变更不改变计划版本，由菜谱事件失效整个家庭。
+ */
+@Service
+@EnableConfigurationProperties(NutritionCacheProperties.class)
+public class MenuNutritionService {
+    
+    /**
+     * 接口单次查询的最大天数
+     */
+    private static final int MAX_RANGE_DAYS = 92;
+    
+    private final MenuNutritionRepository menuNutritionRepository;
+    private final Cache<PlanVersionKey, float[]> planTotals;
+    
+    public MenuNutritionService(MenuNutritionRepository menuNutritionRepository,
+                                NutritionCacheProperties properties) {
+        this.menuNutritionRepository = menuNutritionRepository;
+        this.planTotals = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .build();
+    }
+    
+    /**
+     * 汇总家庭日期范围内（含两端）的菜单营养
+     */
+    public MenuNutritionTable summarize(Long familyId, LocalDate startDate, LocalDate endDate) {
+        MenuNutritionTable table = new MenuNutritionTable(startDate, endDate);
+        List<MenuPlanVersion> plans = menuNutritionRepository.findPlanVersions(familyId, startDate, endDate);
+        List<MenuPlanVersion> misses = new ArrayList<>();
+        for (MenuPlanVersion plan : plans) {
+            float[] totals = planTotals.getIfPresent(keyOf(familyId, plan));
+            if (totals == null) {
+                misses.add(plan);
+            } else {
+                table.addPlan(plan.getMenuDate(), totals);
+            }
+        }
+        if (!misses.isEmpty()) {
+            Map<Long, List<MenuItemNutrition>> itemsByPlan = new HashMap<>();
+            for (MenuItemNutrition item : menuNutritionRepository.findItemNutrition(
+                    misses.stream().map(MenuPlanVersion::getMenuPlanId).toList())) {
+                itemsByPlan.computeIfAbsent(item.getMenuPlanId(), k -> new ArrayList<>()).add(item);
+            }
+            for (MenuPlanVersion plan : misses) {
+                float[] totals = MenuNutritionTable.planTotals(itemsByPlan.getOrDefault(plan.getMenuPlanId(), List.of()));
+                planTotals.put(keyOf(familyId, plan), totals);
+                table.addPlan(plan.getMenuDate(), totals);
+            }
+        }
+        return table;
+    }
+    
+    /**
+     * 家庭日期范围内逐日、逐餐的营养合计
+     */
+    public MenuNutritionDTO getNutrition(Long familyId, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR, "结束日期不能早于开始日期");
+        }
+        if (endDate.toEpochDay() - startDate.toEpochDay() >= MAX_RANGE_DAYS) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR, "日期范围不能超过" + MAX_RANGE_DAYS + "天");
+        }
+        MenuNutritionTable table = summarize(familyId, startDate, endDate);
+        List<DailyNutritionDTO> days = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            days.add(toDailyDTO(table, date));
+        }
+        MenuNutritionDTO dto = new MenuNutritionDTO();
+        dto.setStartDate(startDate);
+        dto.setEndDate(endDate);
+        dto.setPlannedDays(table.plannedDays(startDate, endDate));
+        dto.setDays(days);
+        dto.setTotal(toDTO(table.total(startDate, endDate)));
+        NutritionTotals average = table.dailyAverage(startDate, endDate);
+        dto.setDailyAverage(average == null ? null : toDTO(average));
+        return dto;
+    }
+    
+    /**
+     * 家庭某天按餐次的营养合计
+     */
+    public DailyNutritionDTO getDailyNutrition(Long familyId, LocalDate date) {
+        return toDailyDTO(summarize(familyId, date, date), date);
+    }
+    
+    /**
+     * 失效家庭的全部计划营养合计
+     */
+    public void evictFamily(Long familyId) {
+        planTotals.asMap().keySet().removeIf(key -> key.familyId().equals(familyId));
+    }
+    
+    private static DailyNutritionDTO toDailyDTO(MenuNutritionTable table, LocalDate date) {
+        Map<String, NutritionDTO> meals = new LinkedHashMap<>();
+        for (String mealTime : MenuNutritionTable.MEALS) {
+            meals.put(mealTime, toDTO(table.meal(date, mealTime)));
+        }
+        DailyNutritionDTO dto = new DailyNutritionDTO();
+        dto.setDate(date);
+        dto.setPlanned(table.isPlanned(date));
+        dto.setMeals(meals);
+        dto.setTotal(toDTO(table.day(date)));
+        return dto;
+    }
+    
+    private static NutritionDTO toDTO(NutritionTotals totals) {
+        NutritionDTO dto = new NutritionDTO();
+        dto.setCalories(round(totals.getCalories()));
+        dto.setProtein(round(totals.getProtein()));
+        dto.setFat(round(totals.getFat()));
+        dto.setCarbohydrate(round(totals.getCarbohydrate()));
+        return dto;
+    }
+    
+    private static BigDecimal round(double value) {
+        return BigDecimal.valueOf(value).setScale(1, RoundingMode.HALF_UP);
+    }
+    
+    private static PlanVersionKey keyOf(Long familyId, MenuPlanVersion plan) {
+        return new PlanVersionKey(familyId, plan.getMenuPlanId(), plan.getVersion());
+    }
+    
+    private record PlanVersionKey(Long familyId, Long menuPlanId, Integer version) {
+    }
+}
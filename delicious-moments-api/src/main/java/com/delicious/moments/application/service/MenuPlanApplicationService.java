@@ -0,0 +1,144 @@
+package com.delicious.moments.application.service;
+
+import com.delicious.moments.domain.menu.repository.MenuPlanViewRepository;
+import com.delicious.moments.domain.menu.valueobject.MenuItemView;
+import com.delicious.moments.domain.menu.valueobject.MenuPlanView;
+import com.delicious.moments.infrastructure.config.MenuPlanCacheProperties;
+import com.delicious.moments.interfaces.dto.response.MenuItemDTO;
+import com.delicious.moments.interfaces.dto.response.MenuPlanDTO;
+import com.delicious.moments.interfaces.dto.response.RawJson;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 菜单计划应用服务
+ * <p>
+ * 首页按（家庭, 日期）读取菜单计划，读模型一次联表查询组装，序列化后的 JSON 字节按（家庭, 日期）缓存，
+ * 命中时直接返回字节，不再经过 Jackson。菜单项增删后按日期失效，菜谱变更后失效整个家庭。
+ * 营养合计由 {@link MenuNutritionService} 按计划版本计算，随计划 JSON 一起缓存。
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(MenuPlanCacheProperties.class)
+public class MenuPlanApplicationService {
+    
+    private static final List<String> MEAL_ORDER = List.of("breakfast", "lunch", "dinner");
+    
+    private final MenuPlanViewRepository menuPlanViewRepository;
+    private final MenuNutritionService menuNutritionService;
+    private final ObjectWriter planWriter;
+    private final Cache<PlanKey, RawJson> plans;
+    
+    public MenuPlanApplicationService(MenuPlanViewRepository menuPlanViewRepository,
+                                      MenuNutritionService menuNutritionService,
+                                      ObjectMapper objectMapper,
+                                      MenuPlanCacheProperties properties) {
+        this.menuPlanViewRepository = menuPlanViewRepository;
+        this.menuNutritionService = menuNutritionService;
+        this.planWriter = objectMapper.writerFor(MenuPlanDTO.class);
+        this.plans = Caffeine.newBuilder()
+            .maximumSize(properties.isEnabled() ? properties.getMaximumSize() : 0)
+            .expireAfterWrite(properties.getTtl())
+            .build();
+    }
+    
+    /**
+     * 获取家庭某天的菜单计划（已序列化的 JSON），当天没有计划时返回空计划
+     */
+    public RawJson getMenuPlanJson(Long familyId, LocalDate menuDate) {
+        return plans.get(new PlanKey(familyId, menuDate), this::load);
+    }
+    
+    /**
+     * 失效家庭某天的菜单计划
+     */
+    public void evict(Long familyId, LocalDate menuDate) {
+        plans.invalidate(new PlanKey(familyId, menuDate));
+    }
+    
+    /**
+     * 失效家庭的全部菜单计划
+     */
+    public void evictFamily(Long familyId) {
+        plans.asMap().keySet().removeIf(key -> key.familyId().equals(familyId));
+    }
+    
+    private RawJson load(PlanKey key) {
+        MenuPlanDTO dto = menuPlanViewRepository.findByFamilyAndDate(key.familyId(), key.menuDate())
+            .map(this::toDTO)
+            .orElseGet(() -> emptyPlan(key));
+        try {
+            return RawJson.of(planWriter.writeValueAsBytes(dto));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("序列化菜单计划失败: " + key, e);
+        }
+    }
+    
+    private MenuPlanDTO toDTO(MenuPlanView view) {
+        MenuPlanDTO dto = new MenuPlanDTO();
+        dto.setMenuPlanId(view.getMenuPlanId());
+        dto.setFamilyId(view.getFamilyId());
+        dto.setMenuDate(view.getMenuDate());
+        dto.setStatus(view.getStatus());
+        dto.setTotalCalories(view.getTotalCalories());
+        dto.setTotalItems(view.getTotalItems());
+        
+        Map<String, List<MenuItemDTO>> meals = emptyMeals();
+        for (MenuItemView item : view.getItems()) {
+            meals.computeIfAbsent(item.getMealTime(), k -> new ArrayList<>()).add(toItemDTO(item));
+        }
+        dto.setMeals(meals);
+        dto.setNutrition(menuNutritionService.getDailyNutrition(view.getFamilyId(), view.getMenuDate()));
+        return dto;
+    }
+    
+    private MenuPlanDTO emptyPlan(PlanKey key) {
+        MenuPlanDTO dto = new MenuPlanDTO();
+        dto.setFamilyId(key.familyId());
+        dto.setMenuDate(key.menuDate());
+        dto.setTotalCalories(0);
+        dto.setTotalItems(0);
+        dto.setMeals(emptyMeals());
+        dto.setNutrition(menuNutritionService.getDailyNutrition(key.familyId(), key.menuDate()));
+        return dto;
+    }
+    
+    private static Map<String, List<MenuItemDTO>> emptyMeals() {
+        Map<String, List<MenuItemDTO>> meals = new LinkedHashMap<>();
+        for (String mealTime : MEAL_ORDER) {
+            meals.put(mealTime, new ArrayList<>());
+        }
+        return meals;
+    }
+    
+    private MenuItemDTO toItemDTO(MenuItemView item) {
+        MenuItemDTO dto = new MenuItemDTO();
+        dto.setMenuItemId(item.getMenuItemId());
+        dto.setStatus(item.getStatus());
+        dto.setNotes(item.getNotes());
+        dto.setDishId(item.getDishId());
+        dto.setDishName(item.getDishName());
+        dto.setCoverUrl(item.getCoverUrl());
+        dto.setCalories(item.getCalories());
+        dto.setCookingTime(item.getCookingTime());
+        dto.setSelectorId(item.getSelectorId());
+        dto.setSelectorNickname(item.getSelectorNickname());
+        dto.setSelectorAvatarUrl(item.getSelectorAvatarUrl());
+        return dto;
+    }
+    
+    private record PlanKey(Long familyId, LocalDate menuDate) {
+    }
+}
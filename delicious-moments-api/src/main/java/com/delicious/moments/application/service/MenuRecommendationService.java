@@ -0,0 +1,175 @@
+package com.delicious.moments.application.service;
+
+import com.delicious.moments.domain.menu.repository.RecommendationRepository;
+import com.delicious.moments.domain.menu.service.FamilyDishRecommender;
+import com.delicious.moments.domain.menu.valueobject.CookingEvent;
+import com.delicious.moments.domain.menu.valueobject.DishFeature;
+import com.delicious.moments.domain.menu.valueobject.DishRecommendation;
+import com.delicious.moments.infrastructure.config.RecommendationProperties;
+import com.delicious.moments.interfaces.dto.response.DishRecommendationDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 菜单推荐应用服务
+ * <p>
+ * 每个家庭的推荐模型在首次请求时流式加载（菜谱特征 + 全部烹饪历史）并缓存，推荐只在内存中计算。
+ * 后台按记录ID顺序拉取新的烹饪记录，增量计入已加载的模型；菜谱变更后整个家庭的模型失效重建。
+ * <p>
+ * 自增ID分配顺序与提交顺序不一致，拉取游标只推进到提交延迟窗口之前的记录（见 {@code commit-lag}），
+ * 窗口内的记录每次拉取都重读，由模型按记录ID去重。应用启动完成后才开始拉取，游标在首次使用时初始化。
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(RecommendationProperties.class)
+public class MenuRecommendationService {
+    
+    private final RecommendationRepository recommendationRepository;
+    private final RecommendationProperties properties;
+    private final Cache<Long, FamilyDishRecommender> models;
+    
+    /**
+     * 拉取游标：不超过此ID的记录都已提交并送达，未初始化时为 -1；只由拉取线程推进
+     */
+    private volatile long pollCursor = -1;
+    private ScheduledExecutorService poller;
+    
+    public MenuRecommendationService(RecommendationRepository recommendationRepository,
+                                     RecommendationProperties properties) {
+        this.recommendationRepository = recommendationRepository;
+        this.properties = properties;
+        this.models = Caffeine.newBuilder()
+            .maximumSize(properties.isEnabled() ? properties.getMaximumSize() : 0)
+            .expireAfterWrite(properties.getTtl())
+            .build();
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "menu-recommend-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.getPollInterval().toMillis();
+        poller.scheduleWithFixedDelay(this::pollQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+    
+    /**
+     * 推荐家庭某天某餐的菜
+     *
+     * @param mealTime      餐次，为空时不考虑餐次
+     * @param selectorId    点菜人，为空时不考虑成员偏好
+     * @param calorieTarget 每道菜的目标卡路里，为空时不考虑
+     */
+    public List<DishRecommendationDTO> recommend(Long familyId, LocalDate date, String mealTime,
+                                                 Long selectorId, Integer calorieTarget, int limit) {
+        FamilyDishRecommender model = models.get(familyId, this::load);
+        return model.recommend(date, mealTime, selectorId, calorieTarget, limit).stream()
+            .map(this::toDTO)
+            .toList();
+    }
+    
+    /**
+     * 失效家庭的推荐模型
+     */
+    public void evictFamily(Long familyId) {
+        models.invalidate(familyId);
+    }
+    
+    private FamilyDishRecommender load(Long familyId) {
+        long start = System.nanoTime();
+        // 先取游标作为去重下限：加载读到的大于游标的记录，拉取线程还会再送达一次
+        long dedupFloor = properties.isEnabled() ? ensureCursor() : Long.MAX_VALUE;
+        List<DishFeature> features = new ArrayList<>();
+        recommendationRepository.forEachDishFeature(familyId, features::add);
+        FamilyDishRecommender model = new FamilyDishRecommender(features, dedupFloor);
+        recommendationRepository.forEachCookingEvent(familyId, model::addCooking);
+        log.debug("家庭推荐模型加载: familyId={}, dishes={}, elapsed={}ms",
+            familyId, model.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return model;
+    }
+    
+    /**
+     * 拉取新的烹饪记录并计入已加载的模型，返回处理的记录数
+     */
+    int poll() {
+        long cursor = ensureCursor();
+        // 先取已稳定的ID再读记录：读到的批次一定覆盖到稳定ID
+        long settledId = recommendationRepository.findSettledCookingRecordId(properties.getCommitLag());
+        int processed = 0;
+        long afterRecordId = cursor;
+        List<CookingEvent> events;
+        do {
+            events = recommendationRepository.findCookingEventsAfter(afterRecordId, properties.getBatchSize());
+            for (CookingEvent event : events) {
+                // 模型正在加载时 computeIfPresent 等待加载完成，重复送达的记录由模型去重
+                models.asMap().computeIfPresent(event.getFamilyId(), (familyId, model) -> {
+                    model.addCooking(event);
+                    return model;
+                });
+                afterRecordId = event.getRecordId();
+            }
+            processed += events.size();
+        } while (events.size() == properties.getBatchSize());
+        if (settledId > cursor) {
+            pollCursor = settledId;
+            models.asMap().values().forEach(model -> model.advanceDedupFloor(settledId));
+        }
+        return processed;
+    }
+    
+    private long ensureCursor() {
+        long cursor = pollCursor;
+        if (cursor >= 0) {
+            return cursor;
+        }
+        synchronized (this) {
+            if (pollCursor < 0) {
+                pollCursor = recommendationRepository.findSettledCookingRecordId(properties.getCommitLag());
+            }
+            return pollCursor;
+        }
+    }
+    
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.error("拉取烹饪记录失败，待下次重试: cursor={}", pollCursor, e);
+        }
+    }
+    
+    private DishRecommendationDTO toDTO(DishRecommendation recommendation) {
+        DishRecommendationDTO dto = new DishRecommendationDTO();
+        dto.setDishId(recommendation.getDishId());
+        dto.setName(recommendation.getName());
+        dto.setCalories(recommendation.getCalories());
+        dto.setScore(recommendation.getScore());
+        dto.setLastCookedDate(recommendation.getLastCookedDate());
+        return dto;
+    }
+}
@@ -0,0 +1,150 @@
+package com.delicious.moments.application.service;
+
+import com.delicious.moments.domain.shopping.aggregate.ShoppingList;
+import com.delicious.moments.domain.shopping.entity.ShoppingItem;
+import com.delicious.moments.domain.shopping.repository.ShoppingListRepository;
+import com.delicious.moments.domain.shopping.service.IngredientAggregator;
+import com.delicious.moments.domain.shopping.valueobject.IngredientCategory;
+import com.delicious.moments.domain.shopping.valueobject.IngredientLine;
+import com.delicious.moments.domain.shopping.valueobject.ShoppingListId;
+import com.delicious.moments.interfaces.dto.response.ShoppingItemDTO;
+import com.delicious.moments.interfaces.dto.response.ShoppingListDTO;
+import com.delicious.moments.shared.exception.BusinessException;
+import com.delicious.moments.shared.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 购物清单应用服务
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShoppingListApplicationService {
+    
+    private final ShoppingListRepository shoppingListRepository;
+    private final FamilyMembershipService familyMembershipService;
+    
+    /**
+     * 根据家庭在日期范围内的菜单生成购物清单
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public ShoppingListDTO generate(Long userId, Long familyId, LocalDate startDate, LocalDate endDate) {
+        familyMembershipService.checkMember(userId, familyId);
+        if (startDate.isAfter(endDate)) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR, "开始日期不能晚于结束日期");
+        }
+        
+        IngredientAggregator aggregator = new IngredientAggregator();
+        shoppingListRepository.forEachMenuIngredient(familyId, startDate, endDate, aggregator::add);
+        
+        ShoppingList shoppingList = ShoppingList.generate(familyId, startDate, endDate, aggregator.toItems());
+        shoppingListRepository.save(shoppingList);
+        
+        log.info("生成购物清单: familyId={}, listId={}, lines={}, items={}",
+            familyId, shoppingList.getId(), aggregator.getLineCount(), aggregator.size());
+        return toDTO(shoppingList);
+    }
+    
+    /**
+     * 获取购物清单，只允许清单所属家庭的成员查看
+     */
+    public ShoppingListDTO getShoppingList(Long userId, Long shoppingListId) {
+        ShoppingList shoppingList = shoppingListRepository.findById(ShoppingListId.of(shoppingListId))
+            .orElseThrow(() -> new BusinessException(ErrorCode.SHOPPING_LIST_NOT_FOUND));
+        familyMembershipService.checkMember(userId, shoppingList.getFamilyId());
+        return toDTO(shoppingList);
+    }
+    
+    /**
+     * 获取购物清单的版本号，用于条件请求，清单不存在时返回空；清单存在时先校验成员身份
+     */
+    public Optional<Integer> getShoppingListVersion(Long userId, Long shoppingListId) {
+        ShoppingListId id = ShoppingListId.of(shoppingListId);
+        Optional<Long> familyId = shoppingListRepository.findFamilyIdById(id);
+        if (familyId.isEmpty()) {
+            return Optional.empty();
+        }
+        familyMembershipService.checkMember(userId, familyId.get());
+        return shoppingListRepository.findVersionById(id);
+    }
+    
+    /**
+     * 菜单项添加后，把菜谱食材累加到覆盖该日期的未完成清单
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void onMenuItemAdded(Long familyId, Long dishId, LocalDate menuDate) {
+        applyDishDelta(familyId, dishId, menuDate, false);
+    }
+    
+    /**
+     * 菜单项移除后，从覆盖该日期的未完成清单中扣减菜谱食材
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void onMenuItemRemoved(Long familyId, Long dishId, LocalDate menuDate) {
+        applyDishDelta(familyId, dishId, menuDate, true);
+    }
+    
+    private void applyDishDelta(Long familyId, Long dishId, LocalDate menuDate, boolean negate) {
+        List<ShoppingListId> listIds = shoppingListRepository.findOpenListIdsCovering(familyId, menuDate);
+        if (listIds.isEmpty()) {
+            return;
+        }
+        
+        IngredientAggregator aggregator = new IngredientAggregator();
+        for (IngredientLine line : shoppingListRepository.findDishIngredients(dishId)) {
+            aggregator.add(line);
+        }
+        List<ShoppingItem> deltas = aggregator.toItems(negate);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        
+        for (ShoppingListId listId : listIds) {
+            shoppingListRepository.applyQuantityDeltas(listId, deltas);
+        }
+        log.debug("增量更新购物清单: familyId={}, dishId={}, lists={}, removed={}", familyId, dishId, listIds, negate);
+    }
+    
+    private ShoppingListDTO toDTO(ShoppingList shoppingList) {
+        ShoppingListDTO dto = new ShoppingListDTO();
+        dto.setShoppingListId(shoppingList.getId().getValue());
+        dto.setFamilyId(shoppingList.getFamilyId());
+        dto.setStartDate(shoppingList.getStartDate());
+        dto.setEndDate(shoppingList.getEndDate());
+        dto.setStatus(shoppingList.getStatus().getCode());
+        dto.setTotalItems(shoppingList.getTotalItems());
+        dto.setCheckedItems(shoppingList.getCheckedItems());
+        
+        Map<String, List<ShoppingItemDTO>> groupedItems = new LinkedHashMap<>();
+        for (Map.Entry<IngredientCategory, List<ShoppingItem>> entry : shoppingList.groupByCategory().entrySet()) {
+            List<ShoppingItemDTO> itemDTOs = new ArrayList<>(entry.getValue().size());
+            for (ShoppingItem item : entry.getValue()) {
+                itemDTOs.add(toItemDTO(item));
+            }
+            groupedItems.put(entry.getKey().getCode(), itemDTOs);
+        }
+        dto.setGroupedItems(groupedItems);
+        return dto;
+    }
+    
+    private ShoppingItemDTO toItemDTO(ShoppingItem item) {
+        ShoppingItemDTO dto = new ShoppingItemDTO();
+        dto.setItemId(item.getId());
+        dto.setIngredientName(item.getIngredientName());
+        dto.setQuantity(item.getQuantity());
+        dto.setUnit(item.getUnit());
+        dto.setCategory(item.getCategory().getCode());
+        dto.setChecked(item.isChecked());
+        return dto;
+    }
+}
@@ -0,0 +1,97 @@
+package com.delicious.moments.application.service;
+
+import com.delicious.moments.domain.sync.repository.SyncRepository;
+import com.delicious.moments.domain.sync.valueobject.SyncChange;
+import com.delicious.moments.domain.sync.valueobject.SyncEntityType;
+import com.delicious.moments.infrastructure.config.SyncProperties;
+import com.delicious.moments.interfaces.dto.response.SyncChunkDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 增量同步应用服务
+ * <p>
+ * 返回家庭在水位线之后变更的分类、标签、菜谱、菜单项和购物项（含删除），按实体类型分块输出，
+ * 每块不超过 chunk-size 条，内存占用与数据总量无关。比较使用 &gt;=，且新水位线取数据库时间减去回退量，
+ * 边界上的记录可能重复下发，客户端按ID覆盖即可。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@EnableConfigurationProperties(SyncProperties.class)
+public class SyncApplicationService {
+    
+    private final SyncRepository syncRepository;
+    private final SyncProperties properties;
+    
+    /**
+     * 输出 since 之后的变更分块，最后输出新的水位线；since 为空时输出全量数据
+     */
+    public void streamChanges(Long familyId, LocalDateTime since, Consumer<SyncChunkDTO> sink) {
+        LocalDateTime watermark = syncRepository.currentTime().minus(properties.getSafetyLag());
+        int total = 0;
+        for (SyncEntityType type : SyncEntityType.values()) {
+            ChunkBuffer buffer = new ChunkBuffer(type, properties.getChunkSize(), sink);
+            syncRepository.forEachChange(type, familyId, since, buffer::add);
+            buffer.flush();
+            total += buffer.count;
+        }
+        
+        SyncChunkDTO last = new SyncChunkDTO();
+        last.setWatermark(watermark);
+        sink.accept(last);
+        log.debug("增量同步: familyId={}, since={}, changes={}, watermark={}", familyId, since, total, watermark);
+    }
+    
+    /**
+     * 单个实体类型的分块缓冲
+     */
+    private static final class ChunkBuffer {
+        
+        private final SyncEntityType type;
+        private final int chunkSize;
+        private final Consumer<SyncChunkDTO> sink;
+        private List<Map<String, Object>> upserts = new ArrayList<>();
+        private List<Long> deletes = new ArrayList<>();
+        private int count;
+        
+        ChunkBuffer(SyncEntityType type, int chunkSize, Consumer<SyncChunkDTO> sink) {
+            this.type = type;
+            this.chunkSize = chunkSize;
+            this.sink = sink;
+        }
+        
+        void add(SyncChange change) {
+            if (change.isDeleted()) {
+                deletes.add(change.getId());
+            } else {
+                upserts.add(change.getData());
+            }
+            count++;
+            if (upserts.size() + deletes.size() >= chunkSize) {
+                flush();
+            }
+        }
+        
+        void flush() {
+            if (upserts.isEmpty() && deletes.isEmpty()) {
+                return;
+            }
+            SyncChunkDTO chunk = new SyncChunkDTO();
+            chunk.setEntity(type.getCode());
+            chunk.setUpserts(upserts.isEmpty() ? null : upserts);
+            chunk.setDeletes(deletes.isEmpty() ? null : deletes);
+            sink.accept(chunk);
+            upserts = new ArrayList<>();
+            deletes = new ArrayList<>();
+        }
+    }
+}
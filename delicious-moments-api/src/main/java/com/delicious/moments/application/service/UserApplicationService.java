@@ -3,8 +3,10 @@ package com.delicious.moments.application.service;
 import com.delicious.moments.domain.user.aggregate.User;
 import com.delicious.moments.domain.user.repository.UserRepository;
 import com.delicious.moments.domain.user.valueobject.UserId;
+import com.delicious.moments.domain.user.valueobject.UserProfileChange;
 import com.delicious.moments.interfaces.dto.request.UpdateProfileRequest;
 import com.delicious.moments.interfaces.dto.response.UserDTO;
+import com.delicious.moments.interfaces.dto.response.UserSummaryDTO;
 import com.delicious.moments.shared.exception.BusinessException;
 import com.delicious.moments.shared.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +14,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * 用户应用服务
  */
@@ -21,6 +35,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserApplicationService {
     
     private final UserRepository userRepository;
+    private final UserProfileWriteBehindService profileWriteBehind;
+    private final FamilyMembershipService familyMembershipService;
+    
+    /**
+     * 正在创建中的用户（按OpenID合并并发创建请求）
+     */
+    private final ConcurrentMap<String, CompletableFuture<User>> creatingUsers = new ConcurrentHashMap<>();
     
     /**
      * 获取用户信息
@@ -28,10 +49,43 @@ public class UserApplicationService {
     public UserDTO getUserProfile(Long userId) {
         User user = userRepository.findById(UserId.of(userId))
             .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        profileWriteBehind.applyPending(user);
         
         return toDTO(user);
     }
     
+    /**
+     * 获取用户资料的版本号，用于条件请求
+     * <p>
+     * 用户不存在，或有尚未落库的资料变更（版本号尚未递增）时返回空，调用方应走完整查询。
+     */
+    public Optional<Integer> getUserProfileVersion(Long userId) {
+        if (profileWriteBehind.hasPending(userId)) {
+            return Optional.empty();
+        }
+        return userRepository.findVersionById(UserId.of(userId));
+    }
+    
+    /**
+     * 批量获取与当前用户同属一个家庭的用户的公开信息，返回以用户ID为键的映射
+     * <p>
+     * 不存在的用户和不同家庭的用户都不包含在结果中，调用方无法区分两者。
+     */
+    public Map<Long, UserSummaryDTO> getUserSummaries(Long viewerId, Collection<Long> userIds) {
+        Set<Long> visible = familyMembershipService.familyMatesAmong(viewerId, new HashSet<>(userIds));
+        List<UserId> ids = visible.stream()
+            .map(UserId::of)
+            .toList();
+        
+        Map<UserId, User> users = userRepository.findAllByIds(ids);
+        Map<Long, UserSummaryDTO> result = new HashMap<>(users.size() * 2);
+        users.forEach((userId, user) -> {
+            profileWriteBehind.applyPending(user);
+            result.put(userId.getValue(), toSummaryDTO(user));
+        });
+        return result;
+    }
+    
     /**
      * 更新用户资料
      */
@@ -40,6 +94,13 @@ public class UserApplicationService {
         User user = userRepository.findById(UserId.of(userId))
             .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         
+        if (profileWriteBehind.isEnabled()) {
+            profileWriteBehind.submit(new UserProfileChange(
+                user.getUserId(), request.getNickname(), request.getAvatarUrl(), request.getPhone()));
+            log.debug("用户资料更新已提交异步落库: userId={}", userId);
+            return;
+        }
+        
         user.updateProfile(request.getNickname(), request.getAvatarUrl(), request.getPhone());
         userRepository.save(user);
         
@@ -48,16 +109,43 @@ public class UserApplicationService {
     
     /**
      * 根据OpenID获取或创建用户
+     * <p>
+     * 同一OpenID的并发首次登录在进程内合并为一次创建，跨进程的并发由 uk_openid 唯一键和幂等插入保证。
      */
-    @Transactional
     public User getOrCreateUser(String openId, String nickname, String avatarUrl) {
-        return userRepository.findByOpenId(openId)
-            .orElseGet(() -> {
-                User newUser = User.create(openId, nickname, avatarUrl);
-                userRepository.save(newUser);
-                log.info("创建新用户: openId={}", openId);
-                return newUser;
-            });
+        Optional<User> existing = userRepository.findByOpenId(openId);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        
+        CompletableFuture<User> creation = new CompletableFuture<>();
+        CompletableFuture<User> inFlight = creatingUsers.putIfAbsent(openId, creation);
+        if (inFlight != null) {
+            return awaitCreation(inFlight);
+        }
+        
+        try {
+            User user = userRepository.saveIfAbsent(User.create(openId, nickname, avatarUrl));
+            log.info("获取或创建用户: openId={}, userId={}", openId, user.getUserId());
+            creation.complete(user);
+            return user;
+        } catch (RuntimeException e) {
+            creation.completeExceptionally(e);
+            throw e;
+        } finally {
+            creatingUsers.remove(openId, creation);
+        }
+    }
+    
+    private User awaitCreation(CompletableFuture<User> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
     
     private UserDTO toDTO(User user) {
@@ -68,4 +156,12 @@ public class UserApplicationService {
         dto.setPhone(user.getPhone());
         return dto;
     }
+    
+    private static UserSummaryDTO toSummaryDTO(User user) {
+        UserSummaryDTO dto = new UserSummaryDTO();
+        dto.setUserId(user.getUserId().getValue());
+        dto.setNickname(user.getNickname());
+        dto.setAvatarUrl(user.getAvatarUrl());
+        return dto;
+    }
 }
@@ -0,0 +1,177 @@
+package com.delicious.moments.application.service;
+
+import com.delicious.moments.domain.user.aggregate.User;
+import com.delicious.moments.domain.user.repository.UserRepository;
+import com.delicious.moments.domain.user.valueobject.UserProfileChange;
+import com.delicious.moments.infrastructure.config.UserWriteBehindProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 用户资料异步合并写服务
+ * <p>
+ * 资料更新先写入按用户合并的缓冲区（同一用户只保留合并后的最新变更），
+ * 由后台线程在达到批量阈值或定时触发时批量落库，应用关闭时全部刷写。
+ * 每批在独立的新事务中落库：关闭后由请求线程同步刷写时，调用方的事务（及其绑定的普通 SqlSession）被挂起，
+ * 不会与批量会话混用同一事务。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@EnableConfigurationProperties(UserWriteBehindProperties.class)
+public class UserProfileWriteBehindService {
+    
+    private final UserRepository userRepository;
+    private final UserWriteBehindProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    
+    private final ConcurrentMap<Long, UserProfileChange> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private ScheduledExecutorService flusher;
+    private TransactionTemplate requiresNew;
+    
+    @PostConstruct
+    public void start() {
+        requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        if (!properties.isEnabled()) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "user-profile-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.getFlushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("用户资料异步合并写已启用: batchSize={}, flushInterval={}",
+            properties.getBatchSize(), properties.getFlushInterval());
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        log.info("用户资料异步合并写已关闭");
+    }
+    
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+    
+    /**
+     * 提交资料变更，与该用户尚未落库的变更合并
+     * <p>
+     * 后台线程已停止（应用关闭中）时在调用线程同步落库：先合并再检查，
+     * 关闭前合并的变更由关闭时的刷写带走，之后合并的由这里带走。
+     */
+    public void submit(UserProfileChange change) {
+        pending.merge(change.getUserId().getValue(), change, UserProfileChange::mergeWith);
+        if (flusher.isShutdown()) {
+            flush();
+            return;
+        }
+        if (pending.size() >= properties.getBatchSize() && !flushLock.isLocked()) {
+            try {
+                flusher.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                flush();
+            }
+        }
+    }
+    
+    /**
+     * 用户是否有尚未落库的资料变更
+     */
+    public boolean hasPending(Long userId) {
+        return pending.containsKey(userId);
+    }
+    
+    /**
+     * 把尚未落库的变更叠加到用户上，保证读到自己的写
+     */
+    public void applyPending(User user) {
+        UserProfileChange change = pending.get(user.getUserId().getValue());
+        if (change == null) {
+            return;
+        }
+        if (change.getNickname() != null) {
+            user.setNickname(change.getNickname());
+        }
+        if (change.getAvatarUrl() != null) {
+            user.setAvatarUrl(change.getAvatarUrl());
+        }
+        if (change.getPhone() != null) {
+            user.setPhone(change.getPhone());
+        }
+    }
+    
+    /**
+     * 刷写全部待写变更
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            while (!pending.isEmpty()) {
+                List<UserProfileChange> batch = drain(properties.getBatchSize());
+                try {
+                    requiresNew.executeWithoutResult(status -> userRepository.updateProfilesInBatch(batch));
+                } catch (RuntimeException e) {
+                    // 写回缓冲区，期间到达的更新更晚，优先保留
+                    batch.forEach(change -> pending.merge(change.getUserId().getValue(), change,
+                        (newer, failed) -> failed.mergeWith(newer)));
+                    throw e;
+                }
+                log.debug("用户资料批量落库: size={}", batch.size());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("用户资料批量落库失败，待下次重试: pending={}", pending.size(), e);
+        }
+    }
+    
+    private List<UserProfileChange> drain(int limit) {
+        List<UserProfileChange> batch = new ArrayList<>(Math.min(limit, pending.size()));
+        Iterator<Map.Entry<Long, UserProfileChange>> it = pending.entrySet().iterator();
+        while (it.hasNext() && batch.size() < limit) {
+            Map.Entry<Long, UserProfileChange> entry = it.next();
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.add(entry.getValue());
+            }
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,33 @@
+package com.delicious.moments.domain.dish.aggregate;
+
+import com.delicious.moments.domain.dish.valueobject.DishId;
+import com.delicious.moments.domain.dish.valueobject.NutritionInfo;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 菜谱聚合根
+ */
+@Data
+public class Dish {
+    
+    private DishId id;
+    private Long familyId;
+    private Long creatorId;
+    private String name;
+    private String coverUrl;
+    private String description;
+    private NutritionInfo nutrition;
+    private Integer cookingTime;
+    private Integer difficulty;
+    private Integer servingSize;
+    private int cookedCount;
+    private int likeCount;
+    private BigDecimal avgRating;
+    private Long categoryId;
+    private Integer version;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,13 @@
+package com.delicious.moments.domain.dish.event;
+
+import lombok.Value;
+
+/**
+ * 菜谱已删除事件
+ */
+@Value
+public class DishDeletedEvent {
+    
+    Long dishId;
+    Long familyId;
+}
@@ -0,0 +1,13 @@
+package com.delicious.moments.domain.dish.event;
+
+import lombok.Value;
+
+/**
+ * 菜谱已保存事件（新建、修改名称/标签/统计数据）
+ */
+@Value
+public class DishSavedEvent {
+    
+    Long dishId;
+    Long familyId;
+}
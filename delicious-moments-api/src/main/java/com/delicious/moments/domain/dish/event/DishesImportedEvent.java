@@ -0,0 +1,13 @@
+package com.delicious.moments.domain.dish.event;
+
+import lombok.Value;
+
+/**
+ * 菜谱已批量导入事件（每个导入分块提交后发布一次）
+ */
+@Value
+public class DishesImportedEvent {
+    
+    Long familyId;
+    int dishCount;
+}
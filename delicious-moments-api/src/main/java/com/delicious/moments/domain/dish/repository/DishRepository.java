@@ -0,0 +1,52 @@
+package com.delicious.moments.domain.dish.repository;
+
+import com.delicious.moments.domain.dish.aggregate.Dish;
+import com.delicious.moments.domain.dish.valueobject.DishArchive;
+import com.delicious.moments.domain.dish.valueobject.DishCursor;
+import com.delicious.moments.domain.dish.valueobject.DishId;
+import com.delicious.moments.domain.dish.valueobject.DishSearchDocument;
+import com.delicious.moments.domain.dish.valueobject.DishSortKey;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 菜谱仓储接口
+ */
+public interface DishRepository {
+    
+    Optional<Dish> findById(DishId dishId);
+    
+    /**
+     * 按游标查询家庭的菜谱（键集分页），cursor 为空时从第一条开始
+     */
+    List<Dish> findPage(Long familyId, DishSortKey sortKey, DishCursor cursor, int limit);
+    
+    /**
+     * 统计家庭未删除的菜谱数
+     */
+    long countByFamily(Long familyId);
+    
+    /**
+     * 查询单个菜谱的检索文档，菜谱不存在或已删除时为空
+     */
+    Optional<DishSearchDocument> findSearchDocument(DishId dishId);
+    
+    /**
+     * 按家庭ID顺序流式遍历检索文档，familyId 为空时遍历全部家庭
+     */
+    void forEachSearchDocument(Long familyId, Consumer<DishSearchDocument> consumer);
+    
+    /**
+     * 按菜谱ID顺序流式遍历家庭未删除菜谱的归档（含食材和标签）
+     */
+    void forEachArchive(Long familyId, Consumer<DishArchive> consumer);
+    
+    /**
+     * 在一个事务中批量导入菜谱归档，按名称复用或创建分类和标签
+     *
+     * @return 写入的行数（菜谱 + 食材 + 标签关联）
+     */
+    int importArchives(Long familyId, Long creatorId, List<DishArchive> archives);
+}
@@ -0,0 +1,21 @@
+package com.delicious.moments.domain.dish.service;
+
+import com.delicious.moments.domain.dish.valueobject.DishCounterType;
+
+/**
+ * 菜谱计数：制作次数、点赞次数的累加
+ * <p>
+ * 累加不经过菜谱聚合（不校验、不递增版本号），增量先在内存中累积，再定期合并写入。
+ */
+public interface DishCounters {
+    
+    /**
+     * 累加计数，delta 可以为负（如取消点赞）
+     */
+    void increment(Long dishId, DishCounterType type, long delta);
+    
+    /**
+     * 尚未写入数据库的增量，读取时与持久化的计数相加
+     */
+    long pending(Long dishId, DishCounterType type);
+}
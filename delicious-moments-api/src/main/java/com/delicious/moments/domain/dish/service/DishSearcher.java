@@ -0,0 +1,16 @@
+package com.delicious.moments.domain.dish.service;
+
+import com.delicious.moments.domain.dish.valueobject.DishSearchHit;
+
+import java.util.List;
+
+/**
+ * 菜谱检索：按菜名、标签或菜名拼音首字母检索家庭菜谱
+ */
+public interface DishSearcher {
+    
+    /**
+     * 检索家庭菜谱，结果按综合得分降序
+     */
+    List<DishSearchHit> search(Long familyId, String query, int limit);
+}
@@ -0,0 +1,39 @@
+package com.delicious.moments.domain.dish.valueobject;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 菜谱归档：导入/导出用的完整菜谱，分类和标签以名称表示，可在家庭之间迁移
+ */
+@Value
+public class DishArchive {
+    
+    String name;
+    String coverUrl;
+    String description;
+    Integer calories;
+    BigDecimal protein;
+    BigDecimal fat;
+    BigDecimal carbohydrate;
+    Integer cookingTime;
+    Integer difficulty;
+    Integer servingSize;
+    String categoryName;
+    List<String> tags;
+    List<Ingredient> ingredients;
+    
+    /**
+     * 归档中的食材
+     */
+    @Value
+    public static class Ingredient {
+        
+        String name;
+        BigDecimal quantity;
+        String unit;
+        String category;
+    }
+}
@@ -0,0 +1,19 @@
+package com.delicious.moments.domain.dish.valueobject;
+
+import lombok.Getter;
+
+/**
+ * 菜谱计数类型
+ */
+@Getter
+public enum DishCounterType {
+    
+    COOKED("制作次数"),
+    LIKED("点赞次数");
+    
+    private final String description;
+    
+    DishCounterType(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,55 @@
+package com.delicious.moments.domain.dish.valueobject;
+
+import com.delicious.moments.domain.dish.aggregate.Dish;
+import lombok.Value;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * 菜谱列表游标：上一页最后一条记录的（排序值, ID）
+ * <p>
+ * 对外编码为不透明的 URL 安全字符串，游标与排序方式绑定，不能跨排序方式使用。
+ */
+@Value
+public class DishCursor {
+    
+    private static final byte FORMAT_VERSION = 1;
+    private static final int ENCODED_BYTES = 2 + Long.BYTES * 2;
+    
+    DishSortKey sortKey;
+    long sortValue;
+    long id;
+    
+    public static DishCursor after(DishSortKey sortKey, Dish dish) {
+        return new DishCursor(sortKey, sortKey.sortValueOf(dish), dish.getId().getValue());
+    }
+    
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+            .put(FORMAT_VERSION)
+            .put((byte) sortKey.ordinal())
+            .putLong(sortValue)
+            .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+    
+    /**
+     * 解码游标，格式错误或与排序方式不一致时抛出 IllegalArgumentException
+     */
+    public static DishCursor decode(String token, DishSortKey expectedSortKey) {
+        byte[] bytes = Base64.getUrlDecoder().decode(token);
+        if (bytes.length != ENCODED_BYTES) {
+            throw new IllegalArgumentException("游标长度错误");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.get() != FORMAT_VERSION) {
+            throw new IllegalArgumentException("游标版本不支持");
+        }
+        int ordinal = buffer.get();
+        if (ordinal != expectedSortKey.ordinal()) {
+            throw new IllegalArgumentException("游标与排序方式不一致");
+        }
+        return new DishCursor(expectedSortKey, buffer.getLong(), buffer.getLong());
+    }
+}
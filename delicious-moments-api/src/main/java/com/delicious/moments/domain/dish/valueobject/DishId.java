@@ -0,0 +1,26 @@
+package com.delicious.moments.domain.dish.valueobject;
+
+import lombok.Value;
+
+import java.io.Serializable;
+
+/**
+ * 菜谱ID值对象
+ */
+@Value
+public class DishId implements Serializable {
+    
+    Long value;
+    
+    public static DishId of(Long id) {
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException("菜谱ID不能为空或小于等于0");
+        }
+        return new DishId(id);
+    }
+    
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
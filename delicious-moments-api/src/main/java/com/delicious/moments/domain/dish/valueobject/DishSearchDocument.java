@@ -0,0 +1,20 @@
+package com.delicious.moments.domain.dish.valueobject;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 菜谱检索文档：检索和排序所需的菜谱字段
+ */
+@Value
+public class DishSearchDocument {
+    
+    long dishId;
+    Long familyId;
+    String name;
+    List<String> tags;
+    int cookedCount;
+    int likeCount;
+    double avgRating;
+}
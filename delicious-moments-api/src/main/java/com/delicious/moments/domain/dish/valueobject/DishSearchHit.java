@@ -0,0 +1,19 @@
+package com.delicious.moments.domain.dish.valueobject;
+
+import lombok.Value;
+
+/**
+ * 菜谱检索结果
+ */
+@Value
+public class DishSearchHit {
+    
+    long dishId;
+    String name;
+    int cookedCount;
+    int likeCount;
+    /**
+     * 综合得分（文本匹配与受欢迎程度加权）
+     */
+    float score;
+}
@@ -0,0 +1,46 @@
+package com.delicious.moments.domain.dish.valueobject;
+
+import com.delicious.moments.domain.dish.aggregate.Dish;
+import lombok.Getter;
+
+/**
+ * 菜谱列表排序方式，均为降序，相同排序值按ID降序
+ */
+@Getter
+public enum DishSortKey {
+    
+    LATEST("latest", "最新创建"),
+    MOST_COOKED("cooked", "制作最多"),
+    MOST_LIKED("liked", "点赞最多");
+    
+    private final String code;
+    private final String description;
+    
+    DishSortKey(String code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+    
+    public static DishSortKey fromCode(String code) {
+        if (code == null || code.isEmpty()) {
+            return LATEST;
+        }
+        for (DishSortKey sortKey : values()) {
+            if (sortKey.code.equals(code)) {
+                return sortKey;
+            }
+        }
+        throw new IllegalArgumentException("不支持的排序方式: " + code);
+    }
+    
+    /**
+     * 菜谱在该排序方式下的排序值（LATEST 只按ID排序，排序值取ID）
+     */
+    public long sortValueOf(Dish dish) {
+        return switch (this) {
+            case LATEST -> dish.getId().getValue();
+            case MOST_COOKED -> dish.getCookedCount();
+            case MOST_LIKED -> dish.getLikeCount();
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.delicious.moments.domain.dish.valueobject;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * 营养信息值对象（每份）
+ */
+@Value
+public class NutritionInfo {
+    
+    int calories;
+    BigDecimal protein;
+    BigDecimal fat;
+    BigDecimal carbohydrate;
+}
@@ -0,0 +1,13 @@
+package com.delicious.moments.domain.family.event;
+
+import lombok.Value;
+
+/**
+ * 成员已加入家庭事件
+ */
+@Value
+public class FamilyMemberJoinedEvent {
+    
+    Long familyId;
+    Long userId;
+}
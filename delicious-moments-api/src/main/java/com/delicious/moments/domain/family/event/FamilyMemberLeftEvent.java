@@ -0,0 +1,13 @@
+package com.delicious.moments.domain.family.event;
+
+import lombok.Value;
+
+/**
+ * 成员已退出家庭事件
+ */
+@Value
+public class FamilyMemberLeftEvent {
+    
+    Long familyId;
+    Long userId;
+}
@@ -0,0 +1,21 @@
+package com.delicious.moments.domain.family.repository;
+
+import com.delicious.moments.domain.family.valueobject.FamilyMembership;
+
+import java.util.List;
+
+/**
+ * 家庭成员仓储
+ */
+public interface FamilyMemberRepository {
+    
+    /**
+     * 查询用户加入的全部家庭（不含已解散的家庭）
+     */
+    List<FamilyMembership> findByUserId(Long userId);
+    
+    /**
+     * 查询家庭全部成员的用户ID
+     */
+    List<Long> findUserIdsByFamilyId(Long familyId);
+}
@@ -0,0 +1,13 @@
+package com.delicious.moments.domain.family.valueobject;
+
+import lombok.Value;
+
+/**
+ * 用户在某个家庭中的成员身份
+ */
+@Value
+public class FamilyMembership {
+    
+    Long familyId;
+    FamilyRole role;
+}
@@ -0,0 +1,26 @@
+package com.delicious.moments.domain.family.valueobject;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 家庭成员角色
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FamilyRole {
+    
+    CREATOR("creator"),
+    MEMBER("member");
+    
+    private final String code;
+    
+    public static FamilyRole fromCode(String code) {
+        for (FamilyRole role : values()) {
+            if (role.code.equals(code)) {
+                return role;
+            }
+        }
+        throw new IllegalArgumentException("未知的家庭角色: " + code);
+    }
+}
@@ -0,0 +1,30 @@
+package com.delicious.moments.domain.file.service;
+
+import com.delicious.moments.domain.file.valueobject.ImageFile;
+import com.delicious.moments.domain.file.valueobject.StoredImage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 图片存储：按内容寻址，存储后异步生成限定宽度的缩略图
+ */
+public interface ImageStorage {
+    
+    /**
+     * 流式写入图片，边写边计算内容摘要；类型不支持或超出大小限制时抛出业务异常
+     */
+    StoredImage store(InputStream in) throws IOException;
+    
+    /**
+     * 按 key 读取图片；width 不为空时返回该宽度的缩略图，尚未生成时返回原图
+     */
+    Optional<ImageFile> open(String key, Integer width);
+    
+    /**
+     * 配置的缩略图宽度
+     */
+    List<Integer> thumbnailWidths();
+}
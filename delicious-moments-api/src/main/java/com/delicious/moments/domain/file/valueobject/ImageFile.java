@@ -0,0 +1,20 @@
+package com.delicious.moments.domain.file.valueobject;
+
+import lombok.Value;
+
+import java.nio.file.Path;
+
+/**
+ * 待返回给客户端的图片文件
+ */
+@Value
+public class ImageFile {
+    
+    Path path;
+    String contentType;
+    long size;
+    /**
+     * 内容是否与 URL 一一对应、永不变化；请求的缩略图尚未生成而返回原图时为 false
+     */
+    boolean immutable;
+}
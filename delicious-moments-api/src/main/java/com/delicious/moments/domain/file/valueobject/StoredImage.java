@@ -0,0 +1,20 @@
+package com.delicious.moments.domain.file.valueobject;
+
+import lombok.Value;
+
+/**
+ * 已存储的图片
+ * <p>
+ * key 由内容的 SHA-256 和扩展名组成，相同内容只存一份。
+ */
+@Value
+public class StoredImage {
+    
+    String key;
+    String contentType;
+    long size;
+    /**
+     * 是否与已有图片内容相同（未写入新文件）
+     */
+    boolean deduplicated;
+}
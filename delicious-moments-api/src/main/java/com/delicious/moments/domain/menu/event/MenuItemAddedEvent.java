@@ -0,0 +1,18 @@
+package com.delicious.moments.domain.menu.event;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * 菜单项已添加事件
+ */
+@Value
+public class MenuItemAddedEvent {
+    
+    Long familyId;
+    Long menuPlanId;
+    Long menuItemId;
+    Long dishId;
+    LocalDate menuDate;
+}
@@ -0,0 +1,24 @@
+package com.delicious.moments.domain.menu.repository;
+
+import com.delicious.moments.domain.menu.valueobject.MenuItemNutrition;
+import com.delicious.moments.domain.menu.valueobject.MenuPlanVersion;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 菜单营养数据仓储
+ */
+public interface MenuNutritionRepository {
+    
+    /**
+     * 查询家庭日期范围内（含两端）未取消的菜单计划及其版本号
+     */
+    List<MenuPlanVersion> findPlanVersions(Long familyId, LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * 查询菜单计划中菜单项的营养信息，菜谱已删除的菜单项不计入
+     */
+    List<MenuItemNutrition> findItemNutrition(Collection<Long> menuPlanIds);
+}
@@ -0,0 +1,17 @@
+package com.delicious.moments.domain.menu.repository;
+
+import com.delicious.moments.domain.menu.valueobject.MenuPlanView;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 菜单计划读模型仓储
+ */
+public interface MenuPlanViewRepository {
+    
+    /**
+     * 查询家庭某天的菜单计划读模型，当天没有计划时为空
+     */
+    Optional<MenuPlanView> findByFamilyAndDate(Long familyId, LocalDate menuDate);
+}
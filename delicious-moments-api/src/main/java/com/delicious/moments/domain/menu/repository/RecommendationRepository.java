@@ -0,0 +1,36 @@
+package com.delicious.moments.domain.menu.repository;
+
+import com.delicious.moments.domain.menu.valueobject.CookingEvent;
+import com.delicious.moments.domain.menu.valueobject.DishFeature;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 菜单推荐数据仓储
+ */
+public interface RecommendationRepository {
+    
+    /**
+     * 创建时间早于提交延迟窗口的最大烹饪记录ID，没有时为 0
+     * <p>
+     * 事务时长不超过窗口时，不超过此ID的记录都已提交，之后不会再出现
+     */
+    long findSettledCookingRecordId(Duration commitLag);
+    
+    /**
+     * 流式读取家庭未删除菜谱的特征
+     */
+    void forEachDishFeature(Long familyId, Consumer<DishFeature> consumer);
+    
+    /**
+     * 流式读取家庭的全部烹饪历史
+     */
+    void forEachCookingEvent(Long familyId, Consumer<CookingEvent> consumer);
+    
+    /**
+     * 按ID顺序查询指定ID之后的烹饪历史（全部家庭）
+     */
+    List<CookingEvent> findCookingEventsAfter(long afterRecordId, int limit);
+}
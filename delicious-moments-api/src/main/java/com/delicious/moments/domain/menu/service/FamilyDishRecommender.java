@@ -0,0 +1,338 @@
+package com.delicious.moments.domain.menu.service;
+
+import com.delicious.moments.domain.menu.valueobject.CookingEvent;
+import com.delicious.moments.domain.menu.valueobject.DishFeature;
+import com.delicious.moments.domain.menu.valueobject.DishRecommendation;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 单个家庭的菜谱推荐模型
+ * <p>
+ * 菜谱特征按文档序号存放在并行数组中：受欢迎程度、最近制作日、各餐次制作次数、每个成员的偏好次数、标签序号。
+ * 推荐时对全部菜谱打分（受欢迎程度 + 餐次契合 + 成员偏好 + 久未制作 - 近期标签重复 - 卡路里偏离），
+ * 用有界小顶堆取候选，再在候选中按已选标签降分逐个挑选，使结果的标签分散。
+ * 新的烹饪记录通过 {@link #addCooking} 增量计入，菜谱本身变化时整体重建。
+ * 记录ID大于去重下限的记录会记下ID，同一条记录重复送达时只计入一次；下限随拉取进度前移。
+ */
+public final class FamilyDishRecommender {
+    
+    public static final List<String> MEALS = List.of("breakfast", "lunch", "dinner");
+    
+    private static final float POPULARITY_WEIGHT = 0.25f;
+    private static final float MEAL_WEIGHT = 0.2f;
+    private static final float MEMBER_WEIGHT = 0.25f;
+    private static final float FRESHNESS_WEIGHT = 0.3f;
+    private static final float RECENT_TAG_PENALTY = 0.2f;
+    private static final float CALORIE_PENALTY = 0.2f;
+    private static final float PICKED_TAG_PENALTY = 0.1f;
+    
+    /**
+     * 久未制作得分的时间常数（天）：隔 7 天约 0.63，隔 21 天约 0.95
+     */
+    private static final double FRESHNESS_DAYS = 7;
+    /**
+     * 从没做过的菜的久未制作得分，略低于很久没做的菜
+     */
+    private static final float NOVELTY = 0.8f;
+    /**
+     * 目标日期前几天内做过的菜的标签计为近期标签
+     */
+    private static final int RECENT_TAG_DAYS = 3;
+    /**
+     * 点赞计入成员偏好的权重（点一次菜计 1）
+     */
+    private static final int LIKE_WEIGHT = 2;
+    /**
+     * 候选数为返回数的倍数
+     */
+    private static final int CANDIDATE_FACTOR = 3;
+    private static final int NEVER = Integer.MIN_VALUE;
+    private static final int[] NO_TAGS = new int[0];
+    
+    private final long[] dishIds;
+    private final String[] names;
+    private final int[] calories;
+    private final float[] popularity;
+    private final int[][] tags;
+    private final int tagCount;
+    private final int[] lastCooked;
+    private final int[] cookedTimes;
+    private final int[] mealCounts;
+    private final Map<Long, Integer> docByDish;
+    private final Map<Long, int[]> memberCounts = new HashMap<>();
+    /**
+     * 不超过下限的记录不会再次送达，不需要去重
+     */
+    private long dedupFloor;
+    private final Set<Long> appliedRecordIds = new HashSet<>();
+    
+    /**
+     * @param dedupFloor 去重下限：加载时拉取线程已确认的记录ID，之后送达的记录都大于此ID
+     */
+    public FamilyDishRecommender(List<DishFeature> features, long dedupFloor) {
+        int n = features.size();
+        this.dishIds = new long[n];
+        this.names = new String[n];
+        this.calories = new int[n];
+        this.popularity = new float[n];
+        this.tags = new int[n][];
+        this.lastCooked = new int[n];
+        this.cookedTimes = new int[n];
+        this.mealCounts = new int[n * MEALS.size()];
+        this.docByDish = new HashMap<>(n * 2);
+        this.dedupFloor = dedupFloor;
+        
+        Map<Long, Integer> tagIndex = new HashMap<>();
+        double maxCooked = 0;
+        double maxLiked = 0;
+        for (DishFeature feature : features) {
+            maxCooked = Math.max(maxCooked, Math.log1p(feature.getCookedCount()));
+            maxLiked = Math.max(maxLiked, Math.log1p(feature.getLikeCount()));
+        }
+        for (int doc = 0; doc < n; doc++) {
+            DishFeature feature = features.get(doc);
+            dishIds[doc] = feature.getDishId();
+            names[doc] = feature.getName();
+            calories[doc] = feature.getCalories();
+            lastCooked[doc] = NEVER;
+            docByDish.put(feature.getDishId(), doc);
+            
+            double cooked = maxCooked == 0 ? 0 : Math.log1p(feature.getCookedCount()) / maxCooked;
+            double liked = maxLiked == 0 ? 0 : Math.log1p(feature.getLikeCount()) / maxLiked;
+            double rating = Math.min(feature.getAvgRating(), 5) / 5;
+            popularity[doc] = (float) (0.4 * cooked + 0.4 * liked + 0.2 * rating);
+            
+            long[] tagIds = feature.getTagIds();
+            int[] docTags = tagIds.length == 0 ? NO_TAGS : new int[tagIds.length];
+            for (int i = 0; i < tagIds.length; i++) {
+                docTags[i] = tagIndex.computeIfAbsent(tagIds[i], k -> tagIndex.size());
+            }
+            tags[doc] = docTags;
+            for (long userId : feature.getLikedBy()) {
+                memberCounts.computeIfAbsent(userId, k -> new int[n])[doc] += LIKE_WEIGHT;
+            }
+        }
+        this.tagCount = tagIndex.size();
+    }
+    
+    public int size() {
+        return dishIds.length;
+    }
+    
+    /**
+     * 计入一条烹饪记录，已计入过或菜谱已不在模型中时忽略
+     */
+    public synchronized void addCooking(CookingEvent event) {
+        if (event.getRecordId() > dedupFloor && !appliedRecordIds.add(event.getRecordId())) {
+            return;
+        }
+        Integer doc = docByDish.get(event.getDishId());
+        if (doc == null) {
+            return;
+        }
+        lastCooked[doc] = Math.max(lastCooked[doc], (int) event.getCookingDate().toEpochDay());
+        cookedTimes[doc]++;
+        int meal = event.getMealTime() == null ? -1 : MEALS.indexOf(event.getMealTime());
+        if (meal >= 0) {
+            mealCounts[doc * MEALS.size() + meal]++;
+        }
+        memberCounts.computeIfAbsent(event.getMemberId(), k -> new int[dishIds.length])[doc]++;
+    }
+    
+    /**
+     * 前移去重下限，丢弃不超过下限的记录ID
+     */
+    public synchronized void advanceDedupFloor(long floor) {
+        if (floor <= dedupFloor) {
+            return;
+        }
+        dedupFloor = floor;
+        appliedRecordIds.removeIf(recordId -> recordId <= floor);
+    }
+    
+    /**
+     * 推荐目标日期某餐的菜
+     *
+     * @param mealTime      餐次，为空时不考虑餐次
+     * @param memberId      为谁推荐，为空时不考虑成员偏好
+     * @param calorieTarget 每道菜的目标卡路里，为空时不考虑
+     */
+    public synchronized List<DishRecommendation> recommend(LocalDate date, String mealTime, Long memberId,
+                                                           Integer calorieTarget, int limit) {
+        int n = dishIds.length;
+        if (n == 0 || limit <= 0) {
+            return List.of();
+        }
+        int day = (int) date.toEpochDay();
+        int meal = mealTime == null ? -1 : MEALS.indexOf(mealTime);
+        int[] recentTags = recentTags(day);
+        int[] preferences = memberId == null ? null : memberCounts.get(memberId);
+        float maxPreference = 0;
+        if (preferences != null) {
+            for (int count : preferences) {
+                maxPreference = Math.max(maxPreference, count);
+            }
+        }
+        
+        TopK top = new TopK(Math.min(n, limit * CANDIDATE_FACTOR));
+        for (int doc = 0; doc < n; doc++) {
+            float score = POPULARITY_WEIGHT * popularity[doc] + FRESHNESS_WEIGHT * freshness(doc, day);
+            if (meal >= 0 && cookedTimes[doc] > 0) {
+                score += MEAL_WEIGHT * mealCounts[doc * MEALS.size() + meal] / cookedTimes[doc];
+            }
+            if (maxPreference > 0) {
+                score += MEMBER_WEIGHT * preferences[doc] / maxPreference;
+            }
+            score -= RECENT_TAG_PENALTY * overlap(tags[doc], recentTags);
+            if (calorieTarget != null && calorieTarget > 0 && calories[doc] > 0) {
+                score -= CALORIE_PENALTY * Math.min(1f, Math.abs(calories[doc] - calorieTarget) / (float) calorieTarget);
+            }
+            top.offer(doc, score);
+        }
+        return pickDiverse(top, Math.min(limit, top.size));
+    }
+    
+    /**
+     * 在候选中逐个挑选得分最高的，已选菜的标签在后续挑选中降分
+     */
+    private List<DishRecommendation> pickDiverse(TopK top, int limit) {
+        int[] pickedTags = new int[tagCount];
+        boolean[] taken = new boolean[top.size];
+        List<DishRecommendation> result = new ArrayList<>(limit);
+        for (int round = 0; round < limit; round++) {
+            int best = -1;
+            float bestScore = Float.NEGATIVE_INFINITY;
+            for (int i = 0; i < top.size; i++) {
+                if (taken[i]) {
+                    continue;
+                }
+                float score = top.scores[i] - PICKED_TAG_PENALTY * overlap(tags[top.docs[i]], pickedTags);
+                if (score > bestScore) {
+                    best = i;
+                    bestScore = score;
+                }
+            }
+            taken[best] = true;
+            int doc = top.docs[best];
+            for (int tag : tags[doc]) {
+                pickedTags[tag]++;
+            }
+            result.add(new DishRecommendation(dishIds[doc], names[doc], calories[doc], bestScore,
+                lastCooked[doc] == NEVER ? null : LocalDate.ofEpochDay(lastCooked[doc])));
+        }
+        return result;
+    }
+    
+    /**
+     * 目标日期前几天内做过的菜的标签计数
+     */
+    private int[] recentTags(int day) {
+        int[] counts = new int[tagCount];
+        for (int doc = 0; doc < dishIds.length; doc++) {
+            int last = lastCooked[doc];
+            if (last != NEVER && last < day && last >= day - RECENT_TAG_DAYS) {
+                for (int tag : tags[doc]) {
+                    counts[tag]++;
+                }
+            }
+        }
+        return counts;
+    }
+    
+    /**
+     * 久未制作得分：当天或之后已做/已排的为 0，隔得越久越接近 1
+     */
+    private float freshness(int doc, int day) {
+        int last = lastCooked[doc];
+        if (last == NEVER) {
+            return NOVELTY;
+        }
+        int days = day - last;
+        return days <= 0 ? 0 : (float) (1 - Math.exp(-days / FRESHNESS_DAYS));
+    }
+    
+    /**
+     * 菜的标签中出现在 counts 里的比例
+     */
+    private static float overlap(int[] docTags, int[] counts) {
+        if (docTags.length == 0) {
+            return 0;
+        }
+        int hit = 0;
+        for (int tag : docTags) {
+            if (counts[tag] > 0) {
+                hit++;
+            }
+        }
+        return (float) hit / docTags.length;
+    }
+    
+    /**
+     * 按得分保留前 k 个文档的小顶堆，堆顶为当前第 k 名
+     */
+    private static final class TopK {
+        
+        private final int[] docs;
+        private final float[] scores;
+        private int size;
+        
+        TopK(int capacity) {
+            docs = new int[capacity];
+            scores = new float[capacity];
+        }
+        
+        void offer(int doc, float score) {
+            if (size < docs.length) {
+                docs[size] = doc;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                docs[0] = doc;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+        
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (scores[parent] <= scores[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+        
+        private void siftDown(int i) {
+            for (;;) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+                if (scores[i] <= scores[smallest]) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+        
+        private void swap(int a, int b) {
+            int doc = docs[a];
+            docs[a] = docs[b];
+            docs[b] = doc;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.delicious.moments.domain.menu.service;
+
+import com.delicious.moments.domain.menu.valueobject.MenuItemNutrition;
+import com.delicious.moments.domain.menu.valueobject.NutritionTotals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 日期范围内的菜单营养表
+ * <p>
+ * 每种营养素一个 float 列，按（日期序号 × 3 + 餐次序号）存放该餐的合计，
+ * 每餐、每天、任意子范围的合计和日均值都是对列的一次顺序扫描。
+ * 单个计划的合计（{@link #planTotals}）按营养素 × 餐次存放，可按计划版本缓存后直接拼入表中。
+ */
+public final class MenuNutritionTable {
+    
+    public static final List<String> MEALS = List.of("breakfast", "lunch", "dinner");
+    
+    private static final int MEAL_COUNT = 3;
+    private static final int CALORIES = 0;
+    private static final int PROTEIN = 1;
+    private static final int FAT = 2;
+    private static final int CARBOHYDRATE = 3;
+    private static final int NUTRIENT_COUNT = 4;
+    
+    private final LocalDate startDate;
+    private final int days;
+    private final float[][] columns;
+    private final boolean[] planned;
+    
+    /**
+     * @param startDate 第一天
+     * @param endDate   最后一天（含）
+     */
+    public MenuNutritionTable(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.days = (int) (endDate.toEpochDay() - startDate.toEpochDay()) + 1;
+        this.columns = new float[NUTRIENT_COUNT][days * MEAL_COUNT];
+        this.planned = new boolean[days];
+    }
+    
+    /**
+     * 汇总单个计划的菜单项，返回按营养素 × 餐次存放的合计；每份营养乘以份量，未知餐次不计入
+     */
+    public static float[] planTotals(List<MenuItemNutrition> items) {
+        float[] totals = new float[NUTRIENT_COUNT * MEAL_COUNT];
+        for (MenuItemNutrition item : items) {
+            int meal = MEALS.indexOf(item.getMealTime());
+            if (meal < 0) {
+                continue;
+            }
+            int servings = Math.max(1, item.getServingSize());
+            totals[CALORIES * MEAL_COUNT + meal] += item.getCalories() * servings;
+            totals[PROTEIN * MEAL_COUNT + meal] += (float) (item.getProtein() * servings);
+            totals[FAT * MEAL_COUNT + meal] += (float) (item.getFat() * servings);
+            totals[CARBOHYDRATE * MEAL_COUNT + meal] += (float) (item.getCarbohydrate() * servings);
+        }
+        return totals;
+    }
+    
+    /**
+     * 放入某天计划的合计，日期不在范围内时忽略
+     */
+    public void addPlan(LocalDate date, float[] planTotals) {
+        int day = indexOf(date);
+        if (day < 0 || day >= days) {
+            return;
+        }
+        planned[day] = true;
+        for (int nutrient = 0; nutrient < NUTRIENT_COUNT; nutrient++) {
+            float[] column = columns[nutrient];
+            for (int meal = 0; meal < MEAL_COUNT; meal++) {
+                column[day * MEAL_COUNT + meal] += planTotals[nutrient * MEAL_COUNT + meal];
+            }
+        }
+    }
+    
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    public LocalDate getEndDate() {
+        return startDate.plusDays(days - 1);
+    }
+    
+    /**
+     * 某天是否有菜单计划
+     */
+    public boolean isPlanned(LocalDate date) {
+        int day = indexOf(date);
+        return day >= 0 && day < days && planned[day];
+    }
+    
+    /**
+     * 某天某餐的合计
+     */
+    public NutritionTotals meal(LocalDate date, String mealTime) {
+        int day = indexOf(date);
+        int meal = MEALS.indexOf(mealTime);
+        if (day < 0 || day >= days || meal < 0) {
+            return NutritionTotals.ZERO;
+        }
+        int slot = day * MEAL_COUNT + meal;
+        return new NutritionTotals(columns[CALORIES][slot], columns[PROTEIN][slot],
+            columns[FAT][slot], columns[CARBOHYDRATE][slot]);
+    }
+    
+    /**
+     * 某天的合计
+     */
+    public NutritionTotals day(LocalDate date) {
+        return total(date, date);
+    }
+    
+    /**
+     * 子范围（含两端）的合计
+     */
+    public NutritionTotals total(LocalDate from, LocalDate to) {
+        int first = Math.max(0, indexOf(from)) * MEAL_COUNT;
+        int last = Math.min(days, indexOf(to) + 1) * MEAL_COUNT;
+        return new NutritionTotals(sum(columns[CALORIES], first, last), sum(columns[PROTEIN], first, last),
+            sum(columns[FAT], first, last), sum(columns[CARBOHYDRATE], first, last));
+    }
+    
+    /**
+     * 子范围（含两端）内有菜单计划的天数
+     */
+    public int plannedDays(LocalDate from, LocalDate to) {
+        int count = 0;
+        for (int day = Math.max(0, indexOf(from)), last = Math.min(days - 1, indexOf(to)); day <= last; day++) {
+            if (planned[day]) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * 子范围（含两端）内按有菜单计划的天数平均的每日合计，没有计划时为空
+     */
+    public NutritionTotals dailyAverage(LocalDate from, LocalDate to) {
+        int plannedDays = plannedDays(from, to);
+        if (plannedDays == 0) {
+            return null;
+        }
+        NutritionTotals total = total(from, to);
+        return new NutritionTotals(total.getCalories() / plannedDays, total.getProtein() / plannedDays,
+            total.getFat() / plannedDays, total.getCarbohydrate() / plannedDays);
+    }
+    
+    private int indexOf(LocalDate date) {
+        return (int) (date.toEpochDay() - startDate.toEpochDay());
+    }
+    
+    private static double sum(float[] column, int from, int to) {
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += column[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,25 @@
+package com.delicious.moments.domain.menu.valueobject;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * 推荐用的烹饪历史：一条烹饪记录及其对应菜单项的餐次和点菜人
+ */
+@Value
+public class CookingEvent {
+    
+    long recordId;
+    Long familyId;
+    long dishId;
+    LocalDate cookingDate;
+    /**
+     * 餐次，烹饪记录不来自菜单项时为空
+     */
+    String mealTime;
+    /**
+     * 点菜人，烹饪记录不来自菜单项时为厨师
+     */
+    long memberId;
+}
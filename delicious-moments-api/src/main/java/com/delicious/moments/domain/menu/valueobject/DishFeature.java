@@ -0,0 +1,22 @@
+package com.delicious.moments.domain.menu.valueobject;
+
+import lombok.Value;
+
+/**
+ * 推荐用的菜谱特征
+ */
+@Value
+public class DishFeature {
+    
+    long dishId;
+    String name;
+    int calories;
+    int cookedCount;
+    int likeCount;
+    double avgRating;
+    long[] tagIds;
+    /**
+     * 点赞过的用户ID
+     */
+    long[] likedBy;
+}
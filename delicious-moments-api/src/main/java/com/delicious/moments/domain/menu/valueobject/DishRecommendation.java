@@ -0,0 +1,21 @@
+package com.delicious.moments.domain.menu.valueobject;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * 推荐结果中的一道菜
+ */
+@Value
+public class DishRecommendation {
+    
+    long dishId;
+    String name;
+    int calories;
+    float score;
+    /**
+     * 最近一次制作日期，没做过时为空
+     */
+    LocalDate lastCookedDate;
+}
@@ -0,0 +1,18 @@
+package com.delicious.moments.domain.menu.valueobject;
+
+import lombok.Value;
+
+/**
+ * 菜单项的菜谱营养信息（每份）和份量
+ */
+@Value
+public class MenuItemNutrition {
+    
+    Long menuPlanId;
+    String mealTime;
+    int calories;
+    double protein;
+    double fat;
+    double carbohydrate;
+    int servingSize;
+}
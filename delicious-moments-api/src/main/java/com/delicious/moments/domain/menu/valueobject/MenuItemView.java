@@ -0,0 +1,23 @@
+package com.delicious.moments.domain.menu.valueobject;
+
+import lombok.Value;
+
+/**
+ * 菜单项读模型
+ */
+@Value
+public class MenuItemView {
+    
+    Long menuItemId;
+    String mealTime;
+    Integer status;
+    String notes;
+    Long dishId;
+    String dishName;
+    String coverUrl;
+    Integer calories;
+    Integer cookingTime;
+    Long selectorId;
+    String selectorNickname;
+    String selectorAvatarUrl;
+}
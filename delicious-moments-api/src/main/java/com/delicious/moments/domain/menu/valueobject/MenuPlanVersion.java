@@ -0,0 +1,16 @@
+package com.delicious.moments.domain.menu.valueobject;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * 菜单计划的版本号，菜单项变更时递增
+ */
+@Value
+public class MenuPlanVersion {
+    
+    Long menuPlanId;
+    LocalDate menuDate;
+    Integer version;
+}
@@ -0,0 +1,22 @@
+package com.delicious.moments.domain.menu.valueobject;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 菜单计划读模型：计划及其菜单项，菜单项已带上菜谱和点菜人信息
+ */
+@Value
+public class MenuPlanView {
+    
+    Long menuPlanId;
+    Long familyId;
+    LocalDate menuDate;
+    Integer status;
+    Integer totalCalories;
+    Integer totalItems;
+    Integer version;
+    List<MenuItemView> items;
+}
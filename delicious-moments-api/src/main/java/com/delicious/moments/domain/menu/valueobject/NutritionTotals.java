@@ -0,0 +1,17 @@
+package com.delicious.moments.domain.menu.valueobject;
+
+import lombok.Value;
+
+/**
+ * 营养合计（已按份量放大）
+ */
+@Value
+public class NutritionTotals {
+    
+    public static final NutritionTotals ZERO = new NutritionTotals(0, 0, 0, 0);
+    
+    double calories;
+    double protein;
+    double fat;
+    double carbohydrate;
+}
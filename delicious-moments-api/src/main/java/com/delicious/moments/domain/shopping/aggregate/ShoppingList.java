@@ -0,0 +1,75 @@
+package com.delicious.moments.domain.shopping.aggregate;
+
+import com.delicious.moments.domain.shopping.entity.ShoppingItem;
+import com.delicious.moments.domain.shopping.valueobject.IngredientCategory;
+import com.delicious.moments.domain.shopping.valueobject.ShoppingListId;
+import com.delicious.moments.domain.shopping.valueobject.ShoppingListStatus;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 购物清单聚合根
+ */
+@Data
+public class ShoppingList {
+    
+    private ShoppingListId id;
+    private Long familyId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private ShoppingListStatus status;
+    private List<ShoppingItem> items = new ArrayList<>();
+    private Integer version;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    /**
+     * 根据合并后的食材生成购物清单
+     */
+    public static ShoppingList generate(Long familyId, LocalDate startDate, LocalDate endDate, List<ShoppingItem> items) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("开始日期不能晚于结束日期");
+        }
+        ShoppingList list = new ShoppingList();
+        list.familyId = familyId;
+        list.startDate = startDate;
+        list.endDate = endDate;
+        list.status = ShoppingListStatus.PENDING;
+        list.items = new ArrayList<>(items);
+        list.version = 0;
+        list.createdAt = LocalDateTime.now();
+        list.updatedAt = LocalDateTime.now();
+        return list;
+    }
+    
+    public int getTotalItems() {
+        return items.size();
+    }
+    
+    public int getCheckedItems() {
+        int checked = 0;
+        for (ShoppingItem item : items) {
+            if (item.isChecked()) {
+                checked++;
+            }
+        }
+        return checked;
+    }
+    
+    /**
+     * 按食材类别分组，类别顺序与 {@link IngredientCategory} 定义一致
+     */
+    public Map<IngredientCategory, List<ShoppingItem>> groupByCategory() {
+        Map<IngredientCategory, List<ShoppingItem>> grouped = new EnumMap<>(IngredientCategory.class);
+        for (ShoppingItem item : items) {
+            grouped.computeIfAbsent(item.getCategory(), c -> new ArrayList<>()).add(item);
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,31 @@
+package com.delicious.moments.domain.shopping.entity;
+
+import com.delicious.moments.domain.shopping.valueobject.IngredientCategory;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 购物项实体
+ */
+@Data
+public class ShoppingItem {
+    
+    private Long id;
+    private String ingredientName;
+    private BigDecimal quantity;
+    private String unit;
+    private IngredientCategory category;
+    private boolean checked;
+    private LocalDateTime checkedAt;
+    
+    public static ShoppingItem of(String ingredientName, BigDecimal quantity, String unit, IngredientCategory category) {
+        ShoppingItem item = new ShoppingItem();
+        item.ingredientName = ingredientName;
+        item.quantity = quantity;
+        item.unit = unit;
+        item.category = category;
+        return item;
+    }
+}
@@ -0,0 +1,57 @@
+package com.delicious.moments.domain.shopping.repository;
+
+import com.delicious.moments.domain.shopping.aggregate.ShoppingList;
+import com.delicious.moments.domain.shopping.entity.ShoppingItem;
+import com.delicious.moments.domain.shopping.valueobject.IngredientLine;
+import com.delicious.moments.domain.shopping.valueobject.ShoppingListId;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 购物清单仓储接口
+ */
+public interface ShoppingListRepository {
+    
+    /**
+     * 根据ID查询购物清单（含购物项）
+     */
+    Optional<ShoppingList> findById(ShoppingListId id);
+    
+    /**
+     * 只查询购物清单的版本号（用于条件请求），清单不存在时为空
+     */
+    Optional<Integer> findVersionById(ShoppingListId id);
+    
+    /**
+     * 查询清单所属的家庭ID，用于权限校验
+     */
+    Optional<Long> findFamilyIdById(ShoppingListId id);
+    
+    /**
+     * 保存新生成的购物清单及其购物项
+     */
+    ShoppingList save(ShoppingList shoppingList);
+    
+    /**
+     * 流式遍历家庭在日期范围内所有菜单项对应菜谱的食材
+     */
+    void forEachMenuIngredient(Long familyId, LocalDate startDate, LocalDate endDate, Consumer<IngredientLine> consumer);
+    
+    /**
+     * 查询菜谱的食材
+     */
+    List<IngredientLine> findDishIngredients(Long dishId);
+    
+    /**
+     * 查询覆盖指定日期且未完成的购物清单ID
+     */
+    List<ShoppingListId> findOpenListIdsCovering(Long familyId, LocalDate date);
+    
+    /**
+     * 按（名称, 单位）把数量增量应用到购物清单，数量不大于0的购物项会被移除
+     */
+    void applyQuantityDeltas(ShoppingListId id, List<ShoppingItem> deltas);
+}
@@ -0,0 +1,165 @@
+package com.delicious.moments.domain.shopping.service;
+
+import com.delicious.moments.domain.shopping.entity.ShoppingItem;
+import com.delicious.moments.domain.shopping.valueobject.IngredientCategory;
+import com.delicious.moments.domain.shopping.valueobject.IngredientLine;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 食材合并器：按（名称, 单位）合并食材数量
+ * <p>
+ * 单次遍历、逐行累加，适合流式消费查询结果。每种（名称, 单位）只保留一份规范化的键，
+ * 查找时复用同一个探测键，避免逐行创建键对象；数量以“分”（两位小数）为单位累加到 long 数组中。
+ * 名称和单位去除首尾空白后按不区分大小写比较（与 uk_list_name_unit 的排序规则一致，
+ * 否则 "g" 与 "G" 会被当作两行批量插入而触发唯一键冲突），输出时保留首次出现的写法。
+ * 非线程安全，每次合并使用一个新实例。
+ */
+public class IngredientAggregator {
+    
+    private static final int INITIAL_CAPACITY = 64;
+    
+    private final Map<Key, Integer> slots = new HashMap<>(INITIAL_CAPACITY * 2);
+    private final Key probe = new Key();
+    
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] units = new String[INITIAL_CAPACITY];
+    private long[] quantities = new long[INITIAL_CAPACITY];
+    private byte[] categories = new byte[INITIAL_CAPACITY];
+    private int size;
+    private int lineCount;
+    
+    public void add(IngredientLine line) {
+        add(line.getName(), line.getUnit(), line.getCategory(), line.getQuantity());
+    }
+    
+    /**
+     * 累加一行食材，同名同单位的食材以首次出现的类别为准
+     */
+    public void add(String name, String unit, String category, BigDecimal quantity) {
+        lineCount++;
+        name = trim(name);
+        unit = trim(unit);
+        probe.set(fold(name), fold(unit));
+        Integer slot = slots.get(probe);
+        if (slot == null) {
+            slot = newSlot(name, unit, IngredientCategory.fromCode(category));
+        }
+        quantities[slot] += toCents(quantity);
+    }
+    
+    /**
+     * 合并后的食材种类数
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * 累加过的原始食材行数
+     */
+    public int getLineCount() {
+        return lineCount;
+    }
+    
+    /**
+     * 输出合并结果，按类别排列；negate 为 true 时数量取反（用于扣减）
+     */
+    public List<ShoppingItem> toItems(boolean negate) {
+        int categoryCount = IngredientCategory.values().length;
+        int[] offsets = new int[categoryCount + 1];
+        for (int i = 0; i < size; i++) {
+            offsets[categories[i] + 1]++;
+        }
+        for (int c = 0; c < categoryCount; c++) {
+            offsets[c + 1] += offsets[c];
+        }
+        
+        ShoppingItem[] ordered = new ShoppingItem[size];
+        for (int i = 0; i < size; i++) {
+            long cents = negate ? -quantities[i] : quantities[i];
+            ordered[offsets[categories[i]]++] = ShoppingItem.of(
+                names[i], BigDecimal.valueOf(cents, 2), units[i], IngredientCategory.fromOrdinal(categories[i]));
+        }
+        return new ArrayList<>(Arrays.asList(ordered));
+    }
+    
+    public List<ShoppingItem> toItems() {
+        return toItems(false);
+    }
+    
+    private int newSlot(String name, String unit, IngredientCategory category) {
+        if (size == names.length) {
+            int capacity = size * 2;
+            names = Arrays.copyOf(names, capacity);
+            units = Arrays.copyOf(units, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+        }
+        int slot = size++;
+        names[slot] = name;
+        units[slot] = unit;
+        categories[slot] = (byte) category.ordinal();
+        slots.put(new Key().set(fold(name), fold(unit)), slot);
+        return slot;
+    }
+    
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+    
+    /**
+     * 键比较用的大小写折叠
+     */
+    private static String fold(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+    
+    private static long toCents(BigDecimal quantity) {
+        if (quantity == null) {
+            return 0;
+        }
+        return quantity.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+    
+    /**
+     * （名称, 单位）键，探测时可复用
+     */
+    private static final class Key {
+        
+        private String name;
+        private String unit;
+        private int hash;
+        
+        Key set(String name, String unit) {
+            this.name = name;
+            this.unit = unit;
+            this.hash = 31 * Objects.hashCode(name) + Objects.hashCode(unit);
+            return this;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return Objects.equals(name, other.name) && Objects.equals(unit, other.unit);
+        }
+        
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.delicious.moments.domain.shopping.valueobject;
+
+import lombok.Getter;
+
+/**
+ * 食材类别
+ */
+@Getter
+public enum IngredientCategory {
+    
+    VEGETABLE("vegetable", "蔬菜"),
+    MEAT("meat", "肉类"),
+    SEAFOOD("seafood", "海鲜"),
+    SEASONING("seasoning", "调料"),
+    OTHER("other", "其他");
+    
+    private static final IngredientCategory[] VALUES = values();
+    
+    private final String code;
+    private final String description;
+    
+    IngredientCategory(String code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+    
+    /**
+     * 根据编码获取类别，未知编码归为 OTHER
+     */
+    public static IngredientCategory fromCode(String code) {
+        for (IngredientCategory category : VALUES) {
+            if (category.code.equals(code)) {
+                return category;
+            }
+        }
+        return OTHER;
+    }
+    
+    public static IngredientCategory fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,17 @@
+package com.delicious.moments.domain.shopping.valueobject;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * 菜谱食材行（某道菜所需的一种食材及数量）
+ */
+@Value
+public class IngredientLine {
+    
+    String name;
+    BigDecimal quantity;
+    String unit;
+    String category;
+}
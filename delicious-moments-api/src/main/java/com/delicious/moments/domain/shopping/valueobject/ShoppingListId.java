@@ -0,0 +1,26 @@
+package com.delicious.moments.domain.shopping.valueobject;
+
+import lombok.Value;
+
+import java.io.Serializable;
+
+/**
+ * 购物清单ID值对象
+ */
+@Value
+public class ShoppingListId implements Serializable {
+    
+    Long value;
+    
+    public static ShoppingListId of(Long id) {
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException("购物清单ID不能为空或小于等于0");
+        }
+        return new ShoppingListId(id);
+    }
+    
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
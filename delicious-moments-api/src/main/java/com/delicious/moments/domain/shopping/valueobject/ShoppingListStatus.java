@@ -0,0 +1,31 @@
+package com.delicious.moments.domain.shopping.valueobject;
+
+import lombok.Getter;
+
+/**
+ * 购物清单状态
+ */
+@Getter
+public enum ShoppingListStatus {
+    
+    PENDING(1, "待购买"),
+    SHOPPING(2, "购买中"),
+    COMPLETED(3, "已完成");
+    
+    private final int code;
+    private final String description;
+    
+    ShoppingListStatus(int code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+    
+    public static ShoppingListStatus fromCode(Integer code) {
+        for (ShoppingListStatus status : values()) {
+            if (code != null && status.code == code) {
+                return status;
+            }
+        }
+        return PENDING;
+    }
+}
@@ -0,0 +1,34 @@
+package com.delicious.moments.domain.stats.aggregate;
+
+import com.delicious.moments.domain.stats.valueobject.PeriodType;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 家庭统计快照
+ */
+@Data
+public class FamilyStatsSnapshot {
+    
+    private Long familyId;
+    /**
+     * 周期第一天
+     */
+    private LocalDate snapshotDate;
+    private PeriodType periodType;
+    private int totalDishesCooked;
+    private int uniqueDishesCooked;
+    private Long mostCookedDishId;
+    private int mostCookedCount;
+    private Long topCookUserId;
+    private int topCookCount;
+    private Long topTagId;
+    private int topTagCount;
+    /**
+     * 周期内菜单计划的日均卡路里（按有计划的天数平均），没有计划时为空
+     */
+    private BigDecimal avgCalories;
+    private BigDecimal totalCost;
+}
@@ -0,0 +1,76 @@
+package com.delicious.moments.domain.stats.repository;
+
+import com.delicious.moments.domain.stats.aggregate.FamilyStatsSnapshot;
+import com.delicious.moments.domain.stats.service.FamilyStatsAccumulator;
+import com.delicious.moments.domain.stats.valueobject.CookingFact;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 家庭统计仓储接口
+ */
+public interface FamilyStatsRepository {
+    
+    /**
+     * 按记录ID顺序查询ID在 (afterRecordId, maxRecordId] 内的烹饪事实
+     */
+    List<CookingFact> findFactsAfter(long afterRecordId, long maxRecordId, int limit);
+    
+    /**
+     * 流式遍历家庭不超过指定记录ID的全部烹饪事实
+     */
+    void forEachFamilyFact(Long familyId, long maxRecordId, Consumer<CookingFact> consumer);
+    
+    /**
+     * 查询有烹饪记录的家庭ID
+     */
+    List<Long> findFamilyIdsWithRecords(long maxRecordId);
+    
+    /**
+     * 创建时间早于提交延迟窗口的最大烹饪记录ID，没有时为 0
+     * <p>
+     * 事务时长不超过窗口时，不超过此ID的记录都已提交，处理进度只推进到此ID，晚提交的记录不会被跳过
+     */
+    long findSettledRecordId(Duration commitLag);
+    
+    /**
+     * 读取处理进度（已处理的最大记录ID）
+     */
+    long loadCheckpoint(String name);
+    
+    /**
+     * 在当前事务中锁定处理进度行并返回进度，多实例间互斥；已被其他事务锁定时返回 null，不等待
+     */
+    Long lockCheckpoint(String name);
+    
+    void saveCheckpoint(String name, long lastRecordId);
+    
+    /**
+     * 把计数增量累加到家庭某天的日计数上
+     */
+    void addDailyCounters(Long familyId, LocalDate date, FamilyStatsAccumulator delta);
+    
+    /**
+     * 汇总家庭在日期范围内的日计数
+     */
+    FamilyStatsAccumulator sumDailyCounters(Long familyId, LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * 按（家庭, 日期, 周期类型）写入或覆盖快照
+     */
+    void saveSnapshots(Collection<FamilyStatsSnapshot> snapshots);
+    
+    /**
+     * 只更新已有快照的平均卡路里，不存在的快照忽略
+     */
+    void updateAvgCalories(Collection<FamilyStatsSnapshot> snapshots);
+    
+    /**
+     * 删除家庭的全部日计数和快照（重建前调用）
+     */
+    void deleteFamilyStats(Long familyId);
+}
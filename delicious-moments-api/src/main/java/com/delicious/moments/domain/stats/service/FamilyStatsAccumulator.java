@@ -0,0 +1,93 @@
+package com.delicious.moments.domain.stats.service;
+
+import com.delicious.moments.domain.stats.aggregate.FamilyStatsSnapshot;
+import com.delicious.moments.domain.stats.valueobject.CookingFact;
+import com.delicious.moments.domain.stats.valueobject.PeriodType;
+import com.delicious.moments.domain.stats.valueobject.StatsCounter;
+import com.delicious.moments.domain.stats.valueobject.StatsDimension;
+import com.delicious.moments.shared.util.LongCountMap;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * 家庭统计累加器：一个家庭在一个时间段内的运行计数
+ * <p>
+ * 菜品、厨师、标签计数保存在以ID为键的基本类型哈希表中。既可以逐条累加烹饪事实，
+ * 也可以合并已持久化的日计数或其他累加器，周/月统计由日累加器合并得到。非线程安全。
+ */
+public class FamilyStatsAccumulator {
+    
+    private long cooked;
+    private final LongCountMap dishes = new LongCountMap();
+    private final LongCountMap cooks = new LongCountMap();
+    private final LongCountMap tags = new LongCountMap();
+    
+    public void add(CookingFact fact) {
+        cooked++;
+        dishes.add(fact.getDishId(), 1);
+        cooks.add(fact.getCookId(), 1);
+        for (long tagId : fact.getTagIds()) {
+            tags.add(tagId, 1);
+        }
+    }
+    
+    public void add(StatsCounter counter) {
+        switch (counter.getDimension()) {
+            case COOKED -> cooked += counter.getCount();
+            case DISH -> dishes.add(counter.getKeyId(), counter.getCount());
+            case COOK -> cooks.add(counter.getKeyId(), counter.getCount());
+            case TAG -> tags.add(counter.getKeyId(), counter.getCount());
+        }
+    }
+    
+    public void merge(FamilyStatsAccumulator other) {
+        cooked += other.cooked;
+        dishes.addAll(other.dishes);
+        cooks.addAll(other.cooks);
+        tags.addAll(other.tags);
+    }
+    
+    public boolean isEmpty() {
+        return cooked == 0;
+    }
+    
+    /**
+     * 以计数行的形式输出全部计数，用于持久化日计数
+     */
+    public void forEachCounter(Consumer<StatsCounter> consumer) {
+        consumer.accept(new StatsCounter(StatsDimension.COOKED, 0, cooked));
+        dishes.forEach((key, value) -> consumer.accept(new StatsCounter(StatsDimension.DISH, key, value)));
+        cooks.forEach((key, value) -> consumer.accept(new StatsCounter(StatsDimension.COOK, key, value)));
+        tags.forEach((key, value) -> consumer.accept(new StatsCounter(StatsDimension.TAG, key, value)));
+    }
+    
+    /**
+     * 生成周期快照，周期日期取周期第一天；平均卡路里来自菜单计划，不在此计算
+     */
+    public FamilyStatsSnapshot toSnapshot(Long familyId, PeriodType periodType, LocalDate date) {
+        FamilyStatsSnapshot snapshot = new FamilyStatsSnapshot();
+        snapshot.setFamilyId(familyId);
+        snapshot.setPeriodType(periodType);
+        snapshot.setSnapshotDate(periodType.startOf(date));
+        snapshot.setTotalDishesCooked((int) cooked);
+        snapshot.setUniqueDishesCooked(dishes.size());
+        
+        long dishId = dishes.maxKey();
+        if (dishId > 0) {
+            snapshot.setMostCookedDishId(dishId);
+            snapshot.setMostCookedCount((int) dishes.get(dishId));
+        }
+        long cookId = cooks.maxKey();
+        if (cookId > 0) {
+            snapshot.setTopCookUserId(cookId);
+            snapshot.setTopCookCount((int) cooks.get(cookId));
+        }
+        long tagId = tags.maxKey();
+        if (tagId > 0) {
+            snapshot.setTopTagId(tagId);
+            snapshot.setTopTagCount((int) tags.get(tagId));
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,19 @@
+package com.delicious.moments.domain.stats.valueobject;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * 烹饪事实：一条烹饪记录及统计所需的菜谱属性
+ */
+@Value
+public class CookingFact {
+    
+    long recordId;
+    Long familyId;
+    long dishId;
+    long cookId;
+    LocalDate cookingDate;
+    long[] tagIds;
+}
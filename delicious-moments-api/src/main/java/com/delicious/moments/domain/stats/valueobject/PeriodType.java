@@ -0,0 +1,48 @@
+package com.delicious.moments.domain.stats.valueobject;
+
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 统计周期类型
+ */
+@Getter
+public enum PeriodType {
+    
+    DAILY("daily", "日"),
+    WEEKLY("weekly", "周"),
+    MONTHLY("monthly", "月");
+    
+    private final String code;
+    private final String description;
+    
+    PeriodType(String code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+    
+    /**
+     * 日期所在周期的第一天（周从周一开始）
+     */
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+    
+    /**
+     * 周期的最后一天
+     */
+    public LocalDate endOf(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+            case MONTHLY -> date.with(TemporalAdjusters.lastDayOfMonth());
+        };
+    }
+}
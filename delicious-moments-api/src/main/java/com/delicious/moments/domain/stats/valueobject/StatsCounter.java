@@ -0,0 +1,14 @@
+package com.delicious.moments.domain.stats.valueobject;
+
+import lombok.Value;
+
+/**
+ * 单个维度键的计数
+ */
+@Value
+public class StatsCounter {
+    
+    StatsDimension dimension;
+    long keyId;
+    long count;
+}
@@ -0,0 +1,32 @@
+package com.delicious.moments.domain.stats.valueobject;
+
+import lombok.Getter;
+
+/**
+ * 统计计数维度
+ */
+@Getter
+public enum StatsDimension {
+    
+    COOKED(1, "制作次数"),
+    DISH(2, "菜品"),
+    COOK(3, "厨师"),
+    TAG(4, "标签");
+    
+    private final int code;
+    private final String description;
+    
+    StatsDimension(int code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+    
+    public static StatsDimension fromCode(int code) {
+        for (StatsDimension dimension : values()) {
+            if (dimension.code == code) {
+                return dimension;
+            }
+        }
+        throw new IllegalArgumentException("未知的统计维度: " + code);
+    }
+}
@@ -0,0 +1,30 @@
+package com.delicious.moments.domain.sync.repository;
+
+import com.delicious.moments.domain.sync.valueobject.SyncChange;
+import com.delicious.moments.domain.sync.valueobject.SyncEntityType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * 增量同步仓储
+ */
+public interface SyncRepository {
+    
+    /**
+     * 数据库当前时间，水位线以数据库时钟为准
+     */
+    LocalDateTime currentTime();
+    
+    /**
+     * 流式遍历家庭中某类实体在 since（含）之后的变更，先输出新增/修改，再输出删除；
+     * since 为空时输出全部未删除的记录
+     */
+    void forEachChange(SyncEntityType type, Long familyId, LocalDateTime since, Consumer<SyncChange> consumer);
+    
+    /**
+     * 记录物理删除的墓碑，需与删除在同一事务中调用
+     */
+    void recordTombstones(Long familyId, SyncEntityType type, Collection<Long> entityIds);
+}
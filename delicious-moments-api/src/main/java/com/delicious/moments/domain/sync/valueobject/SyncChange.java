@@ -0,0 +1,25 @@
+package com.delicious.moments.domain.sync.valueobject;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * 单条记录的变更：新增/修改时 data 为记录的最新字段，删除时 data 为空
+ */
+@Value
+public class SyncChange {
+    
+    SyncEntityType type;
+    Long id;
+    boolean deleted;
+    Map<String, Object> data;
+    
+    public static SyncChange upsert(SyncEntityType type, Long id, Map<String, Object> data) {
+        return new SyncChange(type, id, false, data);
+    }
+    
+    public static SyncChange delete(SyncEntityType type, Long id) {
+        return new SyncChange(type, id, true, null);
+    }
+}
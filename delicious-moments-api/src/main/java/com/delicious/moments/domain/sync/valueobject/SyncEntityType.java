@@ -0,0 +1,20 @@
+package com.delicious.moments.domain.sync.valueobject;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 参与增量同步的实体类型，按此顺序输出（先被引用的实体在前）
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SyncEntityType {
+    
+    CATEGORY("category"),
+    TAG("tag"),
+    DISH("dish"),
+    MENU_ITEM("menu_item"),
+    SHOPPING_ITEM("shopping_item");
+    
+    private final String code;
+}
@@ -1,9 +1,18 @@
 package com.delicious.moments.domain.user.aggregate;
 
 import com.delicious.moments.domain.user.valueobject.UserId;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * 用户聚合根
@@ -21,6 +30,25 @@ public class User {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
+    /**
+     * 自加载以来通过领域行为修改过的字段（setter 仅用于重建，不计入）
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final Set<DirtyField> dirtyFields = EnumSet.noneOf(DirtyField.class);
+    
+    /**
+     * 可追踪修改的字段
+     */
+    public enum DirtyField {
+        UNION_ID,
+        NICKNAME,
+        AVATAR_URL,
+        PHONE
+    }
+    
     /**
      * 创建新用户
      */
@@ -39,15 +67,52 @@ public class User {
      * 更新用户资料
      */
     public void updateProfile(String nickname, String avatarUrl, String phone) {
-        if (nickname != null) {
+        if (nickname != null && !nickname.equals(this.nickname)) {
             this.nickname = nickname;
+            dirtyFields.add(DirtyField.NICKNAME);
         }
-        if (avatarUrl != null) {
+        if (avatarUrl != null && !avatarUrl.equals(this.avatarUrl)) {
             this.avatarUrl = avatarUrl;
+            dirtyFields.add(DirtyField.AVATAR_URL);
         }
-        if (phone != null) {
+        if (phone != null && !phone.equals(this.phone)) {
             this.phone = phone;
+            dirtyFields.add(DirtyField.PHONE);
+        }
+        if (isDirty()) {
+            this.updatedAt = LocalDateTime.now();
+        }
+    }
+    
+    /**
+     * 绑定微信UnionID
+     */
+    public void bindUnionId(String unionId) {
+        if (!Objects.equals(unionId, this.unionId)) {
+            this.unionId = unionId;
+            dirtyFields.add(DirtyField.UNION_ID);
+            this.updatedAt = LocalDateTime.now();
         }
-        this.updatedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * 是否有未保存的修改
+     */
+    public boolean isDirty() {
+        return !dirtyFields.isEmpty();
+    }
+    
+    /**
+     * 未保存的修改字段（只读视图）
+     */
+    public Set<DirtyField> getDirtyFields() {
+        return Collections.unmodifiableSet(dirtyFields);
+    }
+    
+    /**
+     * 保存成功后清除修改标记
+     */
+    public void markClean() {
+        dirtyFields.clear();
     }
 }
@@ -2,7 +2,10 @@ package com.delicious.moments.domain.user.repository;
 
 import com.delicious.moments.domain.user.aggregate.User;
 import com.delicious.moments.domain.user.valueobject.UserId;
+import com.delicious.moments.domain.user.valueobject.UserProfileChange;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,11 +23,38 @@ public interface UserRepository {
      */
     Optional<User> findByOpenId(String openId);
     
+    /**
+     * 只查询用户的版本号（用于条件请求），用户不存在时为空
+     */
+    Optional<Integer> findVersionById(UserId userId);
+    
+    /**
+     * 根据ID批量查询用户，返回以用户ID为键的映射，不存在的ID不包含在结果中
+     */
+    Map<UserId, User> findAllByIds(Collection<UserId> userIds);
+    
+    /**
+     * 根据OpenID批量查询用户，返回以OpenID为键的映射，不存在的OpenID不包含在结果中
+     */
+    Map<String, User> findAllByOpenIds(Collection<String> openIds);
+    
     /**
      * 保存用户
      */
     User save(User user);
     
+    /**
+     * 按OpenID幂等创建用户：用户已存在时返回已有用户，不覆盖其资料
+     */
+    User saveIfAbsent(User user);
+    
+    /**
+     * 批量更新用户资料（不校验版本号，用于异步合并写）
+     *
+     * @return 本次更新后各用户的版本号（同一事务内读取），已删除的用户不包含在内
+     */
+    Map<UserId, Integer> updateProfilesInBatch(Collection<UserProfileChange> changes);
+    
     /**
      * 删除用户
      */
@@ -0,0 +1,27 @@
+package com.delicious.moments.domain.user.valueobject;
+
+import lombok.Value;
+
+/**
+ * 用户资料变更值对象（字段为null表示不修改）
+ */
+@Value
+public class UserProfileChange {
+    
+    UserId userId;
+    String nickname;
+    String avatarUrl;
+    String phone;
+    
+    /**
+     * 与更新的变更合并：newer 中非空字段覆盖当前值
+     */
+    public UserProfileChange mergeWith(UserProfileChange newer) {
+        return new UserProfileChange(
+            userId,
+            newer.nickname != null ? newer.nickname : nickname,
+            newer.avatarUrl != null ? newer.avatarUrl : avatarUrl,
+            newer.phone != null ? newer.phone : phone
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package com.delicious.moments.infrastructure.cache;
+
+import com.delicious.moments.domain.user.aggregate.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 进程内用户二级缓存（L2替身）
+ * <p>
+ * 按条目数和写入时间淘汰，未接入 Redis 时也可作为生产默认实现；多实例部署下其他实例的变更最多延迟一个过期时间可见。
+ */
+public class InMemoryUserCacheStore implements UserCacheStore {
+    
+    private final Cache<Long, User> users;
+    private final Cache<String, Long> openIdIndex;
+    
+    public InMemoryUserCacheStore(long maximumSize, Duration ttl) {
+        this.users = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .build();
+        this.openIdIndex = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+    
+    @Override
+    public User get(Long userId) {
+        User user = users.getIfPresent(userId);
+        return user == null ? null : UserSnapshots.copy(user);
+    }
+    
+    @Override
+    public Long getUserIdByOpenId(String openId) {
+        return openIdIndex.getIfPresent(openId);
+    }
+    
+    @Override
+    public void put(User user) {
+        Long userId = user.getUserId().getValue();
+        users.asMap().merge(userId, UserSnapshots.copy(user),
+            (cached, incoming) -> UserSnapshots.isNewer(cached, incoming) ? cached : incoming);
+        if (user.getOpenId() != null) {
+            openIdIndex.put(user.getOpenId(), userId);
+        }
+    }
+    
+    @Override
+    public void evict(Long userId, String openId) {
+        users.invalidate(userId);
+        if (openId != null) {
+            openIdIndex.invalidate(openId);
+        }
+    }
+}
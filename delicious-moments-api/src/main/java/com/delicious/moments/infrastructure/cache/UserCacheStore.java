@@ -0,0 +1,32 @@
+package com.delicious.moments.infrastructure.cache;
+
+import com.delicious.moments.domain.user.aggregate.User;
+
+/**
+ * 用户二级缓存存储（L2）
+ * <p>
+ * 默认使用进程内实现 {@link InMemoryUserCacheStore}，可替换为 Redis 等分布式实现。
+ * 实现方需保证存取的是用户快照，不与调用方共享可变对象。
+ */
+public interface UserCacheStore {
+    
+    /**
+     * 根据用户ID获取缓存的用户，不存在返回null
+     */
+    User get(Long userId);
+    
+    /**
+     * 根据OpenID获取用户ID，不存在返回null
+     */
+    Long getUserIdByOpenId(String openId);
+    
+    /**
+     * 写入用户（同时写入OpenID索引）
+     */
+    void put(User user);
+    
+    /**
+     * 失效用户及其OpenID索引
+     */
+    void evict(Long userId, String openId);
+}
@@ -0,0 +1,39 @@
+package com.delicious.moments.infrastructure.cache;
+
+import com.delicious.moments.domain.user.aggregate.User;
+
+/**
+ * 用户快照工具
+ * <p>
+ * User 是可变对象，缓存中只保存副本，避免调用方修改后污染缓存。
+ */
+public final class UserSnapshots {
+    
+    private UserSnapshots() {
+    }
+    
+    public static User copy(User source) {
+        User user = new User();
+        user.setUserId(source.getUserId());
+        user.setOpenId(source.getOpenId());
+        user.setUnionId(source.getUnionId());
+        user.setNickname(source.getNickname());
+        user.setAvatarUrl(source.getAvatarUrl());
+        user.setPhone(source.getPhone());
+        user.setVersion(source.getVersion());
+        user.setCreatedAt(source.getCreatedAt());
+        user.setUpdatedAt(source.getUpdatedAt());
+        return user;
+    }
+    
+    /**
+     * 判断 current 的版本是否比 candidate 新
+     */
+    public static boolean isNewer(User current, User candidate) {
+        return version(current) > version(candidate);
+    }
+    
+    public static int version(User user) {
+        return user.getVersion() == null ? 0 : user.getVersion();
+    }
+}
@@ -0,0 +1,34 @@
+package com.delicious.moments.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 菜谱计数配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.dish.counters")
+public class DishCounterProperties {
+    
+    /**
+     * 增量写入数据库的间隔
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+    
+    /**
+     * 是否记录本地追加日志（进程异常退出后重启时恢复未写入的增量）
+     */
+    private boolean appendLogEnabled = true;
+    
+    /**
+     * 追加日志目录
+     */
+    private String appendLogDir = "./data/dish-counters";
+    
+    /**
+     * 实例标识，多实例部署时每个实例须不同：追加日志的段号进度按实例分别记录
+     */
+    private String nodeId = "local";
+}
@@ -0,0 +1,27 @@
+package com.delicious.moments.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 菜谱库导出配置
+ * <p>
+ * 导出期间一直占用一个数据库连接和流式结果集，直到响应写完，慢客户端会拖住连接；
+ * 因此限制单实例的并发导出数和单次导出时长。
+ */
+@Data
+@ConfigurationProperties(prefix = "app.dish.export")
+public class DishExportProperties {
+    
+    /**
+     * 单实例同时进行的导出数上限，超出时拒绝；须明显小于连接池大小
+     */
+    private int maxConcurrent = 2;
+    
+    /**
+     * 单次导出的最长时间，超过后中断响应并释放连接
+     */
+    private Duration maxDuration = Duration.ofMinutes(2);
+}
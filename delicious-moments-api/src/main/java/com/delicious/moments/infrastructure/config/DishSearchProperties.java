@@ -0,0 +1,22 @@
+package com.delicious.moments.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 菜谱检索索引配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.search.dish")
+public class DishSearchProperties {
+    
+    /**
+     * 启动后是否在后台流式加载全部家庭的索引（关闭时按家庭在首次检索时加载）
+     */
+    private boolean rebuildOnStartup = true;
+    
+    /**
+     * 单次检索最多返回条数
+     */
+    private int maxLimit = 50;
+}
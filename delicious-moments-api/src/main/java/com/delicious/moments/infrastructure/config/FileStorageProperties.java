@@ -0,0 +1,56 @@
+package com.delicious.moments.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 文件存储配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.file")
+public class FileStorageProperties {
+    
+    /**
+     * 本地存储目录，代替对象存储
+     */
+    private String uploadPath = "./uploads";
+    
+    /**
+     * 对外访问地址前缀
+     */
+    private String baseUrl = "http://localhost:8080/api/files";
+    
+    /**
+     * 单张图片的大小上限
+     */
+    private DataSize maxImageSize = DataSize.ofMegabytes(10);
+    
+    /**
+     * 缩略图宽度（像素），只生成小于原图宽度的缩略图
+     */
+    private List<Integer> thumbnailWidths = List.of(240, 720);
+    
+    /**
+     * 缩略图生成线程数
+     */
+    private int thumbnailThreads = 2;
+    
+    /**
+     * 缩略图任务队列长度，队列满时跳过生成，首次访问缩略图时再提交
+     */
+    private int thumbnailQueueCapacity = 200;
+    
+    /**
+     * 生成缩略图的原图像素上限（宽 × 高），超过时只保留原图，避免超大尺寸的图片解码耗尽内存
+     */
+    private long thumbnailMaxSourcePixels = 50_000_000L;
+    
+    /**
+     * 图片响应的缓存时间，内容寻址的 URL 内容不会变化
+     */
+    private Duration cacheMaxAge = Duration.ofDays(365);
+}
@@ -0,0 +1,21 @@
+package com.delicious.moments.infrastructure.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 配置，Module 类型的 Bean 由 Spring Boot 自动注册到全局 ObjectMapper
+ */
+@Configuration
+public class JacksonConfig {
+    
+    /**
+     * 用 LambdaMetafactory 生成的访问器替代反射读写属性
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,34 @@
+package com.delicious.moments.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * JWT 认证配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.jwt")
+public class JwtProperties {
+    
+    /**
+     * HMAC 签名密钥，至少 32 字节
+     */
+    private String secret;
+    
+    /**
+     * Token 有效期，纯数字按毫秒解析
+     */
+    private Duration expiration = Duration.ofDays(7);
+    
+    /**
+     * 已验证 Token 的缓存数量，0 表示每次请求都验证签名
+     */
+    private long tokenCacheSize = 10_000;
+    
+    /**
+     * 没有 Token 时是否信任 userId 请求参数，仅用于本地调试
+     */
+    private boolean trustUserIdParam = false;
+}
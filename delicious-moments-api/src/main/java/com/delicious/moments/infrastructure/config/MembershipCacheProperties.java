@@ -0,0 +1,24 @@
+package com.delicious.moments.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 家庭成员身份缓存配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache.membership")
+public class MembershipCacheProperties {
+    
+    /**
+     * 最大缓存的用户数，家庭成员列表按家庭数使用同一上限
+     */
+    private long maximumSize = 100_000;
+    
+    /**
+     * 过期时间，兜底其他实例上的加入/退出（本实例的事件会立即失效）
+     */
+    private Duration ttl = Duration.ofMinutes(30);
+}
@@ -0,0 +1,29 @@
+package com.delicious.moments.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 菜单计划读模型缓存配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache.menu-plan")
+public class MenuPlanCacheProperties {
+    
+    /**
+     * 是否启用缓存
+     */
+    private boolean enabled = true;
+    
+    /**
+     * 最大缓存的（家庭, 日期）数
+     */
+    private long maximumSize = 5_000;
+    
+    /**
+     * 过期时间，点菜人昵称和头像变更不主动失效，最多在此时间后可见
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+}
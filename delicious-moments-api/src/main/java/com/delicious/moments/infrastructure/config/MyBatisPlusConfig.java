@@ -4,8 +4,14 @@ import com.baomidou.mybatisplus.annotation.DbType;
 import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.OptimisticLockerInnerInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
+import com.delicious.moments.infrastructure.metrics.SqlMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 /**
  * MyBatis-Plus 配置
@@ -28,4 +34,31 @@ public class MyBatisPlusConfig {
         
         return interceptor;
     }
+    
+    /**
+     * 默认 SqlSessionTemplate，Mapper 注入此实例
+     * <p>
+     * 声明了批量模板后自动配置不再创建默认模板，需在此显式声明
+     */
+    @Bean
+    @Primary
+    public SqlSessionTemplate sqlSessionTemplate(SqlSessionFactory sqlSessionFactory) {
+        return new SqlSessionTemplate(sqlSessionFactory);
+    }
+    
+    /**
+     * BATCH 执行器的 SqlSessionTemplate，供批量写入共用；随 Spring 事务绑定会话
+     */
+    @Bean
+    public SqlSessionTemplate batchSqlSessionTemplate(SqlSessionFactory sqlSessionFactory) {
+        return new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    }
+    
+    /**
+     * SQL 执行指标拦截器
+     */
+    @Bean
+    public SqlMetricsInterceptor sqlMetricsInterceptor(MeterRegistry meterRegistry) {
+        return new SqlMetricsInterceptor(meterRegistry);
+    }
 }
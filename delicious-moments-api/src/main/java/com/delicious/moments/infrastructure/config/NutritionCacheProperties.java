@@ -0,0 +1,24 @@
+package com.delicious.moments.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 菜单营养合计缓存配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache.nutrition")
+public class NutritionCacheProperties {
+    
+    /**
+     * 最大缓存的菜单计划数
+     */
+    private long maximumSize = 50_000;
+    
+    /**
+     * 过期时间，兜底其他实例上的菜谱营养变更（计划变更会递增版本号，不依赖过期）
+     */
+    private Duration ttl = Duration.ofHours(6);
+}
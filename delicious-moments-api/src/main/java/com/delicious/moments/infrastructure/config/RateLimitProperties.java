@@ -0,0 +1,77 @@
+package com.delicious.moments.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 限流配置
+ * <p>
+ * 按接口分组配置，每组可分别限制单个用户和单个家庭，未认证的请求按客户端地址限制；
+ * 请求按配置顺序匹配第一个分组。
+ */
+@Data
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+    
+    /**
+     * 是否启用限流
+     */
+    private boolean enabled = true;
+    
+    /**
+     * 令牌桶空闲多久后回收（回收前桶已回满，回收不会放宽限制）
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    
+    /**
+     * 接口分组
+     */
+    private List<Group> groups = new ArrayList<>();
+    
+    @Data
+    public static class Group {
+        
+        /**
+         * 分组名称
+         */
+        private String name;
+        
+        /**
+         * 路径模式（不含 context-path），如 /users/**
+         */
+        private List<String> patterns = new ArrayList<>();
+        
+        /**
+         * 单个用户的限制，不配置则不限
+         */
+        private Limit user;
+        
+        /**
+         * 单个家庭的限制（按 familyId 参数），不配置则不限
+         */
+        private Limit family;
+        
+        /**
+         * 未认证请求按客户端地址的限制，不配置则沿用 user 的限制；两者都不配置则不限
+         */
+        private Limit anonymous;
+    }
+    
+    @Data
+    public static class Limit {
+        
+        /**
+         * 桶容量，即允许的突发请求数（不超过 1000）
+         */
+        private int capacity;
+        
+        /**
+         * 每秒补充的请求数
+         */
+        private double permitsPerSecond;
+    }
+}
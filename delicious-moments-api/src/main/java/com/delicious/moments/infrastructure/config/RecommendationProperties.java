@@ -0,0 +1,45 @@
+package com.delicious.moments.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 菜单推荐配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.recommend")
+public class RecommendationProperties {
+    
+    /**
+     * 是否缓存推荐模型并后台拉取烹饪记录；关闭时每次请求都从数据库加载
+     */
+    private boolean enabled = true;
+    
+    /**
+     * 最大缓存的家庭推荐模型数
+     */
+    private long maximumSize = 2000;
+    
+    /**
+     * 推荐模型自最后一次更新起的过期时间，兜底其他实例上的菜谱变更
+     */
+    private Duration ttl = Duration.ofHours(1);
+    
+    /**
+     * 拉取新烹饪记录的间隔
+     */
+    private Duration pollInterval = Duration.ofSeconds(10);
+    
+    /**
+     * 烹饪记录的提交延迟上限（不短于最长写事务）。拉取游标只推进到创建时间早于此窗口的记录，
+     * 窗口内的记录每次拉取都重读，晚提交的记录不会被跳过
+     */
+    private Duration commitLag = Duration.ofMinutes(2);
+    
+    /**
+     * 每批拉取的烹饪记录数
+     */
+    private int batchSize = 1000;
+}
@@ -0,0 +1,61 @@
+package com.delicious.moments.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.Executors;
+
+/**
+ * 请求执行模式配置
+ * <p>
+ * app.server.execution-mode=virtual 时 Tomcat 为每个请求分配一个虚拟线程，
+ * 阻塞在 MySQL 上的请求不再占用平台线程，数据库并发由 Hikari 连接池大小控制。
+ * JDK 21 上虚拟线程在 synchronized 块内阻塞会钉住载体线程：mysql-connector-j 9.0.0 起驱动内部已改用 ReentrantLock，
+ * 请求链路上（含 @Transactional 方法）的应用代码同样应避免在 synchronized 块内做阻塞 I/O。
+ */
+@Slf4j
+@Configuration
+public class ServerExecutionConfig {
+    
+    private static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "app.server", name = "execution-mode", havingValue = "virtual")
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("请求执行模式: 虚拟线程");
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+    
+    /**
+     * 按执行模式推导 Hikari 连接池大小（未显式配置 maximum-pool-size 时）
+     * <p>
+     * 平台线程模式下同时持有连接的请求数不超过 Tomcat 工作线程数，连接池取二者较小值；
+     * 虚拟线程模式下请求数不受限，连接池即为数据库并发上限，固定大小（最小空闲等于最大值）以免突发时临时建连。
+     */
+    @Bean
+    public static BeanPostProcessor hikariPoolSizePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && !environment.containsProperty(MAXIMUM_POOL_SIZE)) {
+                    int dbConcurrency = environment.getProperty("app.server.db-concurrency", Integer.class, 20);
+                    if ("virtual".equals(environment.getProperty("app.server.execution-mode"))) {
+                        dataSource.setMaximumPoolSize(dbConcurrency);
+                        dataSource.setMinimumIdle(dbConcurrency);
+                    } else {
+                        int tomcatThreads = environment.getProperty("server.tomcat.threads.max", Integer.class, 200);
+                        dataSource.setMaximumPoolSize(Math.min(dbConcurrency, tomcatThreads));
+                    }
+                    log.info("数据库连接池大小: {}", dataSource.getMaximumPoolSize());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.delicious.moments.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 家庭统计汇总配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.stats.rollup")
+public class StatsRollupProperties {
+    
+    /**
+     * 是否启用后台统计汇总
+     */
+    private boolean enabled = true;
+    
+    /**
+     * 每批处理的烹饪记录数
+     */
+    private int batchSize = 1000;
+    
+    /**
+     * 增量汇总间隔
+     */
+    private Duration pollInterval = Duration.ofSeconds(30);
+    
+    /**
+     * 烹饪记录的提交延迟上限（不短于最长写事务），只汇总创建时间早于此窗口的记录
+     */
+    private Duration commitLag = Duration.ofMinutes(2);
+    
+    /**
+     * 启动时是否重建全部历史统计
+     */
+    private boolean backfillOnStartup = false;
+    
+    /**
+     * 重建历史统计时并行处理的家庭数
+     */
+    private int backfillParallelism = 4;
+}
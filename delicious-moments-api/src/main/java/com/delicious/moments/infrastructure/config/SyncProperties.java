@@ -0,0 +1,24 @@
+package com.delicious.moments.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 增量同步配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.sync")
+public class SyncProperties {
+    
+    /**
+     * 每个响应分块的最大记录数
+     */
+    private int chunkSize = 200;
+    
+    /**
+     * 水位线相对数据库当前时间的回退量，覆盖时间戳精度（秒）和尚未提交的事务
+     */
+    private Duration safetyLag = Duration.ofSeconds(5);
+}
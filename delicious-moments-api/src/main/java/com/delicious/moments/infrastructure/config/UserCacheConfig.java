@@ -0,0 +1,41 @@
+package com.delicious.moments.infrastructure.config;
+
+import com.delicious.moments.infrastructure.cache.InMemoryUserCacheStore;
+import com.delicious.moments.infrastructure.cache.UserCacheStore;
+import com.delicious.moments.infrastructure.persistence.repository.CachingUserRepository;
+import com.delicious.moments.infrastructure.persistence.repository.UserRepositoryImpl;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 用户缓存配置
+ */
+@Configuration
+@EnableConfigurationProperties(UserCacheProperties.class)
+public class UserCacheConfig {
+    
+    /**
+     * 默认二级缓存：有界的进程内实现，接入 Redis 时替换此 Bean 即可
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public UserCacheStore userCacheStore(UserCacheProperties properties) {
+        return new InMemoryUserCacheStore(properties.getStoreMaximumSize(), properties.getStoreTtl());
+    }
+    
+    /**
+     * 带缓存的用户仓储，作为 UserRepository 的首选实现
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "app.cache.user", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CachingUserRepository cachingUserRepository(UserRepositoryImpl userRepositoryImpl,
+                                                       UserCacheStore userCacheStore,
+                                                       UserCacheProperties properties) {
+        return new CachingUserRepository(userRepositoryImpl, userCacheStore, properties);
+    }
+}
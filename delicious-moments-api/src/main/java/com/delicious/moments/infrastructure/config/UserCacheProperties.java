@@ -0,0 +1,39 @@
+package com.delicious.moments.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 用户缓存配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache.user")
+public class UserCacheProperties {
+    
+    /**
+     * 是否启用用户缓存
+     */
+    private boolean enabled = true;
+    
+    /**
+     * 一级缓存最大条目数
+     */
+    private long maximumSize = 10_000;
+    
+    /**
+     * 一级缓存过期时间
+     */
+    private Duration ttl = Duration.ofMinutes(30);
+    
+    /**
+     * 默认进程内二级缓存的最大条目数
+     */
+    private long storeMaximumSize = 50_000;
+    
+    /**
+     * 默认进程内二级缓存的过期时间，兜底其他实例上的变更
+     */
+    private Duration storeTtl = Duration.ofHours(1);
+}
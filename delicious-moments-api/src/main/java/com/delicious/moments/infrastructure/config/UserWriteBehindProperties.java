@@ -0,0 +1,29 @@
+package com.delicious.moments.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 用户资料异步合并写配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.user.write-behind")
+public class UserWriteBehindProperties {
+    
+    /**
+     * 是否启用异步合并写（关闭时资料更新同步落库）
+     */
+    private boolean enabled = false;
+    
+    /**
+     * 单批最大更新条数，待写入用户数达到该值时立即触发刷写
+     */
+    private int batchSize = 200;
+    
+    /**
+     * 定时刷写间隔
+     */
+    private Duration flushInterval = Duration.ofMillis(500);
+}
@@ -0,0 +1,36 @@
+package com.delicious.moments.infrastructure.config;
+
+import com.delicious.moments.infrastructure.web.ResultHttpMessageConverter;
+import com.delicious.moments.interfaces.interceptor.FamilyAccessInterceptor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Web MVC 配置
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+    
+    private final ObjectMapper objectMapper;
+    private final FamilyAccessInterceptor familyAccessInterceptor;
+    
+    /**
+     * Result 响应优先走专用转换器，其余类型仍由默认的 Jackson 转换器处理
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ResultHttpMessageConverter(objectMapper));
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(familyAccessInterceptor);
+    }
+}
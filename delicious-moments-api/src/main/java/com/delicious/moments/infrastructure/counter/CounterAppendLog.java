@@ -0,0 +1,165 @@
+package com.delicious.moments.infrastructure.counter;
+
+import com.delicious.moments.domain.dish.valueobject.DishCounterType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 计数增量追加日志
+ * <p>
+ * 按段（segment）写入定长记录：菜谱ID(8) + 计数类型(1) + 增量(8)。每次刷写前切换到新段，
+ * 刷写成功后删除已写入数据库的段。只写入页缓存不强制落盘，可以在进程崩溃后恢复，不保证掉电不丢。
+ */
+final class CounterAppendLog implements Closeable {
+    
+    private static final int RECORD_BYTES = Long.BYTES + 1 + Long.BYTES;
+    private static final String PREFIX = "counters-";
+    private static final String SUFFIX = ".log";
+    
+    private final Path dir;
+    private long currentSegment;
+    private FileChannel channel;
+    
+    /**
+     * @param flushedSegment 已写入数据库的最大段号，新段号从已有段和该值中的较大者之后开始，
+     *                       避免日志目录被清理后新段号落入已写入的范围
+     */
+    CounterAppendLog(Path dir, long flushedSegment) {
+        this.dir = dir;
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("创建计数日志目录失败: " + dir, e);
+        }
+        List<Long> existing = segments();
+        long lastSegment = existing.isEmpty() ? 0 : existing.get(existing.size() - 1);
+        currentSegment = Math.max(lastSegment, flushedSegment) + 1;
+        channel = open(currentSegment);
+    }
+    
+    /**
+     * 追加一条记录，可并发调用
+     */
+    void append(long dishId, DishCounterType type, long delta) {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES)
+            .putLong(dishId)
+            .put((byte) type.ordinal())
+            .putLong(delta)
+            .flip();
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("写入计数日志失败", e);
+        }
+    }
+    
+    /**
+     * 关闭当前段并切换到新段，返回被关闭的段号；调用方需保证期间没有并发追加
+     */
+    long rotate() {
+        long closed = currentSegment;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("关闭计数日志失败", e);
+        }
+        currentSegment++;
+        channel = open(currentSegment);
+        return closed;
+    }
+    
+    /**
+     * 回放段号在 (afterSegment, 当前段) 之间的全部记录，末尾不完整的记录忽略
+     */
+    void replay(long afterSegment, RecordVisitor visitor) {
+        for (long segment : segments()) {
+            if (segment <= afterSegment || segment >= currentSegment) {
+                continue;
+            }
+            try {
+                ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(segmentPath(segment)));
+                while (bytes.remaining() >= RECORD_BYTES) {
+                    long dishId = bytes.getLong();
+                    DishCounterType type = DishCounterType.values()[bytes.get()];
+                    visitor.accept(dishId, type, bytes.getLong());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("读取计数日志失败: segment=" + segment, e);
+            }
+        }
+    }
+    
+    /**
+     * 删除段号不超过 segment 的已关闭段
+     */
+    void deleteUpTo(long segment) {
+        for (long existing : segments()) {
+            if (existing <= segment && existing < currentSegment) {
+                try {
+                    Files.deleteIfExists(segmentPath(existing));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("删除计数日志失败: segment=" + existing, e);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 是否存在除当前段外的历史段
+     */
+    boolean hasClosedSegments() {
+        return segments().stream().anyMatch(segment -> segment < currentSegment);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+    
+    private List<Long> segments() {
+        List<Long> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.map(path -> path.getFileName().toString())
+                .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                .forEach(name -> segments.add(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()))));
+        } catch (IOException e) {
+            throw new UncheckedIOException("读取计数日志目录失败: " + dir, e);
+        }
+        segments.sort(null);
+        return segments;
+    }
+    
+    private FileChannel open(long segment) {
+        try {
+            return FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("打开计数日志失败: segment=" + segment, e);
+        }
+    }
+    
+    private Path segmentPath(long segment) {
+        return dir.resolve(PREFIX + String.format("%012d", segment) + SUFFIX);
+    }
+    
+    /**
+     * 日志记录访问器
+     */
+    @FunctionalInterface
+    interface RecordVisitor {
+        
+        void accept(long dishId, DishCounterType type, long delta);
+    }
+}
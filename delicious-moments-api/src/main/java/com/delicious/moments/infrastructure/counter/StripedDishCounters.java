@@ -0,0 +1,226 @@
+package com.delicious.moments.infrastructure.counter;
+
+import cn.hutool.core.collection.ListUtil;
+import com.delicious.moments.domain.dish.service.DishCounters;
+import com.delicious.moments.domain.dish.valueobject.DishCounterType;
+import com.delicious.moments.infrastructure.config.DishCounterProperties;
+import com.delicious.moments.infrastructure.persistence.mapper.DishMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.StatsCheckpointMapper;
+import com.delicious.moments.infrastructure.persistence.po.DishCounterDeltaPO;
+import com.delicious.moments.infrastructure.persistence.po.StatsCheckpointPO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 分段累加的菜谱计数
+ * <p>
+ * 每个菜谱一组 {@link LongAdder}，并发累加分散到多个单元，不会在同一行上争用。
+ * 后台定时把累计的增量用一条 UPDATE 合并写入（不经过乐观锁），写入成功后从累加器中减去已写入的部分。
+ * <p>
+ * 启用追加日志时，每次累加同时写入本地日志；刷写时在写锁内切换日志段并读取增量快照，
+ * 使快照恰好等于已关闭日志段的内容。段号随增量在同一事务中记入 stats_checkpoint（按实例一行），
+ * 重启时跳过已写入的段，回放其余的段。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(DishCounterProperties.class)
+public class StripedDishCounters implements DishCounters {
+    
+    static final String CHECKPOINT_PREFIX = "dish_counters:";
+    
+    /**
+     * 单条 UPDATE 合并的最大菜谱数
+     */
+    private static final int UPDATE_BATCH_SIZE = 500;
+    
+    private final DishMapper dishMapper;
+    private final StatsCheckpointMapper checkpointMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final DishCounterProperties properties;
+    
+    private final ConcurrentMap<Long, Cell> cells = new ConcurrentHashMap<>();
+    /**
+     * 累加持有读锁（共享），切换日志段和读取快照持有写锁
+     */
+    private final ReentrantReadWriteLock cutLock = new ReentrantReadWriteLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private CounterAppendLog appendLog;
+    /**
+     * 本实例的日志段进度名：各实例的段号互不相关，不能共用一行
+     */
+    private String checkpointName;
+    private ScheduledExecutorService flusher;
+    
+    @PostConstruct
+    public void start() {
+        if (properties.isAppendLogEnabled()) {
+            checkpointName = CHECKPOINT_PREFIX + properties.getNodeId();
+            StatsCheckpointPO checkpoint = checkpointMapper.selectById(checkpointName);
+            long flushedSegment = checkpoint == null ? 0 : checkpoint.getLastRecordId();
+            appendLog = new CounterAppendLog(Path.of(properties.getAppendLogDir()), flushedSegment);
+            recover(flushedSegment);
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "dish-counter-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.getFlushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+        if (appendLog != null) {
+            try {
+                appendLog.close();
+            } catch (IOException e) {
+                log.warn("关闭计数日志失败", e);
+            }
+        }
+    }
+    
+    @Override
+    public void increment(Long dishId, DishCounterType type, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        cutLock.readLock().lock();
+        try {
+            if (appendLog != null) {
+                appendLog.append(dishId, type, delta);
+            }
+            cells.computeIfAbsent(dishId, id -> new Cell()).adder(type).add(delta);
+        } finally {
+            cutLock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public long pending(Long dishId, DishCounterType type) {
+        Cell cell = cells.get(dishId);
+        return cell == null ? 0 : cell.adder(type).sum();
+    }
+    
+    /**
+     * 把累计的增量写入数据库
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            long segment = 0;
+            Map<Long, long[]> snapshot = new HashMap<>();
+            cutLock.writeLock().lock();
+            try {
+                if (appendLog != null) {
+                    segment = appendLog.rotate();
+                }
+                cells.forEach((dishId, cell) -> {
+                    long cooked = cell.cooked.sum();
+                    long liked = cell.liked.sum();
+                    if (cooked == 0 && liked == 0) {
+                        // 写锁内没有进行中的累加，可以安全移除
+                        cells.remove(dishId, cell);
+                    } else {
+                        snapshot.put(dishId, new long[]{cooked, liked});
+                    }
+                });
+            } finally {
+                cutLock.writeLock().unlock();
+            }
+            
+            if (!snapshot.isEmpty()) {
+                write(snapshot, segment);
+                snapshot.forEach((dishId, delta) -> {
+                    Cell cell = cells.get(dishId);
+                    cell.cooked.add(-delta[0]);
+                    cell.liked.add(-delta[1]);
+                });
+                log.debug("菜谱计数写入: dishes={}, segment={}", snapshot.size(), segment);
+            }
+            if (appendLog != null) {
+                appendLog.deleteUpTo(segment);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    private void write(Map<Long, long[]> snapshot, long segment) {
+        List<DishCounterDeltaPO> deltas = new ArrayList<>(snapshot.size());
+        snapshot.forEach((dishId, delta) -> deltas.add(new DishCounterDeltaPO(dishId, delta[0], delta[1])));
+        transactionTemplate.executeWithoutResult(status -> {
+            for (List<DishCounterDeltaPO> chunk : ListUtil.partition(deltas, UPDATE_BATCH_SIZE)) {
+                dishMapper.addCounterDeltas(chunk);
+            }
+            if (appendLog != null) {
+                checkpointMapper.upsert(checkpointName, segment);
+            }
+        });
+    }
+    
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("菜谱计数写入失败，待下次重试: pending={}", cells.size(), e);
+        }
+    }
+    
+    /**
+     * 回放上次未写入数据库的日志段
+     */
+    private void recover(long flushedSegment) {
+        if (!appendLog.hasClosedSegments()) {
+            return;
+        }
+        appendLog.deleteUpTo(flushedSegment);
+        long[] replayed = new long[1];
+        appendLog.replay(flushedSegment, (dishId, type, delta) -> {
+            cells.computeIfAbsent(dishId, id -> new Cell()).adder(type).add(delta);
+            replayed[0]++;
+        });
+        log.info("恢复未写入的菜谱计数: records={}, dishes={}", replayed[0], cells.size());
+    }
+    
+    /**
+     * 单个菜谱的累加单元
+     */
+    private static final class Cell {
+        
+        private final LongAdder cooked = new LongAdder();
+        private final LongAdder liked = new LongAdder();
+        
+        LongAdder adder(DishCounterType type) {
+            return type == DishCounterType.COOKED ? cooked : liked;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.delicious.moments.infrastructure.metrics;
+
+/**
+ * 当前请求内的数据库调用统计（线程绑定）
+ * <p>
+ * 由 {@link RequestMetricsFilter} 在请求开始时开启、结束时取出，
+ * {@link SqlMetricsInterceptor} 每执行一条语句累加一次；非请求线程上的调用不计入。
+ */
+public final class DbCallContext {
+    
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+    
+    private DbCallContext() {
+    }
+    
+    static void begin() {
+        CURRENT.set(new Stats());
+    }
+    
+    static Stats end() {
+        Stats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+    
+    static void record(long elapsedNanos) {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.calls++;
+            stats.nanos += elapsedNanos;
+        }
+    }
+    
+    static final class Stats {
+        int calls;
+        long nanos;
+    }
+}
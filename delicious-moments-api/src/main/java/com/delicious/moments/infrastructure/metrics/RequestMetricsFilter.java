@@ -0,0 +1,58 @@
+package com.delicious.moments.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求级数据库调用指标过滤器
+ * <p>
+ * 按接口记录每个请求的数据库调用次数（http.server.db.calls）和数据库总耗时（http.server.db.time）。
+ * 接口整体耗时由 Actuator 内置的 http.server.requests 记录。
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+    
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    
+    private final MeterRegistry meterRegistry;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        DbCallContext.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DbCallContext.Stats stats = DbCallContext.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+            String method = request.getMethod();
+            
+            DistributionSummary.builder("http.server.db.calls")
+                .description("单个请求的数据库调用次数")
+                .tag("uri", uri)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(stats.calls);
+            Timer.builder("http.server.db.time")
+                .description("单个请求的数据库总耗时")
+                .tag("uri", uri)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(stats.nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.delicious.moments.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 执行指标拦截器
+ * <p>
+ * 按 Mapper 语句记录执行耗时（db.statement）和影响/返回行数（db.statement.rows），
+ * 并累加到当前请求的数据库调用统计中。
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "update",
+        args = {MappedStatement.class, Object.class})
+})
+public class SqlMetricsInterceptor implements Interceptor {
+    
+    private final MeterRegistry meterRegistry;
+    private final Map<String, StatementMeters> meters = new ConcurrentHashMap<>();
+    
+    public SqlMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        long start = System.nanoTime();
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            StatementMeters statementMeters = meters.computeIfAbsent(ms.getId(), id -> register(ms));
+            statementMeters.latency.record(elapsed, TimeUnit.NANOSECONDS);
+            long rows = rows(result);
+            if (rows >= 0) {
+                statementMeters.rows.record(rows);
+            }
+            DbCallContext.record(elapsed);
+        }
+    }
+    
+    private StatementMeters register(MappedStatement ms) {
+        String statement = shortId(ms.getId());
+        String type = ms.getSqlCommandType().name();
+        return new StatementMeters(
+            Timer.builder("db.statement")
+                .description("SQL 语句执行耗时")
+                .tag("statement", statement)
+                .tag("type", type)
+                .register(meterRegistry),
+            DistributionSummary.builder("db.statement.rows")
+                .description("SQL 语句返回或影响的行数")
+                .tag("statement", statement)
+                .tag("type", type)
+                .register(meterRegistry)
+        );
+    }
+    
+    /**
+     * 去掉包名，保留 Mapper.method
+     */
+    private static String shortId(String id) {
+        int methodDot = id.lastIndexOf('.');
+        int classDot = methodDot > 0 ? id.lastIndexOf('.', methodDot - 1) : -1;
+        return id.substring(classDot + 1);
+    }
+    
+    /**
+     * 查询返回行数或更新影响行数，批量执行等无法确定时返回 -1
+     */
+    private static long rows(Object result) {
+        if (result instanceof List<?> list) {
+            return list.size();
+        }
+        if (result instanceof Integer count) {
+            return count;
+        }
+        return -1;
+    }
+    
+    private record StatementMeters(Timer latency, DistributionSummary rows) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.delicious.moments.infrastructure.persistence.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.delicious.moments.infrastructure.persistence.po.CookingEventPO;
+import com.delicious.moments.infrastructure.persistence.po.CookingFactPO;
+import com.delicious.moments.infrastructure.persistence.po.CookingRecordPO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.List;
+
+/**
+ * 烹饪记录Mapper
+ */
+@Mapper
+public interface CookingRecordMapper extends BaseMapper<CookingRecordPO> {
+    
+    /**
+     * 按ID顺序查询ID在 (afterRecordId, maxRecordId] 内的烹饪事实
+     */
+    List<CookingFactPO> selectFactsAfter(@Param("afterRecordId") long afterRecordId,
+                                         @Param("maxRecordId") long maxRecordId,
+                                         @Param("limit") int limit);
+    
+    /**
+     * 流式查询家庭不超过指定ID的烹饪事实
+     */
+    void streamFamilyFacts(@Param("familyId") Long familyId,
+                           @Param("maxRecordId") long maxRecordId,
+                           ResultHandler<CookingFactPO> handler);
+    
+    /**
+     * 查询有烹饪记录的家庭ID
+     */
+    List<Long> selectFamilyIds(@Param("maxRecordId") long maxRecordId);
+    
+    /**
+     * 创建时间早于提交延迟窗口的最大记录ID：事务不超过窗口时，不超过此ID的记录都已提交
+     */
+    Long selectSettledMaxId(@Param("lagSeconds") long lagSeconds);
+    
+    /**
+     * 按ID顺序查询指定ID之后的推荐用烹饪历史
+     */
+    List<CookingEventPO> selectEventsAfter(@Param("afterRecordId") long afterRecordId, @Param("limit") int limit);
+    
+    /**
+     * 流式查询家庭的全部推荐用烹饪历史
+     */
+    void streamFamilyEvents(@Param("familyId") Long familyId, ResultHandler<CookingEventPO> handler);
+}
@@ -0,0 +1,22 @@
+package com.delicious.moments.infrastructure.persistence.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.delicious.moments.infrastructure.persistence.po.DishCategoryPO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDateTime;
+
+/**
+ * 菜谱分类Mapper
+ */
+@Mapper
+public interface DishCategoryMapper extends BaseMapper<DishCategoryPO> {
+    
+    /**
+     * 流式查询家庭在 since（含）之后变更的分类，since 为空时查询全部
+     */
+    void streamChangedSince(@Param("familyId") Long familyId, @Param("since") LocalDateTime since,
+                            ResultHandler<DishCategoryPO> handler);
+}
@@ -0,0 +1,24 @@
+package com.delicious.moments.infrastructure.persistence.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.delicious.moments.infrastructure.persistence.po.DishIngredientPO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDate;
+
+/**
+ * 菜谱食材Mapper
+ */
+@Mapper
+public interface DishIngredientMapper extends BaseMapper<DishIngredientPO> {
+    
+    /**
+     * 流式查询家庭在日期范围内菜单项对应的食材（menu_plan_aggregate ⨝ menu_item ⨝ dish_ingredient）
+     */
+    void streamByMenuRange(@Param("familyId") Long familyId,
+                           @Param("startDate") LocalDate startDate,
+                           @Param("endDate") LocalDate endDate,
+                           ResultHandler<DishIngredientPO> handler);
+}
@@ -0,0 +1,65 @@
+package com.delicious.moments.infrastructure.persistence.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.delicious.moments.infrastructure.persistence.po.DishArchiveRowPO;
+import com.delicious.moments.infrastructure.persistence.po.DishCounterDeltaPO;
+import com.delicious.moments.infrastructure.persistence.po.DishFeaturePO;
+import com.delicious.moments.infrastructure.persistence.po.DishPO;
+import com.delicious.moments.infrastructure.persistence.po.DishSearchDocumentPO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 菜谱Mapper
+ */
+@Mapper
+public interface DishMapper extends BaseMapper<DishPO> {
+    
+    /**
+     * 键集分页查询：返回排在（afterSortValue, afterId）之后的 limit 条记录
+     *
+     * @param sortKey        排序方式：latest / cooked / liked
+     * @param afterSortValue 上一页最后一条的排序值，第一页传 null
+     * @param afterId        上一页最后一条的ID，第一页传 null
+     */
+    List<DishPO> selectKeysetPage(@Param("familyId") Long familyId,
+                                  @Param("sortKey") String sortKey,
+                                  @Param("afterSortValue") Long afterSortValue,
+                                  @Param("afterId") Long afterId,
+                                  @Param("limit") int limit);
+    
+    /**
+     * 查询单个未删除菜谱的检索文档
+     */
+    DishSearchDocumentPO selectSearchDocument(@Param("id") Long id);
+    
+    /**
+     * 按家庭ID顺序流式查询未删除菜谱的检索文档，familyId 为空时查询全部
+     */
+    void streamSearchDocuments(@Param("familyId") Long familyId, ResultHandler<DishSearchDocumentPO> handler);
+    
+    /**
+     * 流式查询家庭在 since（含）之后变更的菜谱，包含已软删除的；since 为空时查询全部未删除的菜谱
+     */
+    void streamChangedSince(@Param("familyId") Long familyId, @Param("since") LocalDateTime since,
+                            ResultHandler<DishPO> handler);
+    
+    /**
+     * 流式查询家庭未删除菜谱的导出行（菜谱 ⨝ 食材），按菜谱ID排序，同一菜谱的行相邻
+     */
+    void streamArchiveRows(@Param("familyId") Long familyId, ResultHandler<DishArchiveRowPO> handler);
+    
+    /**
+     * 流式查询家庭未删除菜谱的推荐特征
+     */
+    void streamFeatures(@Param("familyId") Long familyId, ResultHandler<DishFeaturePO> handler);
+    
+    /**
+     * 一条语句累加多个菜谱的制作/点赞次数，不检查也不递增版本号
+     */
+    int addCounterDeltas(@Param("deltas") List<DishCounterDeltaPO> deltas);
+}
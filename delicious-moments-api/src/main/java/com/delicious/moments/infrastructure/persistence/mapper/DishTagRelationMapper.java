@@ -0,0 +1,12 @@
+package com.delicious.moments.infrastructure.persistence.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.delicious.moments.infrastructure.persistence.po.DishTagRelationPO;
+import org.apache.ibatis.annotations.Mapper;
+
+/**
+ * 菜谱标签关联Mapper
+ */
+@Mapper
+public interface DishTagRelationMapper extends BaseMapper<DishTagRelationPO> {
+}
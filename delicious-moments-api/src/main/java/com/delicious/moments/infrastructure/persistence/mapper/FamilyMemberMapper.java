@@ -0,0 +1,25 @@
+package com.delicious.moments.infrastructure.persistence.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.delicious.moments.infrastructure.persistence.po.FamilyMemberPO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 家庭成员Mapper
+ */
+@Mapper
+public interface FamilyMemberMapper extends BaseMapper<FamilyMemberPO> {
+    
+    /**
+     * 查询用户在正常状态家庭中的成员记录，只返回 family_id 和 role
+     */
+    List<FamilyMemberPO> selectActiveByUserId(@Param("userId") Long userId);
+    
+    /**
+     * 查询家庭全部成员的用户ID
+     */
+    List<Long> selectUserIdsByFamilyId(@Param("familyId") Long familyId);
+}
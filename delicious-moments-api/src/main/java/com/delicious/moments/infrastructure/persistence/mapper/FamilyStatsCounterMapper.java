@@ -0,0 +1,28 @@
+package com.delicious.moments.infrastructure.persistence.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.delicious.moments.infrastructure.persistence.po.FamilyStatsCounterPO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 家庭统计日计数Mapper
+ */
+@Mapper
+public interface FamilyStatsCounterMapper extends BaseMapper<FamilyStatsCounterPO> {
+    
+    /**
+     * 批量累加计数，不存在时插入
+     */
+    int upsertIncrements(@Param("counters") List<FamilyStatsCounterPO> counters);
+    
+    /**
+     * 按维度和键汇总日期范围内的计数
+     */
+    List<FamilyStatsCounterPO> sumByDateRange(@Param("familyId") Long familyId,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,20 @@
+package com.delicious.moments.infrastructure.persistence.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.delicious.moments.infrastructure.persistence.po.FamilyStatsSnapshotPO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 家庭统计快照Mapper
+ */
+@Mapper
+public interface FamilyStatsSnapshotMapper extends BaseMapper<FamilyStatsSnapshotPO> {
+    
+    /**
+     * 按（家庭, 日期, 周期类型）批量写入或覆盖快照
+     */
+    int upsertBatch(@Param("snapshots") List<FamilyStatsSnapshotPO> snapshots);
+}
@@ -0,0 +1,30 @@
+package com.delicious.moments.infrastructure.persistence.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.delicious.moments.infrastructure.persistence.po.MenuItemNutritionPO;
+import com.delicious.moments.infrastructure.persistence.po.MenuItemPO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 菜单项Mapper
+ */
+@Mapper
+public interface MenuItemMapper extends BaseMapper<MenuItemPO> {
+    
+    /**
+     * 流式查询家庭所有菜单计划中在 since（含）之后变更的菜单项（带菜单日期），since 为空时查询全部
+     */
+    void streamChangedSince(@Param("familyId") Long familyId, @Param("since") LocalDateTime since,
+                            ResultHandler<MenuItemPO> handler);
+    
+    /**
+     * 查询菜单计划中菜单项的菜谱营养信息，菜谱已删除的菜单项不返回
+     */
+    List<MenuItemNutritionPO> selectNutrition(@Param("menuPlanIds") Collection<Long> menuPlanIds);
+}
@@ -0,0 +1,22 @@
+package com.delicious.moments.infrastructure.persistence.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.delicious.moments.infrastructure.persistence.po.MenuPlanPO;
+import com.delicious.moments.infrastructure.persistence.po.MenuPlanViewRowPO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 菜单计划Mapper
+ */
+@Mapper
+public interface MenuPlanMapper extends BaseMapper<MenuPlanPO> {
+    
+    /**
+     * 一次联表查询家庭某天的菜单计划、菜单项、菜谱和点菜人，按菜单项ID排序
+     */
+    List<MenuPlanViewRowPO> selectPlanView(@Param("familyId") Long familyId, @Param("menuDate") LocalDate menuDate);
+}
@@ -0,0 +1,38 @@
+package com.delicious.moments.infrastructure.persistence.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.delicious.moments.infrastructure.persistence.po.ShoppingItemPO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 购物项Mapper
+ */
+@Mapper
+public interface ShoppingItemMapper extends BaseMapper<ShoppingItemPO> {
+    
+    /**
+     * 多值批量插入购物项
+     */
+    int insertBatch(@Param("items") List<ShoppingItemPO> items);
+    
+    /**
+     * 按（清单, 名称, 单位）累加数量，不存在时插入
+     */
+    int upsertQuantities(@Param("items") List<ShoppingItemPO> items);
+    
+    /**
+     * 流式查询家庭所有购物清单中在 since（含）之后变更的购物项，since 为空时查询全部
+     */
+    void streamChangedSince(@Param("familyId") Long familyId, @Param("since") LocalDateTime since,
+                            ResultHandler<ShoppingItemPO> handler);
+    
+    /**
+     * 删除清单中数量不大于0的购物项
+     */
+    int deleteNonPositive(@Param("shoppingListId") Long shoppingListId);
+}
@@ -0,0 +1,36 @@
+package com.delicious.moments.infrastructure.persistence.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.delicious.moments.infrastructure.persistence.po.ShoppingListPO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 购物清单Mapper
+ */
+@Mapper
+public interface ShoppingListMapper extends BaseMapper<ShoppingListPO> {
+    
+    /**
+     * 只查询购物清单的版本号，清单不存在时为 null
+     */
+    Integer selectVersionById(@Param("id") Long id);
+    
+    /**
+     * 只查询购物清单所属的家庭ID，清单不存在时为 null
+     */
+    Long selectFamilyIdById(@Param("id") Long id);
+    
+    /**
+     * 查询覆盖指定日期且未完成的购物清单ID
+     */
+    List<Long> selectOpenIdsCovering(@Param("familyId") Long familyId, @Param("date") LocalDate date);
+    
+    /**
+     * 按购物项重新计算总项数和已勾选项数，并递增版本号
+     */
+    int refreshItemCounts(@Param("id") Long id);
+}
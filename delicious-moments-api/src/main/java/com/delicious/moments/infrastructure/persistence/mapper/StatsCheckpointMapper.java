@@ -0,0 +1,25 @@
+package com.delicious.moments.infrastructure.persistence.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.delicious.moments.infrastructure.persistence.po.StatsCheckpointPO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 统计处理进度Mapper
+ */
+@Mapper
+public interface StatsCheckpointMapper extends BaseMapper<StatsCheckpointPO> {
+    
+    int upsert(@Param("name") String name, @Param("lastRecordId") long lastRecordId);
+    
+    /**
+     * 插入进度为 0 的进度行，已存在时忽略
+     */
+    int insertIgnore(@Param("name") String name);
+    
+    /**
+     * 锁定进度行并返回进度，行已被其他事务锁定时跳过（返回 null）
+     */
+    Long selectForUpdateSkipLocked(@Param("name") String name);
+}
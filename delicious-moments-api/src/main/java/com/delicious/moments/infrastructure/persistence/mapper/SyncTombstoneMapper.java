@@ -0,0 +1,39 @@
+package com.delicious.moments.infrastructure.persistence.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.delicious.moments.infrastructure.persistence.po.SyncTombstonePO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 同步墓碑Mapper
+ */
+@Mapper
+public interface SyncTombstoneMapper extends BaseMapper<SyncTombstonePO> {
+    
+    /**
+     * 数据库当前时间
+     */
+    LocalDateTime selectNow();
+    
+    /**
+     * 多值批量写入同一类型实体的墓碑
+     */
+    int insertBatch(@Param("familyId") Long familyId, @Param("entityType") String entityType,
+                    @Param("entityIds") Collection<Long> entityIds);
+    
+    /**
+     * 为清单中数量不大于0、即将被删除的购物项写入墓碑
+     */
+    int insertForNonPositiveShoppingItems(@Param("shoppingListId") Long shoppingListId);
+    
+    /**
+     * 流式查询家庭某类实体在 since（含）之后的墓碑
+     */
+    void streamSince(@Param("familyId") Long familyId, @Param("entityType") String entityType,
+                     @Param("since") LocalDateTime since, ResultHandler<SyncTombstonePO> handler);
+}
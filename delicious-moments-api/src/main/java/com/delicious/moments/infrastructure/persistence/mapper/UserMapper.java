@@ -1,12 +1,66 @@
 package com.delicious.moments.infrastructure.persistence.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.delicious.moments.infrastructure.persistence.po.UserAggregatePO;
+import com.delicious.moments.infrastructure.persistence.po.UserChangePO;
 import com.delicious.moments.infrastructure.persistence.po.UserPO;
+import com.delicious.moments.infrastructure.persistence.po.UserProfilePO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 用户Mapper
  */
 @Mapper
 public interface UserMapper extends BaseMapper<UserPO> {
+    
+    /**
+     * 根据ID联表查询用户聚合（含用户资料）
+     */
+    UserAggregatePO selectAggregateById(@Param("id") Long id);
+    
+    /**
+     * 根据OpenID联表查询用户聚合（含用户资料）
+     */
+    UserAggregatePO selectAggregateByOpenId(@Param("openid") String openid);
+    
+    /**
+     * 只查询用户聚合的版本号，用户不存在或已删除时为 null
+     */
+    Integer selectVersionById(@Param("id") Long id);
+    
+    /**
+     * 根据ID列表批量查询用户版本号，只返回 id 和 version
+     */
+    List<UserPO> selectVersionsByIds(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 根据ID列表联表批量查询用户聚合
+     */
+    List<UserAggregatePO> selectAggregatesByIds(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 根据OpenID列表联表批量查询用户聚合
+     */
+    List<UserAggregatePO> selectAggregatesByOpenIds(@Param("openids") Collection<String> openids);
+    
+    /**
+     * 按OpenID插入用户，OpenID已存在时不修改数据，并通过 LAST_INSERT_ID 回填已有用户ID
+     */
+    int upsertByOpenId(UserPO userPO);
+    
+    /**
+     * 增量更新用户聚合：只更新已修改的列并递增版本号，资料有修改时联表更新 user_profile
+     *
+     * @return 受影响行数，0 表示版本冲突或用户不存在
+     */
+    int updateChangedFields(UserChangePO change);
+    
+    /**
+     * 覆盖用户资料中的非空字段并递增版本号（不校验版本号，SQL 固定以便 JDBC 批量执行）
+     */
+    int updateProfileFields(UserProfilePO profilePO);
 }
@@ -9,4 +9,9 @@ import org.apache.ibatis.annotations.Mapper;
  */
 @Mapper
 public interface UserProfileMapper extends BaseMapper<UserProfilePO> {
+    
+    /**
+     * 插入用户资料，user_id 已存在时忽略，返回实际插入行数
+     */
+    int insertIgnore(UserProfilePO profilePO);
 }
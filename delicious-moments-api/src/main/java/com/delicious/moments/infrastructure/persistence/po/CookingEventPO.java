@@ -0,0 +1,27 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 推荐用烹饪历史查询结果（烹饪记录 + 菜单项餐次和点菜人）
+ */
+@Data
+public class CookingEventPO {
+    
+    private Long id;
+    
+    private Long familyId;
+    
+    private Long dishId;
+    
+    private LocalDate cookingDate;
+    
+    private String mealTime;
+    
+    /**
+     * 点菜人，没有菜单项时为厨师
+     */
+    private Long memberId;
+}
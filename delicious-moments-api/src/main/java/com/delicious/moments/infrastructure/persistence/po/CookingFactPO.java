@@ -0,0 +1,27 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 烹饪事实查询结果（烹饪记录 + 菜谱标签）
+ */
+@Data
+public class CookingFactPO {
+    
+    private Long id;
+    
+    private Long familyId;
+    
+    private Long dishId;
+    
+    private Long cookId;
+    
+    private LocalDate cookingDate;
+    
+    /**
+     * 逗号分隔的标签ID
+     */
+    private String tagIds;
+}
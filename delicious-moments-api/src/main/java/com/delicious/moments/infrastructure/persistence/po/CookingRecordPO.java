@@ -0,0 +1,43 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import com.baomidou.mybatisplus.annotation.FieldFill;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableField;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 烹饪记录持久化对象
+ */
+@Data
+@TableName("cooking_record")
+public class CookingRecordPO {
+    
+    @TableId(type = IdType.AUTO)
+    private Long id;
+    
+    private Long familyId;
+    
+    private Long dishId;
+    
+    private Long menuItemId;
+    
+    private Long cookId;
+    
+    private LocalDate cookingDate;
+    
+    private Integer actualTime;
+    
+    private Integer difficultyRating;
+    
+    private Integer tasteRating;
+    
+    private String notes;
+    
+    @TableField(fill = FieldFill.INSERT)
+    private LocalDateTime createdAt;
+}
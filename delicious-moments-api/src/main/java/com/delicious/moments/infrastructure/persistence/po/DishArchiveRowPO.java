@@ -0,0 +1,49 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * 菜谱导出的联表查询行（菜谱 ⨝ 食材），同一菜谱的行相邻，没有食材时食材字段为空
+ */
+@Data
+public class DishArchiveRowPO {
+    
+    private Long id;
+    
+    private String name;
+    
+    private String coverUrl;
+    
+    private String description;
+    
+    private Integer calories;
+    
+    private BigDecimal protein;
+    
+    private BigDecimal fat;
+    
+    private BigDecimal carbohydrate;
+    
+    private Integer cookingTime;
+    
+    private Integer difficulty;
+    
+    private Integer servingSize;
+    
+    private String categoryName;
+    
+    /**
+     * 标签名称，以换行分隔
+     */
+    private String tagNames;
+    
+    private String ingredientName;
+    
+    private BigDecimal ingredientQuantity;
+    
+    private String ingredientUnit;
+    
+    private String ingredientCategory;
+}
@@ -0,0 +1,33 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import com.baomidou.mybatisplus.annotation.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 菜谱分类持久化对象
+ */
+@Data
+@TableName("dish_category")
+public class DishCategoryPO {
+    
+    @TableId(type = IdType.AUTO)
+    private Long id;
+    
+    private Long familyId;
+    
+    private String name;
+    
+    private String icon;
+    
+    private Integer sortOrder;
+    
+    private Integer dishCount;
+    
+    @TableField(fill = FieldFill.INSERT)
+    private LocalDateTime createdAt;
+    
+    @TableField(fill = FieldFill.INSERT_UPDATE)
+    private LocalDateTime updatedAt;
+}
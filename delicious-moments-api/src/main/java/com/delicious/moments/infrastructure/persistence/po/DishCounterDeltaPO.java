@@ -0,0 +1,20 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 菜谱计数增量
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DishCounterDeltaPO {
+    
+    private Long dishId;
+    
+    private Long cookedDelta;
+    
+    private Long likedDelta;
+}
@@ -0,0 +1,34 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * 菜谱推荐特征查询结果
+ */
+@Data
+public class DishFeaturePO {
+    
+    private Long id;
+    
+    private String name;
+    
+    private Integer calories;
+    
+    private Integer cookedCount;
+    
+    private Integer likeCount;
+    
+    private BigDecimal avgRating;
+    
+    /**
+     * 逗号分隔的标签ID
+     */
+    private String tagIds;
+    
+    /**
+     * 逗号分隔的点赞用户ID
+     */
+    private String likedBy;
+}
@@ -0,0 +1,31 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * 菜谱食材持久化对象
+ */
+@Data
+@TableName("dish_ingredient")
+public class DishIngredientPO {
+    
+    @TableId(type = IdType.AUTO)
+    private Long id;
+    
+    private Long dishId;
+    
+    private String name;
+    
+    private BigDecimal quantity;
+    
+    private String unit;
+    
+    private String category;
+    
+    private Integer sortOrder;
+}
@@ -0,0 +1,64 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import com.baomidou.mybatisplus.annotation.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 菜谱持久化对象
+ */
+@Data
+@TableName("dish_aggregate")
+public class DishPO {
+    
+    @TableId(type = IdType.AUTO)
+    private Long id;
+    
+    private Long familyId;
+    
+    private Long creatorId;
+    
+    private String name;
+    
+    private String coverUrl;
+    
+    private String description;
+    
+    private Integer calories;
+    
+    private BigDecimal protein;
+    
+    private BigDecimal fat;
+    
+    private BigDecimal carbohydrate;
+    
+    private Integer cookingTime;
+    
+    private Integer difficulty;
+    
+    private Integer servingSize;
+    
+    private Integer cookedCount;
+    
+    private Integer likeCount;
+    
+    private BigDecimal avgRating;
+    
+    private Long categoryId;
+    
+    private Integer status;
+    
+    @Version
+    private Integer version;
+    
+    @TableField(fill = FieldFill.INSERT)
+    private LocalDateTime createdAt;
+    
+    @TableField(fill = FieldFill.INSERT_UPDATE)
+    private LocalDateTime updatedAt;
+    
+    @TableLogic
+    private LocalDateTime deletedAt;
+}
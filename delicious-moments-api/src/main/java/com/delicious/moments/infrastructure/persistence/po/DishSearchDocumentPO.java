@@ -0,0 +1,29 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * 菜谱检索文档查询结果
+ */
+@Data
+public class DishSearchDocumentPO {
+    
+    private Long id;
+    
+    private Long familyId;
+    
+    private String name;
+    
+    /**
+     * 换行分隔的标签名称
+     */
+    private String tagNames;
+    
+    private Integer cookedCount;
+    
+    private Integer likeCount;
+    
+    private BigDecimal avgRating;
+}
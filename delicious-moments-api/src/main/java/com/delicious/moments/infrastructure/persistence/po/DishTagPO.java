@@ -0,0 +1,31 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import com.baomidou.mybatisplus.annotation.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 菜谱标签持久化对象
+ */
+@Data
+@TableName("dish_tag")
+public class DishTagPO {
+    
+    @TableId(type = IdType.AUTO)
+    private Long id;
+    
+    private Long familyId;
+    
+    private String name;
+    
+    private String color;
+    
+    private Integer useCount;
+    
+    @TableField(fill = FieldFill.INSERT)
+    private LocalDateTime createdAt;
+    
+    @TableField(fill = FieldFill.INSERT_UPDATE)
+    private LocalDateTime updatedAt;
+}
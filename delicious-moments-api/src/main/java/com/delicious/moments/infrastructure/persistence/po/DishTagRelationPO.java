@@ -0,0 +1,24 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import com.baomidou.mybatisplus.annotation.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 菜谱标签关联持久化对象
+ */
+@Data
+@TableName("dish_tag_relation")
+public class DishTagRelationPO {
+    
+    @TableId(type = IdType.AUTO)
+    private Long id;
+    
+    private Long dishId;
+    
+    private Long tagId;
+    
+    @TableField(fill = FieldFill.INSERT)
+    private LocalDateTime createdAt;
+}
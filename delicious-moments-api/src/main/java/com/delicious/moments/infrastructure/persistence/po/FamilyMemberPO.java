@@ -0,0 +1,27 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import com.baomidou.mybatisplus.annotation.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 家庭成员持久化对象
+ */
+@Data
+@TableName("family_member")
+public class FamilyMemberPO {
+    
+    @TableId(type = IdType.AUTO)
+    private Long id;
+    
+    private Long familyId;
+    
+    private Long userId;
+    
+    private String role;
+    
+    private String nickname;
+    
+    private LocalDateTime joinedAt;
+}
@@ -0,0 +1,29 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 家庭统计日计数持久化对象
+ */
+@Data
+@TableName("family_stats_daily_counter")
+public class FamilyStatsCounterPO {
+    
+    @TableId(type = IdType.AUTO)
+    private Long id;
+    
+    private Long familyId;
+    
+    private LocalDate statDate;
+    
+    private Integer dimension;
+    
+    private Long keyId;
+    
+    private Long countValue;
+}
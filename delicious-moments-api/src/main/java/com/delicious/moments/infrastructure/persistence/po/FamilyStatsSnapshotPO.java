@@ -0,0 +1,52 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import com.baomidou.mybatisplus.annotation.FieldFill;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableField;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 家庭统计快照持久化对象
+ */
+@Data
+@TableName("family_stats_snapshot")
+public class FamilyStatsSnapshotPO {
+    
+    @TableId(type = IdType.AUTO)
+    private Long id;
+    
+    private Long familyId;
+    
+    private LocalDate snapshotDate;
+    
+    private String periodType;
+    
+    private Integer totalDishesCooked;
+    
+    private Integer uniqueDishesCooked;
+    
+    private Long mostCookedDishId;
+    
+    private Integer mostCookedCount;
+    
+    private Long topCookUserId;
+    
+    private Integer topCookCount;
+    
+    private Long topTagId;
+    
+    private Integer topTagCount;
+    
+    private BigDecimal avgCalories;
+    
+    private BigDecimal totalCost;
+    
+    @TableField(fill = FieldFill.INSERT)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,26 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * 菜单项营养查询结果（菜单项 + 菜谱每份营养和份量）
+ */
+@Data
+public class MenuItemNutritionPO {
+    
+    private Long menuPlanId;
+    
+    private String mealTime;
+    
+    private Integer calories;
+    
+    private BigDecimal protein;
+    
+    private BigDecimal fat;
+    
+    private BigDecimal carbohydrate;
+    
+    private Integer servingSize;
+}
@@ -0,0 +1,46 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import com.baomidou.mybatisplus.annotation.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 菜单项持久化对象
+ */
+@Data
+@TableName("menu_item")
+public class MenuItemPO {
+    
+    @TableId(type = IdType.AUTO)
+    private Long id;
+    
+    private Long menuPlanId;
+    
+    private Long dishId;
+    
+    private Long selectorId;
+    
+    private String mealTime;
+    
+    private String dayType;
+    
+    private Integer status;
+    
+    private Integer actualCookingTime;
+    
+    private String notes;
+    
+    @TableField(fill = FieldFill.INSERT)
+    private LocalDateTime createdAt;
+    
+    @TableField(fill = FieldFill.INSERT_UPDATE)
+    private LocalDateTime updatedAt;
+    
+    /**
+     * 所属菜单计划的日期（联表查询时填充）
+     */
+    @TableField(exist = false)
+    private LocalDate menuDate;
+}
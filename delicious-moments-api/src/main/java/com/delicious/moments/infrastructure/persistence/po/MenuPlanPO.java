@@ -0,0 +1,37 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import com.baomidou.mybatisplus.annotation.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 菜单计划持久化对象
+ */
+@Data
+@TableName("menu_plan_aggregate")
+public class MenuPlanPO {
+    
+    @TableId(type = IdType.AUTO)
+    private Long id;
+    
+    private Long familyId;
+    
+    private LocalDate menuDate;
+    
+    private Integer status;
+    
+    private Integer totalCalories;
+    
+    private Integer totalItems;
+    
+    @Version
+    private Integer version;
+    
+    @TableField(fill = FieldFill.INSERT)
+    private LocalDateTime createdAt;
+    
+    @TableField(fill = FieldFill.INSERT_UPDATE)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,44 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import lombok.Data;
+
+/**
+ * 菜单计划读模型的联表查询行（计划 + 菜单项 + 菜谱 + 点菜人），没有菜单项时菜单项相关字段为空
+ */
+@Data
+public class MenuPlanViewRowPO {
+    
+    private Long menuPlanId;
+    
+    private Integer planStatus;
+    
+    private Integer totalCalories;
+    
+    private Integer totalItems;
+    
+    private Integer version;
+    
+    private Long menuItemId;
+    
+    private String mealTime;
+    
+    private Integer itemStatus;
+    
+    private String notes;
+    
+    private Long dishId;
+    
+    private String dishName;
+    
+    private String coverUrl;
+    
+    private Integer calories;
+    
+    private Integer cookingTime;
+    
+    private Long selectorId;
+    
+    private String selectorNickname;
+    
+    private String selectorAvatarUrl;
+}
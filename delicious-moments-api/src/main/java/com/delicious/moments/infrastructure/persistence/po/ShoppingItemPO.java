@@ -0,0 +1,44 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableField;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 购物项持久化对象
+ */
+@Data
+@TableName("shopping_item")
+public class ShoppingItemPO {
+    
+    @TableId(type = IdType.AUTO)
+    private Long id;
+    
+    private Long shoppingListId;
+    
+    private String ingredientName;
+    
+    private BigDecimal quantity;
+    
+    private String unit;
+    
+    private String category;
+    
+    @TableField("is_checked")
+    private Boolean checked;
+    
+    private BigDecimal estimatedPrice;
+    
+    private BigDecimal actualPrice;
+    
+    private String notes;
+    
+    private LocalDateTime checkedAt;
+    
+    private LocalDateTime updatedAt;
+}
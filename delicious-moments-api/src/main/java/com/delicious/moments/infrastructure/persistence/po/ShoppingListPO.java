@@ -0,0 +1,46 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import com.baomidou.mybatisplus.annotation.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 购物清单持久化对象
+ */
+@Data
+@TableName("shopping_list_aggregate")
+public class ShoppingListPO {
+    
+    @TableId(type = IdType.AUTO)
+    private Long id;
+    
+    private Long familyId;
+    
+    private LocalDate startDate;
+    
+    private LocalDate endDate;
+    
+    private Integer status;
+    
+    private Integer totalItems;
+    
+    private Integer checkedItems;
+    
+    private BigDecimal estimatedCost;
+    
+    private BigDecimal actualCost;
+    
+    @Version
+    private Integer version;
+    
+    @TableField(fill = FieldFill.INSERT)
+    private LocalDateTime createdAt;
+    
+    @TableField(fill = FieldFill.INSERT_UPDATE)
+    private LocalDateTime updatedAt;
+    
+    private LocalDateTime completedAt;
+}
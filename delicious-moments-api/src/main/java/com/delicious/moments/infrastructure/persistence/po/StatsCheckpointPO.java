@@ -0,0 +1,23 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 统计处理进度持久化对象
+ */
+@Data
+@TableName("stats_checkpoint")
+public class StatsCheckpointPO {
+    
+    @TableId(type = IdType.INPUT)
+    private String name;
+    
+    private Long lastRecordId;
+    
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,27 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 同步墓碑持久化对象
+ */
+@Data
+@TableName("sync_tombstone")
+public class SyncTombstonePO {
+    
+    @TableId(type = IdType.AUTO)
+    private Long id;
+    
+    private Long familyId;
+    
+    private String entityType;
+    
+    private Long entityId;
+    
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,16 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import lombok.Data;
+
+/**
+ * 用户聚合持久化对象（user_aggregate 联表 user_profile 的查询结果）
+ */
+@Data
+public class UserAggregatePO {
+    
+    private Long id;
+    
+    private UserPO user;
+    
+    private UserProfilePO profile;
+}
@@ -0,0 +1,33 @@
+package com.delicious.moments.infrastructure.persistence.po;
+
+import lombok.Data;
+
+/**
+ * 用户增量更新参数（仅更新标记为已修改的列）
+ */
+@Data
+public class UserChangePO {
+    
+    private Long id;
+    
+    /**
+     * 期望的当前版本号（乐观锁）
+     */
+    private Integer version;
+    
+    private String unionId;
+    private boolean unionIdChanged;
+    
+    private String nickname;
+    private boolean nicknameChanged;
+    
+    private String avatarUrl;
+    private boolean avatarUrlChanged;
+    
+    private String phone;
+    private boolean phoneChanged;
+    
+    public boolean isProfileChanged() {
+        return nicknameChanged || avatarUrlChanged || phoneChanged;
+    }
+}
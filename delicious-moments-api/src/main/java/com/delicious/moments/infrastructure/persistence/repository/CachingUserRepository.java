@@ -0,0 +1,291 @@
+package com.delicious.moments.infrastructure.persistence.repository;
+
+import com.delicious.moments.domain.user.aggregate.User;
+import com.delicious.moments.domain.user.repository.UserRepository;
+import com.delicious.moments.domain.user.valueobject.UserId;
+import com.delicious.moments.domain.user.valueobject.UserProfileChange;
+import com.delicious.moments.infrastructure.cache.UserCacheStore;
+import com.delicious.moments.infrastructure.cache.UserSnapshots;
+import com.delicious.moments.infrastructure.config.UserCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 带两级缓存的用户仓储（装饰 {@link UserRepositoryImpl}）
+ * <p>
+ * L1 为进程内有界缓存（容量 + TTL 淘汰），同时按用户ID和OpenID索引；L2 为可插拔的 {@link UserCacheStore}。
+ * 写操作在落库后失效两级缓存，并在事务结束后再失效一次；同时记录写入后的版本号下限，
+ * 低于该版本的并发读结果不会再被写回缓存。命中、未命中和淘汰计数以 cache.user.* 指标暴露。
+ */
+@Slf4j
+public class CachingUserRepository implements UserRepository, MeterBinder {
+    
+    private final UserRepository delegate;
+    private final UserCacheStore l2;
+    
+    private final Cache<Long, User> users;
+    private final Cache<String, Long> openIdIndex;
+    private final Cache<Long, Integer> versionFloors;
+    
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    
+    public CachingUserRepository(UserRepository delegate, UserCacheStore l2, UserCacheProperties properties) {
+        this.delegate = delegate;
+        this.l2 = l2;
+        this.users = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .evictionListener((Long key, User value, RemovalCause cause) -> evictions.increment())
+            .build();
+        this.openIdIndex = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .build();
+        this.versionFloors = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .build();
+    }
+    
+    @Override
+    public Optional<User> findById(UserId userId) {
+        User cached = lookup(userId.getValue());
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        
+        misses.increment();
+        Optional<User> loaded = delegate.findById(userId);
+        loaded.ifPresent(this::populate);
+        return loaded;
+    }
+    
+    @Override
+    public Optional<User> findByOpenId(String openId) {
+        Long id = openIdIndex.getIfPresent(openId);
+        if (id == null) {
+            id = l2.getUserIdByOpenId(openId);
+        }
+        if (id != null) {
+            return findById(UserId.of(id));
+        }
+        
+        misses.increment();
+        Optional<User> loaded = delegate.findByOpenId(openId);
+        loaded.ifPresent(this::populate);
+        return loaded;
+    }
+    
+    /**
+     * L1 命中时直接取缓存用户的版本号（写操作会失效 L1），否则走单列主键查询，不访问 L2
+     */
+    @Override
+    public Optional<Integer> findVersionById(UserId userId) {
+        User cached = users.getIfPresent(userId.getValue());
+        if (cached != null) {
+            return Optional.of(UserSnapshots.version(cached));
+        }
+        return delegate.findVersionById(userId);
+    }
+    
+    @Override
+    public Map<UserId, User> findAllByIds(Collection<UserId> userIds) {
+        Map<UserId, User> result = new HashMap<>(userIds.size() * 2);
+        List<UserId> missing = new ArrayList<>();
+        for (UserId userId : userIds) {
+            if (result.containsKey(userId)) {
+                continue;
+            }
+            User cached = lookup(userId.getValue());
+            if (cached != null) {
+                result.put(userId, cached);
+            } else {
+                missing.add(userId);
+            }
+        }
+        
+        if (!missing.isEmpty()) {
+            misses.add(missing.size());
+            Map<UserId, User> loaded = delegate.findAllByIds(missing);
+            loaded.values().forEach(this::populate);
+            result.putAll(loaded);
+        }
+        return result;
+    }
+    
+    @Override
+    public Map<String, User> findAllByOpenIds(Collection<String> openIds) {
+        Map<String, User> result = new HashMap<>(openIds.size() * 2);
+        List<String> missing = new ArrayList<>();
+        for (String openId : openIds) {
+            if (result.containsKey(openId)) {
+                continue;
+            }
+            Long id = openIdIndex.getIfPresent(openId);
+            if (id == null) {
+                id = l2.getUserIdByOpenId(openId);
+            }
+            User cached = id == null ? null : lookup(id);
+            if (cached != null) {
+                result.put(openId, cached);
+            } else {
+                missing.add(openId);
+            }
+        }
+        
+        if (!missing.isEmpty()) {
+            misses.add(missing.size());
+            Map<String, User> loaded = delegate.findAllByOpenIds(missing);
+            loaded.values().forEach(this::populate);
+            result.putAll(loaded);
+        }
+        return result;
+    }
+    
+    @Override
+    public User save(User user) {
+        boolean changed = user.getUserId() == null || user.isDirty();
+        User saved = delegate.save(user);
+        if (changed) {
+            invalidate(saved.getUserId().getValue(), saved.getOpenId(), UserSnapshots.version(saved));
+        }
+        return saved;
+    }
+    
+    @Override
+    public User saveIfAbsent(User user) {
+        return delegate.saveIfAbsent(user);
+    }
+    
+    /**
+     * 以落库后读出的版本号作为下限，刷写提交前加载的旧资料不会再写回缓存；未返回版本号的用户已删除
+     */
+    @Override
+    public Map<UserId, Integer> updateProfilesInBatch(Collection<UserProfileChange> changes) {
+        Map<UserId, Integer> versions = delegate.updateProfilesInBatch(changes);
+        for (UserProfileChange change : changes) {
+            Long id = change.getUserId().getValue();
+            User cached = users.getIfPresent(id);
+            invalidate(id, cached == null ? null : cached.getOpenId(),
+                versions.getOrDefault(change.getUserId(), Integer.MAX_VALUE));
+        }
+        return versions;
+    }
+    
+    @Override
+    public void delete(UserId userId) {
+        User cached = users.getIfPresent(userId.getValue());
+        delegate.delete(userId);
+        invalidate(userId.getValue(), cached == null ? null : cached.getOpenId(), Integer.MAX_VALUE);
+    }
+    
+    @Override
+    public boolean existsByOpenId(String openId) {
+        Long id = openIdIndex.getIfPresent(openId);
+        if (id != null && users.getIfPresent(id) != null) {
+            l1Hits.increment();
+            return true;
+        }
+        return delegate.existsByOpenId(openId);
+    }
+    
+    /**
+     * 注册缓存命中、未命中、淘汰计数和 L1 大小指标
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.user.hits", l1Hits, LongAdder::sum)
+            .tag("level", "l1").register(registry);
+        FunctionCounter.builder("cache.user.hits", l2Hits, LongAdder::sum)
+            .tag("level", "l2").register(registry);
+        FunctionCounter.builder("cache.user.misses", misses, LongAdder::sum).register(registry);
+        FunctionCounter.builder("cache.user.evictions", evictions, LongAdder::sum).register(registry);
+        Gauge.builder("cache.user.size", users, Cache::estimatedSize).register(registry);
+    }
+    
+    /**
+     * 依次查找 L1、L2，命中时返回副本，未命中返回null（不计入 miss）
+     */
+    private User lookup(Long id) {
+        User cached = users.getIfPresent(id);
+        if (cached != null) {
+            l1Hits.increment();
+            return UserSnapshots.copy(cached);
+        }
+        
+        User fromL2 = l2.get(id);
+        if (fromL2 != null && !isStale(fromL2)) {
+            l2Hits.increment();
+            putL1(fromL2);
+            return fromL2;
+        }
+        return null;
+    }
+    
+    private void populate(User user) {
+        if (isStale(user)) {
+            return;
+        }
+        putL1(user);
+        l2.put(user);
+    }
+    
+    private void putL1(User user) {
+        Long id = user.getUserId().getValue();
+        users.asMap().merge(id, UserSnapshots.copy(user),
+            (cached, incoming) -> UserSnapshots.isNewer(cached, incoming) ? cached : incoming);
+        if (user.getOpenId() != null) {
+            openIdIndex.put(user.getOpenId(), id);
+        }
+    }
+    
+    private boolean isStale(User user) {
+        Integer floor = versionFloors.getIfPresent(user.getUserId().getValue());
+        return floor != null && UserSnapshots.version(user) < floor;
+    }
+    
+    private void invalidate(Long userId, String openId, int versionFloor) {
+        versionFloors.asMap().merge(userId, versionFloor, Math::max);
+        evict(userId, openId);
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        versionFloors.invalidate(userId);
+                    }
+                    evict(userId, openId);
+                }
+            });
+        }
+    }
+    
+    private void evict(Long userId, String openId) {
+        users.invalidate(userId);
+        if (openId != null) {
+            openIdIndex.invalidate(openId);
+        }
+        l2.evict(userId, openId);
+        log.debug("用户缓存失效: userId={}", userId);
+    }
+}
@@ -0,0 +1,338 @@
+package com.delicious.moments.infrastructure.persistence.repository;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.delicious.moments.domain.dish.aggregate.Dish;
+import com.delicious.moments.domain.dish.repository.DishRepository;
+import com.delicious.moments.domain.dish.valueobject.DishArchive;
+import com.delicious.moments.domain.dish.valueobject.DishCursor;
+import com.delicious.moments.domain.dish.valueobject.DishId;
+import com.delicious.moments.domain.dish.valueobject.DishSearchDocument;
+import com.delicious.moments.domain.dish.valueobject.DishSortKey;
+import com.delicious.moments.domain.dish.valueobject.NutritionInfo;
+import com.delicious.moments.infrastructure.persistence.mapper.DishCategoryMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.DishIngredientMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.DishMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.DishTagMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.DishTagRelationMapper;
+import com.delicious.moments.infrastructure.persistence.po.DishArchiveRowPO;
+import com.delicious.moments.infrastructure.persistence.po.DishCategoryPO;
+import com.delicious.moments.infrastructure.persistence.po.DishIngredientPO;
+import com.delicious.moments.infrastructure.persistence.po.DishPO;
+import com.delicious.moments.infrastructure.persistence.po.DishSearchDocumentPO;
+import com.delicious.moments.infrastructure.persistence.po.DishTagPO;
+import com.delicious.moments.infrastructure.persistence.po.DishTagRelationPO;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 菜谱仓储实现
+ */
+@Repository
+public class DishRepositoryImpl implements DishRepository {
+    
+    private final DishMapper dishMapper;
+    private final SqlSessionTemplate batchSession;
+    
+    public DishRepositoryImpl(DishMapper dishMapper,
+                              @Qualifier("batchSqlSessionTemplate") SqlSessionTemplate batchSession) {
+        this.dishMapper = dishMapper;
+        this.batchSession = batchSession;
+    }
+    
+    @Override
+    public Optional<Dish> findById(DishId dishId) {
+        return Optional.ofNullable(dishMapper.selectById(dishId.getValue()))
+            .map(DishRepositoryImpl::toDomain);
+    }
+    
+    @Override
+    public List<Dish> findPage(Long familyId, DishSortKey sortKey, DishCursor cursor, int limit) {
+        Long afterSortValue = cursor == null ? null : cursor.getSortValue();
+        Long afterId = cursor == null ? null : cursor.getId();
+        return dishMapper.selectKeysetPage(familyId, sortKey.getCode(), afterSortValue, afterId, limit).stream()
+            .map(DishRepositoryImpl::toDomain)
+            .toList();
+    }
+    
+    @Override
+    public long countByFamily(Long familyId) {
+        return dishMapper.selectCount(new LambdaQueryWrapper<DishPO>()
+            .eq(DishPO::getFamilyId, familyId));
+    }
+    
+    @Override
+    public Optional<DishSearchDocument> findSearchDocument(DishId dishId) {
+        return Optional.ofNullable(dishMapper.selectSearchDocument(dishId.getValue()))
+            .map(DishRepositoryImpl::toSearchDocument);
+    }
+    
+    @Override
+    public void forEachSearchDocument(Long familyId, Consumer<DishSearchDocument> consumer) {
+        dishMapper.streamSearchDocuments(familyId,
+            context -> consumer.accept(toSearchDocument(context.getResultObject())));
+    }
+    
+    @Override
+    public void forEachArchive(Long familyId, Consumer<DishArchive> consumer) {
+        ArchiveCollector collector = new ArchiveCollector(consumer);
+        dishMapper.streamArchiveRows(familyId, context -> collector.accept(context.getResultObject()));
+        collector.flush();
+    }
+    
+    /**
+     * 所有语句走同一个 BATCH 会话：插入按 JDBC 批量发送（配合 rewriteBatchedStatements 改写为多值 INSERT），
+     * 菜谱插入后先 flush 取回自增ID，再批量插入食材和标签关联
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public int importArchives(Long familyId, Long creatorId, List<DishArchive> archives) {
+        if (archives.isEmpty()) {
+            return 0;
+        }
+        Map<String, Long> categoryIds = resolveCategories(batchSession, familyId, archives);
+        Map<String, Long> tagIds = resolveTags(batchSession, familyId, archives);
+        
+        DishMapper batchDishMapper = batchSession.getMapper(DishMapper.class);
+        List<DishPO> dishPOs = new ArrayList<>(archives.size());
+        for (DishArchive archive : archives) {
+            DishPO po = toPO(familyId, creatorId, archive, categoryIds);
+            batchDishMapper.insert(po);
+            dishPOs.add(po);
+        }
+        batchSession.flushStatements();
+        
+        DishIngredientMapper batchIngredientMapper = batchSession.getMapper(DishIngredientMapper.class);
+        DishTagRelationMapper batchRelationMapper = batchSession.getMapper(DishTagRelationMapper.class);
+        Map<Long, Integer> categoryDeltas = new HashMap<>();
+        Map<Long, Integer> tagDeltas = new HashMap<>();
+        int rows = dishPOs.size();
+        for (int i = 0; i < archives.size(); i++) {
+            DishArchive archive = archives.get(i);
+            Long dishId = dishPOs.get(i).getId();
+            List<DishArchive.Ingredient> ingredients = archive.getIngredients();
+            for (int j = 0; j < ingredients.size(); j++) {
+                batchIngredientMapper.insert(toIngredientPO(dishId, j, ingredients.get(j)));
+                rows++;
+            }
+            for (String tag : new LinkedHashSet<>(archive.getTags())) {
+                DishTagRelationPO relationPO = new DishTagRelationPO();
+                relationPO.setDishId(dishId);
+                relationPO.setTagId(tagIds.get(tag));
+                batchRelationMapper.insert(relationPO);
+                tagDeltas.merge(relationPO.getTagId(), 1, Integer::sum);
+                rows++;
+            }
+            if (dishPOs.get(i).getCategoryId() != null) {
+                categoryDeltas.merge(dishPOs.get(i).getCategoryId(), 1, Integer::sum);
+            }
+        }
+        
+        DishCategoryMapper batchCategoryMapper = batchSession.getMapper(DishCategoryMapper.class);
+        categoryDeltas.forEach((categoryId, delta) -> batchCategoryMapper.update(null,
+            new LambdaUpdateWrapper<DishCategoryPO>()
+                .setSql("dish_count = dish_count + " + delta)
+                .eq(DishCategoryPO::getId, categoryId)));
+        DishTagMapper batchTagMapper = batchSession.getMapper(DishTagMapper.class);
+        tagDeltas.forEach((tagId, delta) -> batchTagMapper.update(null,
+            new LambdaUpdateWrapper<DishTagPO>()
+                .setSql("use_count = use_count + " + delta)
+                .eq(DishTagPO::getId, tagId)));
+        batchSession.flushStatements();
+        return rows;
+    }
+    
+    /**
+     * 分类名称到ID，家庭中不存在的分类批量创建
+     */
+    private static Map<String, Long> resolveCategories(SqlSessionTemplate batchSession, Long familyId,
+                                                       List<DishArchive> archives) {
+        Set<String> names = new LinkedHashSet<>();
+        for (DishArchive archive : archives) {
+            if (archive.getCategoryName() != null) {
+                names.add(archive.getCategoryName());
+            }
+        }
+        Map<String, Long> ids = new HashMap<>();
+        if (names.isEmpty()) {
+            return ids;
+        }
+        DishCategoryMapper mapper = batchSession.getMapper(DishCategoryMapper.class);
+        for (DishCategoryPO po : mapper.selectList(new LambdaQueryWrapper<DishCategoryPO>()
+                .eq(DishCategoryPO::getFamilyId, familyId)
+                .in(DishCategoryPO::getName, names))) {
+            ids.putIfAbsent(po.getName(), po.getId());
+        }
+        List<DishCategoryPO> created = new ArrayList<>();
+        for (String name : names) {
+            if (!ids.containsKey(name)) {
+                DishCategoryPO po = new DishCategoryPO();
+                po.setFamilyId(familyId);
+                po.setName(name);
+                po.setSortOrder(0);
+                po.setDishCount(0);
+                mapper.insert(po);
+                created.add(po);
+            }
+        }
+        if (!created.isEmpty()) {
+            batchSession.flushStatements();
+            created.forEach(po -> ids.put(po.getName(), po.getId()));
+        }
+        return ids;
+    }
+    
+    /**
+     * 标签名称到ID，家庭中不存在的标签批量创建
+     */
+    private static Map<String, Long> resolveTags(SqlSessionTemplate batchSession, Long familyId,
+                                                 List<DishArchive> archives) {
+        Set<String> names = new LinkedHashSet<>();
+        for (DishArchive archive : archives) {
+            names.addAll(archive.getTags());
+        }
+        Map<String, Long> ids = new HashMap<>();
+        if (names.isEmpty()) {
+            return ids;
+        }
+        DishTagMapper mapper = batchSession.getMapper(DishTagMapper.class);
+        for (DishTagPO po : mapper.selectList(new LambdaQueryWrapper<DishTagPO>()
+                .eq(DishTagPO::getFamilyId, familyId)
+                .in(DishTagPO::getName, names))) {
+            ids.putIfAbsent(po.getName(), po.getId());
+        }
+        List<DishTagPO> created = new ArrayList<>();
+        for (String name : names) {
+            if (!ids.containsKey(name)) {
+                DishTagPO po = new DishTagPO();
+                po.setFamilyId(familyId);
+                po.setName(name);
+                po.setUseCount(0);
+                mapper.insert(po);
+                created.add(po);
+            }
+        }
+        if (!created.isEmpty()) {
+            batchSession.flushStatements();
+            created.forEach(po -> ids.put(po.getName(), po.getId()));
+        }
+        return ids;
+    }
+    
+    private static DishPO toPO(Long familyId, Long creatorId, DishArchive archive, Map<String, Long> categoryIds) {
+        DishPO po = new DishPO();
+        po.setFamilyId(familyId);
+        po.setCreatorId(creatorId);
+        po.setName(archive.getName());
+        po.setCoverUrl(archive.getCoverUrl());
+        po.setDescription(archive.getDescription());
+        po.setCalories(archive.getCalories() == null ? 0 : archive.getCalories());
+        po.setProtein(archive.getProtein());
+        po.setFat(archive.getFat());
+        po.setCarbohydrate(archive.getCarbohydrate());
+        po.setCookingTime(archive.getCookingTime() == null ? 0 : archive.getCookingTime());
+        po.setDifficulty(archive.getDifficulty() == null ? 1 : archive.getDifficulty());
+        po.setServingSize(archive.getServingSize() == null ? 2 : archive.getServingSize());
+        po.setCookedCount(0);
+        po.setLikeCount(0);
+        po.setCategoryId(archive.getCategoryName() == null ? null : categoryIds.get(archive.getCategoryName()));
+        po.setStatus(1);
+        po.setVersion(0);
+        return po;
+    }
+    
+    private static DishIngredientPO toIngredientPO(Long dishId, int sortOrder, DishArchive.Ingredient ingredient) {
+        DishIngredientPO po = new DishIngredientPO();
+        po.setDishId(dishId);
+        po.setName(ingredient.getName());
+        po.setQuantity(ingredient.getQuantity());
+        po.setUnit(ingredient.getUnit());
+        po.setCategory(ingredient.getCategory());
+        po.setSortOrder(sortOrder);
+        return po;
+    }
+    
+    private static DishSearchDocument toSearchDocument(DishSearchDocumentPO po) {
+        List<String> tags = po.getTagNames() == null || po.getTagNames().isEmpty()
+            ? List.of()
+            : List.of(po.getTagNames().split("\n"));
+        return new DishSearchDocument(po.getId(), po.getFamilyId(), po.getName(), tags,
+            po.getCookedCount() == null ? 0 : po.getCookedCount(),
+            po.getLikeCount() == null ? 0 : po.getLikeCount(),
+            po.getAvgRating() == null ? 0 : po.getAvgRating().doubleValue());
+    }
+    
+    static Dish toDomain(DishPO po) {
+        Dish dish = new Dish();
+        dish.setId(DishId.of(po.getId()));
+        dish.setFamilyId(po.getFamilyId());
+        dish.setCreatorId(po.getCreatorId());
+        dish.setName(po.getName());
+        dish.setCoverUrl(po.getCoverUrl());
+        dish.setDescription(po.getDescription());
+        dish.setNutrition(new NutritionInfo(
+            po.getCalories() == null ? 0 : po.getCalories(), po.getProtein(), po.getFat(), po.getCarbohydrate()));
+        dish.setCookingTime(po.getCookingTime());
+        dish.setDifficulty(po.getDifficulty());
+        dish.setServingSize(po.getServingSize());
+        dish.setCookedCount(po.getCookedCount() == null ? 0 : po.getCookedCount());
+        dish.setLikeCount(po.getLikeCount() == null ? 0 : po.getLikeCount());
+        dish.setAvgRating(po.getAvgRating());
+        dish.setCategoryId(po.getCategoryId());
+        dish.setVersion(po.getVersion());
+        dish.setCreatedAt(po.getCreatedAt());
+        dish.setUpdatedAt(po.getUpdatedAt());
+        return dish;
+    }
+    
+    /**
+     * 把同一菜谱的相邻行合并为一个归档，同一时刻只保留一个菜谱的行
+     */
+    private static final class ArchiveCollector {
+        
+        private final Consumer<DishArchive> consumer;
+        private DishArchiveRowPO current;
+        private final List<DishArchive.Ingredient> ingredients = new ArrayList<>();
+        
+        ArchiveCollector(Consumer<DishArchive> consumer) {
+            this.consumer = consumer;
+        }
+        
+        void accept(DishArchiveRowPO row) {
+            if (current == null || !current.getId().equals(row.getId())) {
+                flush();
+                current = row;
+            }
+            if (row.getIngredientName() != null) {
+                ingredients.add(new DishArchive.Ingredient(row.getIngredientName(), row.getIngredientQuantity(),
+                    row.getIngredientUnit(), row.getIngredientCategory()));
+            }
+        }
+        
+        void flush() {
+            if (current == null) {
+                return;
+            }
+            List<String> tags = current.getTagNames() == null || current.getTagNames().isEmpty()
+                ? List.of()
+                : List.of(current.getTagNames().split("\n"));
+            consumer.accept(new DishArchive(current.getName(), current.getCoverUrl(), current.getDescription(),
+                current.getCalories(), current.getProtein(), current.getFat(), current.getCarbohydrate(),
+                current.getCookingTime(), current.getDifficulty(), current.getServingSize(),
+                current.getCategoryName(), tags, List.copyOf(ingredients)));
+            current = null;
+            ingredients.clear();
+        }
+    }
+}
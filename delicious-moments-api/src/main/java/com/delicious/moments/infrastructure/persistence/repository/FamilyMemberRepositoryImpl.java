@@ -0,0 +1,37 @@
+package com.delicious.moments.infrastructure.persistence.repository;
+
+import com.delicious.moments.domain.family.repository.FamilyMemberRepository;
+import com.delicious.moments.domain.family.valueobject.FamilyMembership;
+import com.delicious.moments.domain.family.valueobject.FamilyRole;
+import com.delicious.moments.infrastructure.persistence.mapper.FamilyMemberMapper;
+import com.delicious.moments.infrastructure.persistence.po.FamilyMemberPO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 家庭成员仓储实现
+ */
+@Repository
+@RequiredArgsConstructor
+public class FamilyMemberRepositoryImpl implements FamilyMemberRepository {
+    
+    private final FamilyMemberMapper familyMemberMapper;
+    
+    @Override
+    public List<FamilyMembership> findByUserId(Long userId) {
+        List<FamilyMemberPO> pos = familyMemberMapper.selectActiveByUserId(userId);
+        List<FamilyMembership> memberships = new ArrayList<>(pos.size());
+        for (FamilyMemberPO po : pos) {
+            memberships.add(new FamilyMembership(po.getFamilyId(), FamilyRole.fromCode(po.getRole())));
+        }
+        return memberships;
+    }
+    
+    @Override
+    public List<Long> findUserIdsByFamilyId(Long familyId) {
+        return familyMemberMapper.selectUserIdsByFamilyId(familyId);
+    }
+}
@@ -0,0 +1,182 @@
+package com.delicious.moments.infrastructure.persistence.repository;
+
+import cn.hutool.core.collection.ListUtil;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.delicious.moments.domain.stats.aggregate.FamilyStatsSnapshot;
+import com.delicious.moments.domain.stats.repository.FamilyStatsRepository;
+import com.delicious.moments.domain.stats.service.FamilyStatsAccumulator;
+import com.delicious.moments.domain.stats.valueobject.CookingFact;
+import com.delicious.moments.domain.stats.valueobject.StatsCounter;
+import com.delicious.moments.domain.stats.valueobject.StatsDimension;
+import com.delicious.moments.infrastructure.persistence.mapper.CookingRecordMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.FamilyStatsCounterMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.FamilyStatsSnapshotMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.StatsCheckpointMapper;
+import com.delicious.moments.infrastructure.persistence.po.CookingFactPO;
+import com.delicious.moments.infrastructure.persistence.po.FamilyStatsCounterPO;
+import com.delicious.moments.infrastructure.persistence.po.FamilyStatsSnapshotPO;
+import com.delicious.moments.infrastructure.persistence.po.StatsCheckpointPO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 家庭统计仓储实现
+ */
+@Repository
+@RequiredArgsConstructor
+public class FamilyStatsRepositoryImpl implements FamilyStatsRepository {
+    
+    /**
+     * 多值 INSERT 每批最大行数
+     */
+    private static final int INSERT_BATCH_SIZE = 500;
+    
+    private static final long[] NO_TAGS = new long[0];
+    
+    private final CookingRecordMapper cookingRecordMapper;
+    private final FamilyStatsCounterMapper counterMapper;
+    private final FamilyStatsSnapshotMapper snapshotMapper;
+    private final StatsCheckpointMapper checkpointMapper;
+    
+    @Override
+    public List<CookingFact> findFactsAfter(long afterRecordId, long maxRecordId, int limit) {
+        return cookingRecordMapper.selectFactsAfter(afterRecordId, maxRecordId, limit).stream()
+            .map(FamilyStatsRepositoryImpl::toFact)
+            .toList();
+    }
+    
+    @Override
+    public void forEachFamilyFact(Long familyId, long maxRecordId, Consumer<CookingFact> consumer) {
+        cookingRecordMapper.streamFamilyFacts(familyId, maxRecordId,
+            context -> consumer.accept(toFact(context.getResultObject())));
+    }
+    
+    @Override
+    public List<Long> findFamilyIdsWithRecords(long maxRecordId) {
+        return cookingRecordMapper.selectFamilyIds(maxRecordId);
+    }
+    
+    @Override
+    public long findSettledRecordId(Duration commitLag) {
+        Long settledId = cookingRecordMapper.selectSettledMaxId(commitLag.toSeconds());
+        return settledId == null ? 0 : settledId;
+    }
+    
+    @Override
+    public long loadCheckpoint(String name) {
+        StatsCheckpointPO po = checkpointMapper.selectById(name);
+        return po == null ? 0 : po.getLastRecordId();
+    }
+    
+    @Override
+    public Long lockCheckpoint(String name) {
+        // 进度行不存在时先补上，否则 FOR UPDATE 锁不到行；已存在时不走 INSERT，避免排队等待其他事务的行锁
+        if (checkpointMapper.selectById(name) == null) {
+            checkpointMapper.insertIgnore(name);
+        }
+        return checkpointMapper.selectForUpdateSkipLocked(name);
+    }
+    
+    @Override
+    public void saveCheckpoint(String name, long lastRecordId) {
+        checkpointMapper.upsert(name, lastRecordId);
+    }
+    
+    @Override
+    public void addDailyCounters(Long familyId, LocalDate date, FamilyStatsAccumulator delta) {
+        List<FamilyStatsCounterPO> counters = new ArrayList<>();
+        delta.forEachCounter(counter -> {
+            FamilyStatsCounterPO po = new FamilyStatsCounterPO();
+            po.setFamilyId(familyId);
+            po.setStatDate(date);
+            po.setDimension(counter.getDimension().getCode());
+            po.setKeyId(counter.getKeyId());
+            po.setCountValue(counter.getCount());
+            counters.add(po);
+        });
+        for (List<FamilyStatsCounterPO> chunk : ListUtil.partition(counters, INSERT_BATCH_SIZE)) {
+            counterMapper.upsertIncrements(chunk);
+        }
+    }
+    
+    @Override
+    public FamilyStatsAccumulator sumDailyCounters(Long familyId, LocalDate startDate, LocalDate endDate) {
+        FamilyStatsAccumulator accumulator = new FamilyStatsAccumulator();
+        for (FamilyStatsCounterPO po : counterMapper.sumByDateRange(familyId, startDate, endDate)) {
+            accumulator.add(new StatsCounter(StatsDimension.fromCode(po.getDimension()), po.getKeyId(), po.getCountValue()));
+        }
+        return accumulator;
+    }
+    
+    @Override
+    public void saveSnapshots(Collection<FamilyStatsSnapshot> snapshots) {
+        List<FamilyStatsSnapshotPO> pos = snapshots.stream()
+            .map(FamilyStatsRepositoryImpl::toPO)
+            .toList();
+        for (List<FamilyStatsSnapshotPO> chunk : ListUtil.partition(pos, INSERT_BATCH_SIZE)) {
+            snapshotMapper.upsertBatch(chunk);
+        }
+    }
+    
+    @Override
+    public void updateAvgCalories(Collection<FamilyStatsSnapshot> snapshots) {
+        for (FamilyStatsSnapshot snapshot : snapshots) {
+            snapshotMapper.update(null, new LambdaUpdateWrapper<FamilyStatsSnapshotPO>()
+                .set(FamilyStatsSnapshotPO::getAvgCalories, snapshot.getAvgCalories())
+                .eq(FamilyStatsSnapshotPO::getFamilyId, snapshot.getFamilyId())
+                .eq(FamilyStatsSnapshotPO::getSnapshotDate, snapshot.getSnapshotDate())
+                .eq(FamilyStatsSnapshotPO::getPeriodType, snapshot.getPeriodType().getCode()));
+        }
+    }
+    
+    @Override
+    public void deleteFamilyStats(Long familyId) {
+        counterMapper.delete(new LambdaQueryWrapper<FamilyStatsCounterPO>()
+            .eq(FamilyStatsCounterPO::getFamilyId, familyId));
+        snapshotMapper.delete(new LambdaQueryWrapper<FamilyStatsSnapshotPO>()
+            .eq(FamilyStatsSnapshotPO::getFamilyId, familyId));
+    }
+    
+    private static CookingFact toFact(CookingFactPO po) {
+        return new CookingFact(po.getId(), po.getFamilyId(), po.getDishId(), po.getCookId(), po.getCookingDate(),
+            parseTagIds(po.getTagIds()));
+    }
+    
+    private static long[] parseTagIds(String tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return NO_TAGS;
+        }
+        String[] parts = tagIds.split(",");
+        long[] ids = new long[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            ids[i] = Long.parseLong(parts[i]);
+        }
+        return ids;
+    }
+    
+    private static FamilyStatsSnapshotPO toPO(FamilyStatsSnapshot snapshot) {
+        FamilyStatsSnapshotPO po = new FamilyStatsSnapshotPO();
+        po.setFamilyId(snapshot.getFamilyId());
+        po.setSnapshotDate(snapshot.getSnapshotDate());
+        po.setPeriodType(snapshot.getPeriodType().getCode());
+        po.setTotalDishesCooked(snapshot.getTotalDishesCooked());
+        po.setUniqueDishesCooked(snapshot.getUniqueDishesCooked());
+        po.setMostCookedDishId(snapshot.getMostCookedDishId());
+        po.setMostCookedCount(snapshot.getMostCookedCount());
+        po.setTopCookUserId(snapshot.getTopCookUserId());
+        po.setTopCookCount(snapshot.getTopCookCount());
+        po.setTopTagId(snapshot.getTopTagId());
+        po.setTopTagCount(snapshot.getTopTagCount());
+        po.setAvgCalories(snapshot.getAvgCalories());
+        po.setTotalCost(snapshot.getTotalCost());
+        return po;
+    }
+}
@@ -0,0 +1,67 @@
+package com.delicious.moments.infrastructure.persistence.repository;
+
+import cn.hutool.core.collection.ListUtil;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.delicious.moments.domain.menu.repository.MenuNutritionRepository;
+import com.delicious.moments.domain.menu.valueobject.MenuItemNutrition;
+import com.delicious.moments.domain.menu.valueobject.MenuPlanVersion;
+import com.delicious.moments.infrastructure.persistence.mapper.MenuItemMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.MenuPlanMapper;
+import com.delicious.moments.infrastructure.persistence.po.MenuItemNutritionPO;
+import com.delicious.moments.infrastructure.persistence.po.MenuPlanPO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 菜单营养数据仓储实现
+ */
+@Repository
+@RequiredArgsConstructor
+public class MenuNutritionRepositoryImpl implements MenuNutritionRepository {
+    
+    /**
+     * IN 列表每批最大计划数
+     */
+    private static final int QUERY_BATCH_SIZE = 500;
+    
+    private static final int STATUS_CANCELLED = 3;
+    
+    private final MenuPlanMapper menuPlanMapper;
+    private final MenuItemMapper menuItemMapper;
+    
+    @Override
+    public List<MenuPlanVersion> findPlanVersions(Long familyId, LocalDate startDate, LocalDate endDate) {
+        return menuPlanMapper.selectList(new LambdaQueryWrapper<MenuPlanPO>()
+                .select(MenuPlanPO::getId, MenuPlanPO::getMenuDate, MenuPlanPO::getVersion)
+                .eq(MenuPlanPO::getFamilyId, familyId)
+                .between(MenuPlanPO::getMenuDate, startDate, endDate)
+                .ne(MenuPlanPO::getStatus, STATUS_CANCELLED))
+            .stream()
+            .map(po -> new MenuPlanVersion(po.getId(), po.getMenuDate(), po.getVersion()))
+            .toList();
+    }
+    
+    @Override
+    public List<MenuItemNutrition> findItemNutrition(Collection<Long> menuPlanIds) {
+        List<MenuItemNutrition> items = new ArrayList<>();
+        for (List<Long> chunk : ListUtil.partition(new ArrayList<>(menuPlanIds), QUERY_BATCH_SIZE)) {
+            for (MenuItemNutritionPO po : menuItemMapper.selectNutrition(chunk)) {
+                items.add(new MenuItemNutrition(po.getMenuPlanId(), po.getMealTime(),
+                    po.getCalories() == null ? 0 : po.getCalories(),
+                    toDouble(po.getProtein()), toDouble(po.getFat()), toDouble(po.getCarbohydrate()),
+                    po.getServingSize() == null ? 1 : po.getServingSize()));
+            }
+        }
+        return items;
+    }
+    
+    private static double toDouble(BigDecimal value) {
+        return value == null ? 0 : value.doubleValue();
+    }
+}
@@ -0,0 +1,66 @@
+package com.delicious.moments.infrastructure.persistence.repository;
+
+import com.delicious.moments.domain.menu.repository.MenuPlanViewRepository;
+import com.delicious.moments.domain.menu.valueobject.MenuItemView;
+import com.delicious.moments.domain.menu.valueobject.MenuPlanView;
+import com.delicious.moments.infrastructure.persistence.mapper.MenuPlanMapper;
+import com.delicious.moments.infrastructure.persistence.po.MenuPlanViewRowPO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 菜单计划读模型仓储实现
+ */
+@Repository
+@RequiredArgsConstructor
+public class MenuPlanViewRepositoryImpl implements MenuPlanViewRepository {
+    
+    private final MenuPlanMapper menuPlanMapper;
+    
+    @Override
+    public Optional<MenuPlanView> findByFamilyAndDate(Long familyId, LocalDate menuDate) {
+        List<MenuPlanViewRowPO> rows = menuPlanMapper.selectPlanView(familyId, menuDate);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        List<MenuItemView> items = new ArrayList<>(rows.size());
+        for (MenuPlanViewRowPO row : rows) {
+            // 没有菜单项的计划只有一行空菜单项；菜谱已删除的菜单项不展示
+            if (row.getMenuItemId() == null || row.getDishId() == null) {
+                continue;
+            }
+            items.add(new MenuItemView(
+                row.getMenuItemId(),
+                row.getMealTime(),
+                row.getItemStatus(),
+                row.getNotes(),
+                row.getDishId(),
+                row.getDishName(),
+                row.getCoverUrl(),
+                row.getCalories(),
+                row.getCookingTime(),
+                row.getSelectorId(),
+                row.getSelectorNickname(),
+                row.getSelectorAvatarUrl()
+            ));
+        }
+        
+        MenuPlanViewRowPO plan = rows.get(0);
+        return Optional.of(new MenuPlanView(
+            plan.getMenuPlanId(),
+            familyId,
+            menuDate,
+            plan.getPlanStatus(),
+            plan.getTotalCalories(),
+            plan.getTotalItems(),
+            plan.getVersion(),
+            items
+        ));
+    }
+}
@@ -0,0 +1,77 @@
+package com.delicious.moments.infrastructure.persistence.repository;
+
+import com.delicious.moments.domain.menu.repository.RecommendationRepository;
+import com.delicious.moments.domain.menu.valueobject.CookingEvent;
+import com.delicious.moments.domain.menu.valueobject.DishFeature;
+import com.delicious.moments.infrastructure.persistence.mapper.CookingRecordMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.DishMapper;
+import com.delicious.moments.infrastructure.persistence.po.CookingEventPO;
+import com.delicious.moments.infrastructure.persistence.po.DishFeaturePO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 菜单推荐数据仓储实现
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecommendationRepositoryImpl implements RecommendationRepository {
+    
+    private static final long[] NO_IDS = new long[0];
+    
+    private final DishMapper dishMapper;
+    private final CookingRecordMapper cookingRecordMapper;
+    
+    @Override
+    public long findSettledCookingRecordId(Duration commitLag) {
+        Long settledId = cookingRecordMapper.selectSettledMaxId(commitLag.toSeconds());
+        return settledId == null ? 0 : settledId;
+    }
+    
+    @Override
+    public void forEachDishFeature(Long familyId, Consumer<DishFeature> consumer) {
+        dishMapper.streamFeatures(familyId, context -> consumer.accept(toFeature(context.getResultObject())));
+    }
+    
+    @Override
+    public void forEachCookingEvent(Long familyId, Consumer<CookingEvent> consumer) {
+        cookingRecordMapper.streamFamilyEvents(familyId, context -> consumer.accept(toEvent(context.getResultObject())));
+    }
+    
+    @Override
+    public List<CookingEvent> findCookingEventsAfter(long afterRecordId, int limit) {
+        return cookingRecordMapper.selectEventsAfter(afterRecordId, limit).stream()
+            .map(RecommendationRepositoryImpl::toEvent)
+            .toList();
+    }
+    
+    private static DishFeature toFeature(DishFeaturePO po) {
+        return new DishFeature(po.getId(), po.getName(),
+            po.getCalories() == null ? 0 : po.getCalories(),
+            po.getCookedCount() == null ? 0 : po.getCookedCount(),
+            po.getLikeCount() == null ? 0 : po.getLikeCount(),
+            po.getAvgRating() == null ? 0 : po.getAvgRating().doubleValue(),
+            parseIds(po.getTagIds()), parseIds(po.getLikedBy()));
+    }
+    
+    private static CookingEvent toEvent(CookingEventPO po) {
+        return new CookingEvent(po.getId(), po.getFamilyId(), po.getDishId(), po.getCookingDate(),
+            po.getMealTime(), po.getMemberId());
+    }
+    
+    private static long[] parseIds(String ids) {
+        if (ids == null || ids.isEmpty()) {
+            return NO_IDS;
+        }
+        String[] parts = ids.split(",");
+        long[] result = new long[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            result[i] = Long.parseLong(parts[i]);
+        }
+        return result;
+    }
+}
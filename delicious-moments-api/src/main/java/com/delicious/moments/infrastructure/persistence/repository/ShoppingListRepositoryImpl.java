@@ -0,0 +1,176 @@
+package com.delicious.moments.infrastructure.persistence.repository;
+
+import cn.hutool.core.collection.ListUtil;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.delicious.moments.domain.shopping.aggregate.ShoppingList;
+import com.delicious.moments.domain.shopping.entity.ShoppingItem;
+import com.delicious.moments.domain.shopping.repository.ShoppingListRepository;
+import com.delicious.moments.domain.shopping.valueobject.IngredientCategory;
+import com.delicious.moments.domain.shopping.valueobject.IngredientLine;
+import com.delicious.moments.domain.shopping.valueobject.ShoppingListId;
+import com.delicious.moments.domain.shopping.valueobject.ShoppingListStatus;
+import com.delicious.moments.infrastructure.persistence.mapper.DishIngredientMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.ShoppingItemMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.ShoppingListMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.SyncTombstoneMapper;
+import com.delicious.moments.infrastructure.persistence.po.DishIngredientPO;
+import com.delicious.moments.infrastructure.persistence.po.ShoppingItemPO;
+import com.delicious.moments.infrastructure.persistence.po.ShoppingListPO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 购物清单仓储实现
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShoppingListRepositoryImpl implements ShoppingListRepository {
+    
+    /**
+     * 多值 INSERT 每批最大行数
+     */
+    private static final int INSERT_BATCH_SIZE = 500;
+    
+    private final ShoppingListMapper shoppingListMapper;
+    private final ShoppingItemMapper shoppingItemMapper;
+    private final DishIngredientMapper dishIngredientMapper;
+    private final SyncTombstoneMapper syncTombstoneMapper;
+    
+    @Override
+    public Optional<ShoppingList> findById(ShoppingListId id) {
+        ShoppingListPO po = shoppingListMapper.selectById(id.getValue());
+        if (po == null) {
+            return Optional.empty();
+        }
+        List<ShoppingItemPO> itemPOs = shoppingItemMapper.selectList(
+            new LambdaQueryWrapper<ShoppingItemPO>()
+                .eq(ShoppingItemPO::getShoppingListId, po.getId())
+                .orderByAsc(ShoppingItemPO::getId)
+        );
+        return Optional.of(toDomain(po, itemPOs));
+    }
+    
+    @Override
+    public Optional<Integer> findVersionById(ShoppingListId id) {
+        return Optional.ofNullable(shoppingListMapper.selectVersionById(id.getValue()));
+    }
+    
+    @Override
+    public Optional<Long> findFamilyIdById(ShoppingListId id) {
+        return Optional.ofNullable(shoppingListMapper.selectFamilyIdById(id.getValue()));
+    }
+    
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public ShoppingList save(ShoppingList shoppingList) {
+        ShoppingListPO po = toPO(shoppingList);
+        shoppingListMapper.insert(po);
+        shoppingList.setId(ShoppingListId.of(po.getId()));
+        
+        List<ShoppingItemPO> itemPOs = toItemPOs(po.getId(), shoppingList.getItems());
+        for (List<ShoppingItemPO> chunk : ListUtil.partition(itemPOs, INSERT_BATCH_SIZE)) {
+            shoppingItemMapper.insertBatch(chunk);
+        }
+        return shoppingList;
+    }
+    
+    @Override
+    public void forEachMenuIngredient(Long familyId, LocalDate startDate, LocalDate endDate,
+                                      Consumer<IngredientLine> consumer) {
+        dishIngredientMapper.streamByMenuRange(familyId, startDate, endDate,
+            context -> consumer.accept(toLine(context.getResultObject())));
+    }
+    
+    @Override
+    public List<IngredientLine> findDishIngredients(Long dishId) {
+        return dishIngredientMapper.selectList(
+            new LambdaQueryWrapper<DishIngredientPO>()
+                .eq(DishIngredientPO::getDishId, dishId)
+                .orderByAsc(DishIngredientPO::getSortOrder)
+        ).stream().map(ShoppingListRepositoryImpl::toLine).toList();
+    }
+    
+    @Override
+    public List<ShoppingListId> findOpenListIdsCovering(Long familyId, LocalDate date) {
+        return shoppingListMapper.selectOpenIdsCovering(familyId, date).stream()
+            .map(ShoppingListId::of)
+            .toList();
+    }
+    
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void applyQuantityDeltas(ShoppingListId id, List<ShoppingItem> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<ShoppingItemPO> itemPOs = toItemPOs(id.getValue(), deltas);
+        for (List<ShoppingItemPO> chunk : ListUtil.partition(itemPOs, INSERT_BATCH_SIZE)) {
+            shoppingItemMapper.upsertQuantities(chunk);
+        }
+        // 物理删除前写入墓碑，供客户端增量同步
+        syncTombstoneMapper.insertForNonPositiveShoppingItems(id.getValue());
+        shoppingItemMapper.deleteNonPositive(id.getValue());
+        shoppingListMapper.refreshItemCounts(id.getValue());
+    }
+    
+    private static IngredientLine toLine(DishIngredientPO po) {
+        return new IngredientLine(po.getName(), po.getQuantity(), po.getUnit(), po.getCategory());
+    }
+    
+    private static ShoppingList toDomain(ShoppingListPO po, List<ShoppingItemPO> itemPOs) {
+        ShoppingList shoppingList = new ShoppingList();
+        shoppingList.setId(ShoppingListId.of(po.getId()));
+        shoppingList.setFamilyId(po.getFamilyId());
+        shoppingList.setStartDate(po.getStartDate());
+        shoppingList.setEndDate(po.getEndDate());
+        shoppingList.setStatus(ShoppingListStatus.fromCode(po.getStatus()));
+        shoppingList.setVersion(po.getVersion());
+        shoppingList.setCreatedAt(po.getCreatedAt());
+        shoppingList.setUpdatedAt(po.getUpdatedAt());
+        
+        List<ShoppingItem> items = new ArrayList<>(itemPOs.size());
+        for (ShoppingItemPO itemPO : itemPOs) {
+            ShoppingItem item = ShoppingItem.of(itemPO.getIngredientName(), itemPO.getQuantity(),
+                itemPO.getUnit(), IngredientCategory.fromCode(itemPO.getCategory()));
+            item.setId(itemPO.getId());
+            item.setChecked(Boolean.TRUE.equals(itemPO.getChecked()));
+            item.setCheckedAt(itemPO.getCheckedAt());
+            items.add(item);
+        }
+        shoppingList.setItems(items);
+        return shoppingList;
+    }
+    
+    private static ShoppingListPO toPO(ShoppingList shoppingList) {
+        ShoppingListPO po = new ShoppingListPO();
+        po.setFamilyId(shoppingList.getFamilyId());
+        po.setStartDate(shoppingList.getStartDate());
+        po.setEndDate(shoppingList.getEndDate());
+        po.setStatus(shoppingList.getStatus().getCode());
+        po.setTotalItems(shoppingList.getTotalItems());
+        po.setCheckedItems(shoppingList.getCheckedItems());
+        po.setVersion(shoppingList.getVersion());
+        return po;
+    }
+    
+    private static List<ShoppingItemPO> toItemPOs(Long shoppingListId, List<ShoppingItem> items) {
+        List<ShoppingItemPO> itemPOs = new ArrayList<>(items.size());
+        for (ShoppingItem item : items) {
+            ShoppingItemPO itemPO = new ShoppingItemPO();
+            itemPO.setShoppingListId(shoppingListId);
+            itemPO.setIngredientName(item.getIngredientName());
+            itemPO.setQuantity(item.getQuantity());
+            itemPO.setUnit(item.getUnit());
+            itemPO.setCategory(item.getCategory().getCode());
+            itemPOs.add(itemPO);
+        }
+        return itemPOs;
+    }
+}
@@ -0,0 +1,152 @@
+package com.delicious.moments.infrastructure.persistence.repository;
+
+import cn.hutool.core.collection.ListUtil;
+import com.delicious.moments.domain.sync.repository.SyncRepository;
+import com.delicious.moments.domain.sync.valueobject.SyncChange;
+import com.delicious.moments.domain.sync.valueobject.SyncEntityType;
+import com.delicious.moments.infrastructure.persistence.mapper.DishCategoryMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.DishMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.DishTagMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.MenuItemMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.ShoppingItemMapper;
+import com.delicious.moments.infrastructure.persistence.mapper.SyncTombstoneMapper;
+import com.delicious.moments.infrastructure.persistence.po.DishCategoryPO;
+import com.delicious.moments.infrastructure.persistence.po.DishPO;
+import com.delicious.moments.infrastructure.persistence.po.DishTagPO;
+import com.delicious.moments.infrastructure.persistence.po.MenuItemPO;
+import com.delicious.moments.infrastructure.persistence.po.ShoppingItemPO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 增量同步仓储实现
+ * <p>
+ * 各表按 (family_id, updated_at) 范围流式读取，逐行转换后交给调用方，不在内存中累积结果集。
+ * 菜谱的软删除会刷新 updated_at，随变更一起输出为删除；其余表的物理删除从 sync_tombstone 读取。
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncRepositoryImpl implements SyncRepository {
+    
+    /**
+     * 多值 INSERT 每批最大行数
+     */
+    private static final int INSERT_BATCH_SIZE = 500;
+    
+    private final DishMapper dishMapper;
+    private final DishCategoryMapper dishCategoryMapper;
+    private final DishTagMapper dishTagMapper;
+    private final MenuItemMapper menuItemMapper;
+    private final ShoppingItemMapper shoppingItemMapper;
+    private final SyncTombstoneMapper syncTombstoneMapper;
+    
+    @Override
+    public LocalDateTime currentTime() {
+        return syncTombstoneMapper.selectNow();
+    }
+    
+    @Override
+    public void forEachChange(SyncEntityType type, Long familyId, LocalDateTime since, Consumer<SyncChange> consumer) {
+        switch (type) {
+            case CATEGORY -> dishCategoryMapper.streamChangedSince(familyId, since,
+                context -> consumer.accept(toChange(context.getResultObject())));
+            case TAG -> dishTagMapper.streamChangedSince(familyId, since,
+                context -> consumer.accept(toChange(context.getResultObject())));
+            case DISH -> dishMapper.streamChangedSince(familyId, since,
+                context -> consumer.accept(toChange(context.getResultObject())));
+            case MENU_ITEM -> menuItemMapper.streamChangedSince(familyId, since,
+                context -> consumer.accept(toChange(context.getResultObject())));
+            case SHOPPING_ITEM -> shoppingItemMapper.streamChangedSince(familyId, since,
+                context -> consumer.accept(toChange(context.getResultObject())));
+        }
+        if (since != null && type != SyncEntityType.DISH) {
+            syncTombstoneMapper.streamSince(familyId, type.getCode(), since,
+                context -> consumer.accept(SyncChange.delete(type, context.getResultObject().getEntityId())));
+        }
+    }
+    
+    @Override
+    public void recordTombstones(Long familyId, SyncEntityType type, Collection<Long> entityIds) {
+        for (List<Long> chunk : ListUtil.partition(new ArrayList<>(entityIds), INSERT_BATCH_SIZE)) {
+            syncTombstoneMapper.insertBatch(familyId, type.getCode(), chunk);
+        }
+    }
+    
+    private static SyncChange toChange(DishCategoryPO po) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("categoryId", po.getId());
+        data.put("name", po.getName());
+        data.put("icon", po.getIcon());
+        data.put("sortOrder", po.getSortOrder());
+        data.put("dishCount", po.getDishCount());
+        data.put("updatedAt", po.getUpdatedAt());
+        return SyncChange.upsert(SyncEntityType.CATEGORY, po.getId(), data);
+    }
+    
+    private static SyncChange toChange(DishTagPO po) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("tagId", po.getId());
+        data.put("name", po.getName());
+        data.put("color", po.getColor());
+        data.put("useCount", po.getUseCount());
+        data.put("updatedAt", po.getUpdatedAt());
+        return SyncChange.upsert(SyncEntityType.TAG, po.getId(), data);
+    }
+    
+    private static SyncChange toChange(DishPO po) {
+        if (po.getDeletedAt() != null) {
+            return SyncChange.delete(SyncEntityType.DISH, po.getId());
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("dishId", po.getId());
+        data.put("name", po.getName());
+        data.put("coverUrl", po.getCoverUrl());
+        data.put("description", po.getDescription());
+        data.put("calories", po.getCalories());
+        data.put("cookingTime", po.getCookingTime());
+        data.put("difficulty", po.getDifficulty());
+        data.put("servingSize", po.getServingSize());
+        data.put("cookedCount", po.getCookedCount());
+        data.put("likeCount", po.getLikeCount());
+        data.put("avgRating", po.getAvgRating());
+        data.put("categoryId", po.getCategoryId());
+        data.put("version", po.getVersion());
+        data.put("updatedAt", po.getUpdatedAt());
+        return SyncChange.upsert(SyncEntityType.DISH, po.getId(), data);
+    }
+    
+    private static SyncChange toChange(MenuItemPO po) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("menuItemId", po.getId());
+        data.put("menuPlanId", po.getMenuPlanId());
+        data.put("menuDate", po.getMenuDate());
+        data.put("mealTime", po.getMealTime());
+        data.put("dishId", po.getDishId());
+        data.put("selectorId", po.getSelectorId());
+        data.put("status", po.getStatus());
+        data.put("notes", po.getNotes());
+        data.put("updatedAt", po.getUpdatedAt());
+        return SyncChange.upsert(SyncEntityType.MENU_ITEM, po.getId(), data);
+    }
+    
+    private static SyncChange toChange(ShoppingItemPO po) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("itemId", po.getId());
+        data.put("shoppingListId", po.getShoppingListId());
+        data.put("ingredientName", po.getIngredientName());
+        data.put("quantity", po.getQuantity());
+        data.put("unit", po.getUnit());
+        data.put("category", po.getCategory());
+        data.put("checked", po.getChecked());
+        data.put("updatedAt", po.getUpdatedAt());
+        return SyncChange.upsert(SyncEntityType.SHOPPING_ITEM, po.getId(), data);
+    }
+}
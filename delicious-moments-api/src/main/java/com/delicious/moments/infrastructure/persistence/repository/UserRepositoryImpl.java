@@ -1,61 +1,98 @@
 package com.delicious.moments.infrastructure.persistence.repository;
 
+import cn.hutool.core.collection.ListUtil;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.delicious.moments.domain.user.aggregate.User;
 import com.delicious.moments.domain.user.repository.UserRepository;
 import com.delicious.moments.domain.user.valueobject.UserId;
+import com.delicious.moments.domain.user.valueobject.UserProfileChange;
 import com.delicious.moments.infrastructure.persistence.mapper.UserMapper;
 import com.delicious.moments.infrastructure.persistence.mapper.UserProfileMapper;
+import com.delicious.moments.infrastructure.persistence.po.UserAggregatePO;
+import com.delicious.moments.infrastructure.persistence.po.UserChangePO;
 import com.delicious.moments.infrastructure.persistence.po.UserPO;
 import com.delicious.moments.infrastructure.persistence.po.UserProfilePO;
-import lombok.RequiredArgsConstructor;
+import com.delicious.moments.shared.exception.BusinessException;
+import com.delicious.moments.shared.exception.ErrorCode;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 用户仓储实现
  */
 @Repository
-@RequiredArgsConstructor
 public class UserRepositoryImpl implements UserRepository {
     
+    /**
+     * IN 查询每批最大参数个数
+     */
+    private static final int IN_BATCH_SIZE = 500;
+    
     private final UserMapper userMapper;
     private final UserProfileMapper userProfileMapper;
+    private final SqlSessionTemplate batchSqlSessionTemplate;
+    private final UserMapper batchUserMapper;
+    
+    public UserRepositoryImpl(UserMapper userMapper, UserProfileMapper userProfileMapper,
+                              @Qualifier("batchSqlSessionTemplate") SqlSessionTemplate batchSqlSessionTemplate) {
+        this.userMapper = userMapper;
+        this.userProfileMapper = userProfileMapper;
+        this.batchSqlSessionTemplate = batchSqlSessionTemplate;
+        this.batchUserMapper = batchSqlSessionTemplate.getMapper(UserMapper.class);
+    }
     
     @Override
     public Optional<User> findById(UserId userId) {
-        UserPO userPO = userMapper.selectById(userId.getValue());
-        if (userPO == null) {
-            return Optional.empty();
-        }
-        
-        UserProfilePO profilePO = userProfileMapper.selectOne(
-            new LambdaQueryWrapper<UserProfilePO>()
-                .eq(UserProfilePO::getUserId, userId.getValue())
-        );
-        
-        return Optional.of(toDomain(userPO, profilePO));
+        return Optional.ofNullable(userMapper.selectAggregateById(userId.getValue()))
+            .map(UserRepositoryImpl::toDomain);
     }
     
     @Override
     public Optional<User> findByOpenId(String openId) {
-        UserPO userPO = userMapper.selectOne(
-            new LambdaQueryWrapper<UserPO>()
-                .eq(UserPO::getOpenid, openId)
-        );
-        
-        if (userPO == null) {
-            return Optional.empty();
+        return Optional.ofNullable(userMapper.selectAggregateByOpenId(openId))
+            .map(UserRepositoryImpl::toDomain);
+    }
+    
+    @Override
+    public Optional<Integer> findVersionById(UserId userId) {
+        return Optional.ofNullable(userMapper.selectVersionById(userId.getValue()));
+    }
+    
+    @Override
+    public Map<UserId, User> findAllByIds(Collection<UserId> userIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(userIds.stream().map(UserId::getValue).toList()));
+        Map<UserId, User> result = new HashMap<>(ids.size() * 2);
+        for (List<Long> chunk : ListUtil.partition(ids, IN_BATCH_SIZE)) {
+            for (UserAggregatePO aggregatePO : userMapper.selectAggregatesByIds(chunk)) {
+                User user = toDomain(aggregatePO);
+                result.put(user.getUserId(), user);
+            }
         }
-        
-        UserProfilePO profilePO = userProfileMapper.selectOne(
-            new LambdaQueryWrapper<UserProfilePO>()
-                .eq(UserProfilePO::getUserId, userPO.getId())
-        );
-        
-        return Optional.of(toDomain(userPO, profilePO));
+        return result;
+    }
+    
+    @Override
+    public Map<String, User> findAllByOpenIds(Collection<String> openIds) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(openIds));
+        Map<String, User> result = new HashMap<>(distinct.size() * 2);
+        for (List<String> chunk : ListUtil.partition(distinct, IN_BATCH_SIZE)) {
+            for (UserAggregatePO aggregatePO : userMapper.selectAggregatesByOpenIds(chunk)) {
+                User user = toDomain(aggregatePO);
+                result.put(user.getOpenId(), user);
+            }
+        }
+        return result;
     }
     
     @Override
@@ -72,21 +109,73 @@ public class UserRepositoryImpl implements UserRepository {
             UserProfilePO profilePO = toProfilePO(user);
             profilePO.setUserId(userPO.getId());
             userProfileMapper.insert(profilePO);
-        } else {
-            // 更新
-            userMapper.updateById(userPO);
-            
-            UserProfilePO profilePO = toProfilePO(user);
-            profilePO.setUserId(user.getUserId().getValue());
-            userProfileMapper.update(profilePO,
-                new LambdaQueryWrapper<UserProfilePO>()
-                    .eq(UserProfilePO::getUserId, user.getUserId().getValue())
-            );
+        } else if (user.isDirty()) {
+            // 更新：只写已修改的列，版本号在同一条语句中校验并递增
+            if (userMapper.updateChangedFields(toChangePO(user)) == 0) {
+                throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION);
+            }
+            user.setVersion(user.getVersion() + 1);
         }
         
+        user.markClean();
         return user;
     }
     
+    @Override
+    @Transactional
+    public User saveIfAbsent(User user) {
+        UserPO userPO = toPO(user);
+        userMapper.upsertByOpenId(userPO);
+        if (userPO.getId() == null) {
+            // 驱动未返回已有行的主键（不支持 LAST_INSERT_ID(expr) 的库），按 openid 回查
+            UserAggregatePO existing = Optional.ofNullable(userMapper.selectAggregateByOpenId(userPO.getOpenid()))
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_ALREADY_EXISTS, "用户已注销"));
+            userPO.setId(existing.getId());
+        }
+        
+        UserProfilePO profilePO = toProfilePO(user);
+        profilePO.setUserId(userPO.getId());
+        if (userProfileMapper.insertIgnore(profilePO) > 0) {
+            // 本次新建
+            user.setUserId(UserId.of(userPO.getId()));
+            return user;
+        }
+        
+        // 并发请求或其他节点已创建，返回库中已有用户
+        return Optional.ofNullable(userMapper.selectAggregateById(userPO.getId()))
+            .map(UserRepositoryImpl::toDomain)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_ALREADY_EXISTS, "用户已注销"));
+    }
+    
+    @Override
+    @Transactional
+    public Map<UserId, Integer> updateProfilesInBatch(Collection<UserProfileChange> changes) {
+        if (changes.isEmpty()) {
+            return Map.of();
+        }
+        
+        List<Long> ids = new ArrayList<>(changes.size());
+        for (UserProfileChange change : changes) {
+            ids.add(change.getUserId().getValue());
+            UserProfilePO profilePO = new UserProfilePO();
+            profilePO.setUserId(change.getUserId().getValue());
+            profilePO.setNickname(change.getNickname());
+            profilePO.setAvatarUrl(change.getAvatarUrl());
+            profilePO.setPhone(change.getPhone());
+            batchUserMapper.updateProfileFields(profilePO);
+        }
+        batchSqlSessionTemplate.flushStatements();
+        
+        // 同一事务内须沿用 BATCH 会话读取，不能再切换到普通会话
+        Map<UserId, Integer> versions = new HashMap<>(ids.size() * 2);
+        for (List<Long> chunk : ListUtil.partition(ids, IN_BATCH_SIZE)) {
+            for (UserPO userPO : batchUserMapper.selectVersionsByIds(chunk)) {
+                versions.put(UserId.of(userPO.getId()), userPO.getVersion());
+            }
+        }
+        return versions;
+    }
+    
     @Override
     public void delete(UserId userId) {
         userMapper.deleteById(userId.getValue());
@@ -100,7 +189,12 @@ public class UserRepositoryImpl implements UserRepository {
         ) > 0;
     }
     
-    private User toDomain(UserPO userPO, UserProfilePO profilePO) {
+    // PO 与领域对象的映射为包级可见的静态方法，便于基准测试直接调用
+    static User toDomain(UserAggregatePO aggregatePO) {
+        return toDomain(aggregatePO.getUser(), aggregatePO.getProfile());
+    }
+    
+    static User toDomain(UserPO userPO, UserProfilePO profilePO) {
         User user = new User();
         user.setUserId(UserId.of(userPO.getId()));
         user.setOpenId(userPO.getOpenid());
@@ -118,7 +212,7 @@ public class UserRepositoryImpl implements UserRepository {
         return user;
     }
     
-    private UserPO toPO(User user) {
+    static UserPO toPO(User user) {
         UserPO po = new UserPO();
         if (user.getUserId() != null) {
             po.setId(user.getUserId().getValue());
@@ -129,7 +223,23 @@ public class UserRepositoryImpl implements UserRepository {
         return po;
     }
     
-    private UserProfilePO toProfilePO(User user) {
+    private UserChangePO toChangePO(User user) {
+        Set<User.DirtyField> dirtyFields = user.getDirtyFields();
+        UserChangePO po = new UserChangePO();
+        po.setId(user.getUserId().getValue());
+        po.setVersion(user.getVersion());
+        po.setUnionId(user.getUnionId());
+        po.setUnionIdChanged(dirtyFields.contains(User.DirtyField.UNION_ID));
+        po.setNickname(user.getNickname());
+        po.setNicknameChanged(dirtyFields.contains(User.DirtyField.NICKNAME));
+        po.setAvatarUrl(user.getAvatarUrl());
+        po.setAvatarUrlChanged(dirtyFields.contains(User.DirtyField.AVATAR_URL));
+        po.setPhone(user.getPhone());
+        po.setPhoneChanged(dirtyFields.contains(User.DirtyField.PHONE));
+        return po;
+    }
+    
+    static UserProfilePO toProfilePO(User user) {
         UserProfilePO po = new UserProfilePO();
         po.setNickname(user.getNickname());
         po.setAvatarUrl(user.getAvatarUrl());
@@ -0,0 +1,80 @@
+package com.delicious.moments.infrastructure.ratelimit;
+
+import com.delicious.moments.application.service.FamilyMembershipService;
+import com.delicious.moments.interfaces.dto.response.Result;
+import com.delicious.moments.interfaces.interceptor.CurrentUser;
+import com.delicious.moments.shared.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 限流过滤器
+ * <p>
+ * 在认证之后、进入控制器之前执行，超出限制的请求返回 429，不占用数据库连接。
+ * 用户取自 {@link CurrentUser}，家庭取自 familyId 请求参数；未认证的请求按客户端地址计入单独的桶，
+ * 否则不带令牌即可绕过限流。经反向代理部署时需配置 server.forward-headers-strategy，使客户端地址取真实来源。
+ * familyId 参数未经校验，只有当前用户是该家庭成员时才计入家庭级限制（成员身份走缓存），
+ * 否则任何人都能冒用别人的家庭ID耗尽其配额。
+ */
+@Slf4j
+@Component
+@Order(20)
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    
+    private static final String FAMILY_ID_PARAM = "familyId";
+    
+    private final RateLimiter rateLimiter;
+    private final FamilyMembershipService familyMembershipService;
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled();
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Long userId = CurrentUser.get(request);
+        Long familyId = memberFamilyId(request, userId);
+        long waitMillis = rateLimiter.tryAcquire(path, userId, familyId, request.getRemoteAddr());
+        if (waitMillis > 0) {
+            log.debug("请求被限流: path={}, userId={}, familyId={}, wait={}ms", path, userId, familyId, waitMillis);
+            response.setStatus(429);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((waitMillis + 999) / 1000));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            objectMapper.writeValue(response.getOutputStream(), Result.error(ErrorCode.TOO_MANY_REQUESTS));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+    
+    private Long memberFamilyId(HttpServletRequest request, Long userId) {
+        String value = request.getParameter(FAMILY_ID_PARAM);
+        if (value == null || userId == null) {
+            return null;
+        }
+        long familyId;
+        try {
+            familyId = Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return familyMembershipService.roleOf(userId, familyId) == null ? null : familyId;
+    }
+}
@@ -0,0 +1,194 @@
+package com.delicious.moments.infrastructure.ratelimit;
+
+import com.delicious.moments.infrastructure.config.RateLimitProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按接口分组、按用户和家庭的限流器
+ * <p>
+ * 每个分组为用户、家庭和未认证客户端各维护一个 {@link ConcurrentHashMap}，值为无锁的 {@link TokenBucket}，
+ * 请求路径上只有 map 查找和一次 CAS，不加锁。后台定期回收空闲且已回满的桶。
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimiter {
+    
+    private final RateLimitProperties properties;
+    private final List<Group> groups = new ArrayList<>();
+    private final long baseNanos = System.nanoTime();
+    private ScheduledExecutorService evictor;
+    
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+        for (RateLimitProperties.Group group : properties.getGroups()) {
+            groups.add(new Group(group));
+        }
+    }
+    
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled() || groups.isEmpty()) {
+            return;
+        }
+        evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "rate-limit-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = Math.max(1000, properties.getIdleTimeout().toMillis() / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (evictor != null) {
+            evictor.shutdownNow();
+        }
+    }
+    
+    public boolean isEnabled() {
+        return properties.isEnabled() && !groups.isEmpty();
+    }
+    
+    /**
+     * 为请求获取令牌，先检查用户再检查家庭；未认证的请求改按客户端地址限制，家庭为空时跳过家庭限制
+     *
+     * @param path          不含 context-path 的请求路径
+     * @param clientAddress 客户端地址，仅在 userId 为空时使用
+     * @return 0 表示放行，否则为建议的重试等待毫秒数
+     */
+    public long tryAcquire(String path, Long userId, Long familyId, String clientAddress) {
+        Group group = match(path);
+        if (group == null) {
+            return 0;
+        }
+        long now = nowMillis();
+        if (userId == null) {
+            return group.anonymous == null ? 0 : acquire(group.clients, clientAddress, group.anonymous, now);
+        }
+        if (group.user != null) {
+            long wait = acquire(group.users, userId, group.user, now);
+            if (wait > 0) {
+                return wait;
+            }
+        }
+        if (familyId != null && group.family != null) {
+            return acquire(group.families, familyId, group.family, now);
+        }
+        return 0;
+    }
+    
+    /**
+     * 当前的令牌桶数量
+     */
+    public int bucketCount() {
+        int count = 0;
+        for (Group group : groups) {
+            count += group.users.size() + group.families.size() + group.clients.size();
+        }
+        return count;
+    }
+    
+    /**
+     * 回收空闲的桶；与获取令牌并发时，刚取到即将被回收的桶的请求可能少扣一次，可以接受
+     */
+    void evictIdle() {
+        long now = nowMillis();
+        long idleMillis = properties.getIdleTimeout().toMillis();
+        int before = bucketCount();
+        for (Group group : groups) {
+            evictIdle(group.users, group.user, now, idleMillis);
+            evictIdle(group.families, group.family, now, idleMillis);
+            evictIdle(group.clients, group.anonymous, now, idleMillis);
+        }
+        log.debug("回收空闲令牌桶: before={}, after={}", before, bucketCount());
+    }
+    
+    private static void evictIdle(ConcurrentMap<?, TokenBucket> buckets, RateLimitProperties.Limit limit,
+                                  long now, long idleMillis) {
+        if (limit != null) {
+            buckets.values().removeIf(bucket ->
+                bucket.isIdle(now, idleMillis, limit.getCapacity(), limit.getPermitsPerSecond()));
+        }
+    }
+    
+    private Group match(String path) {
+        PathContainer container = null;
+        for (Group group : groups) {
+            for (PathPattern pattern : group.patterns) {
+                if (container == null) {
+                    container = PathContainer.parsePath(path);
+                }
+                if (pattern.matches(container)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+    
+    private static <K> long acquire(ConcurrentMap<K, TokenBucket> buckets, K key,
+                                    RateLimitProperties.Limit limit, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(now, limit.getCapacity()));
+        }
+        return bucket.tryAcquire(now, limit.getCapacity(), limit.getPermitsPerSecond());
+    }
+    
+    private long nowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - baseNanos);
+    }
+    
+    /**
+     * 编译后的接口分组
+     */
+    private static final class Group {
+        
+        private final List<PathPattern> patterns = new ArrayList<>();
+        private final RateLimitProperties.Limit user;
+        private final RateLimitProperties.Limit family;
+        private final RateLimitProperties.Limit anonymous;
+        private final ConcurrentMap<Long, TokenBucket> users = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Long, TokenBucket> families = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, TokenBucket> clients = new ConcurrentHashMap<>();
+        
+        Group(RateLimitProperties.Group config) {
+            for (String pattern : config.getPatterns()) {
+                patterns.add(PathPatternParser.defaultInstance.parse(pattern));
+            }
+            this.user = validate(config.getName(), config.getUser());
+            this.family = validate(config.getName(), config.getFamily());
+            this.anonymous = config.getAnonymous() != null
+                ? validate(config.getName(), config.getAnonymous()) : this.user;
+        }
+        
+        private static RateLimitProperties.Limit validate(String name, RateLimitProperties.Limit limit) {
+            if (limit == null) {
+                return null;
+            }
+            if (limit.getCapacity() < 1 || limit.getCapacity() > TokenBucket.MAX_CAPACITY
+                    || limit.getPermitsPerSecond() <= 0) {
+                throw new IllegalArgumentException("限流分组 " + name + " 的配置无效: capacity 取值 1~"
+                    + TokenBucket.MAX_CAPACITY + "，permits-per-second 须大于 0");
+            }
+            return limit;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.delicious.moments.infrastructure.ratelimit;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * 无锁令牌桶
+ * <p>
+ * 状态打包在一个 long 中：高 44 位为上次补充的时间（毫秒），低 20 位为剩余令牌数（千分之一个令牌为单位）。
+ * 获取令牌时读取状态、按经过的时间补充、扣减一个令牌，再 CAS 写回；拒绝时不写回。
+ * 每秒补充 r 个令牌恰好等于每毫秒补充 r 个千分之一令牌；补充量不足千分之一时不推进时间，低速率下也能正常累积。
+ */
+final class TokenBucket {
+    
+    static final int MAX_CAPACITY = 1000;
+    
+    private static final int TOKEN_BITS = 20;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long ONE = 1000;
+    
+    private static final VarHandle STATE;
+    
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(TokenBucket.class, "state", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+    
+    @SuppressWarnings("unused")
+    private volatile long state;
+    
+    /**
+     * 新桶是满的
+     */
+    TokenBucket(long nowMillis, int capacity) {
+        this.state = nowMillis << TOKEN_BITS | capacity * ONE;
+    }
+    
+    /**
+     * 尝试获取一个令牌
+     *
+     * @return 0 表示获取成功，否则为预计需要等待的毫秒数
+     */
+    long tryAcquire(long nowMillis, int capacity, double permitsPerSecond) {
+        long max = capacity * ONE;
+        for (;;) {
+            long current = state;
+            long time = current >>> TOKEN_BITS;
+            long tokens = current & TOKEN_MASK;
+            if (nowMillis > time) {
+                long added = (long) ((nowMillis - time) * permitsPerSecond);
+                if (added > 0) {
+                    tokens = Math.min(max, tokens + added);
+                    time = nowMillis;
+                }
+            }
+            if (tokens < ONE) {
+                return Math.max(1, (long) Math.ceil((ONE - tokens) / permitsPerSecond));
+            }
+            if (STATE.compareAndSet(this, current, time << TOKEN_BITS | (tokens - ONE))) {
+                return 0;
+            }
+        }
+    }
+    
+    /**
+     * 是否已空闲超过 idleMillis 且已回满，回收这样的桶与保留它等价
+     */
+    boolean isIdle(long nowMillis, long idleMillis, int capacity, double permitsPerSecond) {
+        long current = state;
+        long time = current >>> TOKEN_BITS;
+        long tokens = current & TOKEN_MASK;
+        long elapsed = nowMillis - time;
+        return elapsed >= idleMillis && tokens + elapsed * permitsPerSecond >= capacity * ONE;
+    }
+}
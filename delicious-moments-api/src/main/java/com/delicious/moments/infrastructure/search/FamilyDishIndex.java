@@ -0,0 +1,291 @@
+package com.delicious.moments.infrastructure.search;
+
+import com.delicious.moments.domain.dish.valueobject.DishSearchDocument;
+import com.delicious.moments.domain.dish.valueobject.DishSearchHit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 单个家庭的菜谱检索索引（不可变快照）
+ * <p>
+ * 对菜名、标签和菜名拼音首字母建立单字和双字的倒排表，倒排表是按文档序号升序的 int 数组。
+ * 查询时取查询串各个双字倒排表的交集作为候选，再逐个确认是否包含完整查询串并计算得分。
+ * 数据变更时整体重建快照，读取无锁。
+ */
+final class FamilyDishIndex {
+    
+    static final FamilyDishIndex EMPTY = build(List.of());
+    
+    /**
+     * 文本匹配与受欢迎程度的权重
+     */
+    private static final float TEXT_WEIGHT = 0.7f;
+    private static final float POPULARITY_WEIGHT = 0.3f;
+    
+    private static final char FIELD_SEPARATOR = '\n';
+    
+    private final long[] dishIds;
+    private final String[] names;
+    private final String[] normalizedNames;
+    private final String[] initials;
+    private final String[] tagTexts;
+    private final int[] cookedCounts;
+    private final int[] likeCounts;
+    private final float[] popularity;
+    private GramTable grams;
+    
+    private FamilyDishIndex(int size) {
+        dishIds = new long[size];
+        names = new String[size];
+        normalizedNames = new String[size];
+        initials = new String[size];
+        tagTexts = new String[size];
+        cookedCounts = new int[size];
+        likeCounts = new int[size];
+        popularity = new float[size];
+    }
+    
+    static FamilyDishIndex build(Collection<DishSearchDocument> documents) {
+        FamilyDishIndex index = new FamilyDishIndex(documents.size());
+        Map<Long, IntBuffer> postings = new HashMap<>(documents.size() * 8);
+        double maxCooked = 0;
+        double maxLiked = 0;
+        
+        int doc = 0;
+        for (DishSearchDocument document : documents) {
+            index.dishIds[doc] = document.getDishId();
+            index.names[doc] = document.getName();
+            index.normalizedNames[doc] = SearchText.normalize(document.getName());
+            index.initials[doc] = SearchText.initials(index.normalizedNames[doc]);
+            index.tagTexts[doc] = joinTags(document.getTags());
+            index.cookedCounts[doc] = document.getCookedCount();
+            index.likeCounts[doc] = document.getLikeCount();
+            maxCooked = Math.max(maxCooked, Math.log1p(document.getCookedCount()));
+            maxLiked = Math.max(maxLiked, Math.log1p(document.getLikeCount()));
+            
+            addGrams(postings, doc, index.normalizedNames[doc]);
+            addGrams(postings, doc, index.initials[doc]);
+            addGrams(postings, doc, index.tagTexts[doc]);
+            doc++;
+        }
+        
+        int i = 0;
+        for (DishSearchDocument document : documents) {
+            double cooked = maxCooked == 0 ? 0 : Math.log1p(document.getCookedCount()) / maxCooked;
+            double liked = maxLiked == 0 ? 0 : Math.log1p(document.getLikeCount()) / maxLiked;
+            double rating = Math.min(document.getAvgRating(), 5) / 5;
+            index.popularity[i++] = (float) (0.4 * cooked + 0.4 * liked + 0.2 * rating);
+        }
+        index.grams = new GramTable(postings.size());
+        postings.forEach((gram, buffer) -> index.grams.put(gram, buffer.toArray()));
+        return index;
+    }
+    
+    int size() {
+        return dishIds.length;
+    }
+    
+    List<DishSearchHit> search(String query, int limit) {
+        String q = SearchText.normalize(query);
+        if (q.isEmpty() || limit <= 0 || dishIds.length == 0) {
+            return List.of();
+        }
+        int[] candidates = candidates(q);
+        if (candidates.length == 0) {
+            return List.of();
+        }
+        
+        // 有界插入排序取前 limit 个，limit 远小于候选数
+        int[] topDocs = new int[Math.min(limit, candidates.length)];
+        float[] topScores = new float[topDocs.length];
+        int count = 0;
+        for (int doc : candidates) {
+            float text = textScore(doc, q);
+            if (text == 0) {
+                continue;
+            }
+            float score = TEXT_WEIGHT * text + POPULARITY_WEIGHT * popularity[doc];
+            if (count == topDocs.length && score <= topScores[count - 1]) {
+                continue;
+            }
+            int pos = count == topDocs.length ? count - 1 : count++;
+            while (pos > 0 && topScores[pos - 1] < score) {
+                topDocs[pos] = topDocs[pos - 1];
+                topScores[pos] = topScores[pos - 1];
+                pos--;
+            }
+            topDocs[pos] = doc;
+            topScores[pos] = score;
+        }
+        
+        List<DishSearchHit> hits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int doc = topDocs[i];
+            hits.add(new DishSearchHit(dishIds[doc], names[doc], cookedCounts[doc], likeCounts[doc], topScores[i]));
+        }
+        return hits;
+    }
+    
+    private int[] candidates(String q) {
+        if (q.length() == 1) {
+            int[] posting = grams.get(unigram(q.charAt(0)));
+            return posting == null ? new int[0] : posting;
+        }
+        int[][] lists = new int[q.length() - 1][];
+        for (int i = 0; i < lists.length; i++) {
+            int[] posting = grams.get(bigram(q.charAt(i), q.charAt(i + 1)));
+            if (posting == null) {
+                return new int[0];
+            }
+            lists[i] = posting;
+        }
+        // 从最短的倒排表开始求交集
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+    
+    /**
+     * 文本匹配得分，0 表示不匹配
+     */
+    private float textScore(int doc, String q) {
+        String name = normalizedNames[doc];
+        if (name.equals(q)) {
+            return 1.0f;
+        }
+        if (name.startsWith(q)) {
+            return 0.85f;
+        }
+        if (initials[doc].startsWith(q)) {
+            return 0.75f;
+        }
+        if (name.contains(q)) {
+            return 0.6f;
+        }
+        if (initials[doc].contains(q)) {
+            return 0.45f;
+        }
+        if (tagTexts[doc].contains(q)) {
+            return 0.3f;
+        }
+        return 0;
+    }
+    
+    private static String joinTags(List<String> tags) {
+        StringBuilder sb = new StringBuilder();
+        for (String tag : tags) {
+            if (!sb.isEmpty()) {
+                sb.append(FIELD_SEPARATOR);
+            }
+            sb.append(SearchText.normalize(tag));
+        }
+        return sb.toString();
+    }
+    
+    private static void addGrams(Map<Long, IntBuffer> postings, int doc, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == FIELD_SEPARATOR) {
+                continue;
+            }
+            postings.computeIfAbsent(unigram(c), k -> new IntBuffer()).addDistinct(doc);
+            if (i + 1 < text.length() && text.charAt(i + 1) != FIELD_SEPARATOR) {
+                postings.computeIfAbsent(bigram(c, text.charAt(i + 1)), k -> new IntBuffer()).addDistinct(doc);
+            }
+        }
+    }
+    
+    private static long unigram(char c) {
+        return c;
+    }
+    
+    private static long bigram(char first, char second) {
+        return 1L << 32 | (long) first << 16 | second;
+    }
+    
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+    
+    /**
+     * 构建期使用的 int 动态数组，文档按序号递增写入，相邻重复自动去重
+     */
+    private static final class IntBuffer {
+        
+        private int[] values = new int[4];
+        private int size;
+        
+        void addDistinct(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+        
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+    
+    /**
+     * gram 到倒排表的开放寻址哈希表，查询时不装箱
+     */
+    private static final class GramTable {
+        
+        private final long[] keys;
+        private final int[][] postings;
+        private final int mask;
+        
+        GramTable(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(expectedSize * 2 - 1, 8)) << 1;
+            keys = new long[capacity];
+            postings = new int[capacity][];
+            mask = capacity - 1;
+        }
+        
+        void put(long key, int[] posting) {
+            int slot = slotOf(key);
+            keys[slot] = key;
+            postings[slot] = posting;
+        }
+        
+        int[] get(long key) {
+            return postings[slotOf(key)];
+        }
+        
+        private int slotOf(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            int slot = (int) (h ^ (h >>> 32)) & mask;
+            while (postings[slot] != null && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.delicious.moments.infrastructure.search;
+
+import com.delicious.moments.domain.dish.event.DishDeletedEvent;
+import com.delicious.moments.domain.dish.event.DishSavedEvent;
+import com.delicious.moments.domain.dish.event.DishesImportedEvent;
+import com.delicious.moments.domain.dish.repository.DishRepository;
+import com.delicious.moments.domain.dish.service.DishSearcher;
+import com.delicious.moments.domain.dish.valueobject.DishId;
+import com.delicious.moments.domain.dish.valueobject.DishSearchDocument;
+import com.delicious.moments.domain.dish.valueobject.DishSearchHit;
+import com.delicious.moments.infrastructure.config.DishSearchProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 进程内菜谱检索索引
+ * <p>
+ * 每个家庭一份 {@link FamilyDishIndex} 快照。启动后在后台流式扫描全部菜谱建立索引，
+ * 尚未加载的家庭在首次检索时单独加载；菜谱保存/删除事件在事务提交后更新所属家庭的索引。
+ * <p>
+ * 加载在映射之外查库，结果按代次决定是否放入：每次变更事件先递增家庭所在分段的代次，
+ * 加载开始后代次有变化的快照可能不含这次变更，不再放入映射（本次检索仍可使用）。
+ * 代次检查与放入、递增与移除都在映射对该家庭的 compute 内完成，彼此不会交错。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(DishSearchProperties.class)
+public class InMemoryDishSearchIndex implements DishSearcher {
+    
+    private static final int GENERATION_STRIPES = 256;
+    
+    private final DishRepository dishRepository;
+    private final DishSearchProperties properties;
+    
+    private final ConcurrentMap<Long, FamilyEntry> families = new ConcurrentHashMap<>();
+    /**
+     * 按家庭ID分段的变更代次，同一分段的家庭共用代次（只会多放弃一些快照，不会放入过期的快照）
+     */
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    
+    @Override
+    public List<DishSearchHit> search(Long familyId, String query, int limit) {
+        FamilyEntry entry = families.get(familyId);
+        if (entry == null) {
+            entry = loadFamily(familyId);
+        }
+        return entry.index.search(query, Math.min(limit, properties.getMaxLimit()));
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!properties.isRebuildOnStartup()) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("菜谱检索索引加载失败，未加载的家庭将在首次检索时加载", e);
+            }
+        }, "dish-search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    /**
+     * 流式扫描全部菜谱，按家庭建立索引；已由检索或事件加载的家庭保留现有索引（更新），
+     * 扫描开始后有变更的家庭不放入，留待首次检索时加载
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        // 查询开始前记录代次：之后提交的变更可能不在扫描结果里
+        long[] startGenerations = new long[GENERATION_STRIPES];
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            startGenerations[i] = generations.get(i);
+        }
+        FamilyCollector collector = new FamilyCollector(startGenerations);
+        dishRepository.forEachSearchDocument(null, collector::accept);
+        collector.flush();
+        log.info("菜谱检索索引加载完成: families={}, dishes={}, elapsed={}ms",
+            collector.familyCount, collector.dishCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDishSaved(DishSavedEvent event) {
+        FamilyEntry entry = invalidate(event.getFamilyId());
+        if (entry == null) {
+            // 提交后加载，已包含本次变更
+            loadFamily(event.getFamilyId());
+            return;
+        }
+        DishSearchDocument document = dishRepository.findSearchDocument(DishId.of(event.getDishId())).orElse(null);
+        entry.update(event.getDishId(), document);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDishDeleted(DishDeletedEvent event) {
+        FamilyEntry entry = invalidate(event.getFamilyId());
+        if (entry != null) {
+            entry.update(event.getDishId(), null);
+        }
+    }
+    
+    /**
+     * 批量导入后丢弃家庭索引，下次检索时重新加载
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDishesImported(DishesImportedEvent event) {
+        families.compute(event.getFamilyId(), (id, entry) -> {
+            generations.incrementAndGet(stripe(id));
+            return null;
+        });
+    }
+    
+    /**
+     * 在映射之外查库加载，避免在 ConcurrentHashMap 的 compute 中做 I/O；并发的首次检索可能各自加载一次
+     */
+    private FamilyEntry loadFamily(Long familyId) {
+        long generation = generations.get(stripe(familyId));
+        List<DishSearchDocument> documents = new ArrayList<>();
+        dishRepository.forEachSearchDocument(familyId, documents::add);
+        FamilyEntry loaded = new FamilyEntry(documents);
+        FamilyEntry installed = install(familyId, loaded, generation);
+        return installed != null ? installed : loaded;
+    }
+    
+    /**
+     * 家庭尚无索引且加载开始后没有变更时放入，返回映射中的索引（未放入且没有现有索引时为 null）
+     */
+    private FamilyEntry install(Long familyId, FamilyEntry loaded, long generation) {
+        return families.compute(familyId, (id, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            return generations.get(stripe(id)) == generation ? loaded : null;
+        });
+    }
+    
+    /**
+     * 递增家庭的代次，使此前开始、尚未放入的加载作废；返回现有索引
+     */
+    private FamilyEntry invalidate(Long familyId) {
+        return families.compute(familyId, (id, entry) -> {
+            generations.incrementAndGet(stripe(id));
+            return entry;
+        });
+    }
+    
+    private static int stripe(Long familyId) {
+        return Long.hashCode(familyId) & (GENERATION_STRIPES - 1);
+    }
+    
+    /**
+     * 家庭索引：文档集合 + 当前快照，更新时重建快照后整体替换
+     */
+    private static final class FamilyEntry {
+        
+        private final Map<Long, DishSearchDocument> documents = new LinkedHashMap<>();
+        private volatile FamilyDishIndex index;
+        
+        FamilyEntry(List<DishSearchDocument> documents) {
+            for (DishSearchDocument document : documents) {
+                this.documents.put(document.getDishId(), document);
+            }
+            this.index = FamilyDishIndex.build(this.documents.values());
+        }
+        
+        synchronized void update(long dishId, DishSearchDocument document) {
+            if (document == null) {
+                documents.remove(dishId);
+            } else {
+                documents.put(dishId, document);
+            }
+            index = FamilyDishIndex.build(documents.values());
+        }
+    }
+    
+    /**
+     * 按家庭ID顺序收集流式结果，每个家庭收集完即建立索引
+     */
+    private final class FamilyCollector {
+        
+        private final long[] startGenerations;
+        private Long currentFamilyId;
+        private final List<DishSearchDocument> current = new ArrayList<>();
+        private int familyCount;
+        private int dishCount;
+        
+        FamilyCollector(long[] startGenerations) {
+            this.startGenerations = startGenerations;
+        }
+        
+        void accept(DishSearchDocument document) {
+            if (!document.getFamilyId().equals(currentFamilyId)) {
+                flush();
+                currentFamilyId = document.getFamilyId();
+            }
+            current.add(document);
+            dishCount++;
+        }
+        
+        void flush() {
+            if (currentFamilyId == null) {
+                return;
+            }
+            install(currentFamilyId, new FamilyEntry(current), startGenerations[stripe(currentFamilyId)]);
+            familyCount++;
+            current.clear();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.delicious.moments.infrastructure.search;
+
+import cn.hutool.extra.pinyin.PinyinUtil;
+
+/**
+ * 检索文本规范化
+ */
+final class SearchText {
+    
+    private SearchText() {
+    }
+    
+    /**
+     * 转小写并去掉空白字符
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * 拼音首字母：汉字取拼音首字母，字母和数字保留，其他字符忽略，如“番茄炒蛋”得到“fqcd”
+     */
+    static String initials(String normalized) {
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c) && c < 0x80) {
+                sb.append(c);
+            } else if (PinyinUtil.isChinese(c)) {
+                char initial = PinyinUtil.getFirstLetter(c);
+                if (initial != 0 && initial != c) {
+                    sb.append(Character.toLowerCase(initial));
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
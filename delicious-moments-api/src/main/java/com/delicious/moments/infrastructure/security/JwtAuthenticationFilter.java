@@ -0,0 +1,73 @@
+package com.delicious.moments.infrastructure.security;
+
+import com.delicious.moments.infrastructure.config.JwtProperties;
+import com.delicious.moments.interfaces.dto.response.Result;
+import com.delicious.moments.interfaces.interceptor.CurrentUser;
+import com.delicious.moments.shared.exception.BusinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * JWT 认证过滤器
+ * <p>
+ * 从 Authorization: Bearer 头中验证 Token，把用户ID写入 {@link CurrentUser}，不访问数据库。
+ * 没有 Token 的请求直接放行，由需要用户的接口（如 {@code @FamilyScoped}）自行拒绝；
+ * 带了 Token 但无效或过期时直接返回 401。
+ */
+@Slf4j
+@Component
+@Order(10)
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    
+    private static final String BEARER = "Bearer ";
+    private static final String USER_ID_PARAM = "userId";
+    
+    private final JwtTokenService jwtTokenService;
+    private final JwtProperties properties;
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            try {
+                CurrentUser.set(request, jwtTokenService.verify(header.substring(BEARER.length()).trim()));
+            } catch (BusinessException e) {
+                log.debug("Token 验证失败: uri={}, reason={}", request.getRequestURI(), e.getMessage());
+                writeError(response, e);
+                return;
+            }
+        } else if (properties.isTrustUserIdParam()) {
+            String userId = request.getParameter(USER_ID_PARAM);
+            if (userId != null) {
+                try {
+                    CurrentUser.set(request, Long.valueOf(userId));
+                } catch (NumberFormatException ignored) {
+                    // 按未认证处理
+                }
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+    
+    private void writeError(HttpServletResponse response, BusinessException e) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), Result.error(e.getCode(), e.getMessage()));
+    }
+}
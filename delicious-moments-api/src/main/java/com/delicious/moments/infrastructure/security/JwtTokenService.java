@@ -0,0 +1,98 @@
+package com.delicious.moments.infrastructure.security;
+
+import com.delicious.moments.infrastructure.config.JwtProperties;
+import com.delicious.moments.shared.exception.BusinessException;
+import com.delicious.moments.shared.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * JWT 签发与验证
+ * <p>
+ * 签名密钥和解析器在启动时构建一次（二者都是线程安全的），不在每个请求上重复创建。
+ * 验证通过的 Token 按原文缓存用户ID和过期时间，同一会话的后续请求跳过 Base64 解码、
+ * JSON 解析和签名计算；命中时仍检查过期时间，过期后按过期处理。验证失败的 Token 不缓存。
+ */
+@Component
+@EnableConfigurationProperties(JwtProperties.class)
+public class JwtTokenService {
+    
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final Duration expiration;
+    private final Cache<String, VerifiedToken> verified;
+    
+    public JwtTokenService(JwtProperties properties) {
+        this.key = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.expiration = properties.getExpiration();
+        this.verified = Caffeine.newBuilder()
+            .maximumSize(properties.getTokenCacheSize())
+            .build();
+    }
+    
+    /**
+     * 为用户签发 Token
+     */
+    public String issue(Long userId) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+            .subject(String.valueOf(userId))
+            .issuedAt(Date.from(now))
+            .expiration(Date.from(now.plus(expiration)))
+            .signWith(key)
+            .compact();
+    }
+    
+    /**
+     * 验证 Token 并返回用户ID，无效或过期时抛出 TOKEN_INVALID / TOKEN_EXPIRED
+     */
+    public Long verify(String token) {
+        VerifiedToken cached = verified.getIfPresent(token);
+        if (cached == null) {
+            cached = parse(token);
+            verified.put(token, cached);
+        }
+        if (System.currentTimeMillis() >= cached.expiresAtMillis()) {
+            verified.invalidate(token);
+            throw new BusinessException(ErrorCode.TOKEN_EXPIRED);
+        }
+        return cached.userId();
+    }
+    
+    private VerifiedToken parse(String token) {
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            throw new BusinessException(ErrorCode.TOKEN_EXPIRED);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.TOKEN_INVALID);
+        }
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            throw new BusinessException(ErrorCode.TOKEN_INVALID);
+        }
+        try {
+            return new VerifiedToken(Long.parseLong(claims.getSubject()), claims.getExpiration().getTime());
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.TOKEN_INVALID);
+        }
+    }
+    
+    private record VerifiedToken(Long userId, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.delicious.moments.infrastructure.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 支持的图片类型，按文件头识别，不信任客户端声明的 Content-Type
+ */
+@Getter
+@RequiredArgsConstructor
+enum ImageType {
+    
+    JPEG("jpg", "image/jpeg"),
+    PNG("png", "image/png"),
+    GIF("gif", "image/gif"),
+    WEBP("webp", "image/webp");
+    
+    /**
+     * 识别类型需要的文件头长度
+     */
+    static final int HEADER_LENGTH = 12;
+    
+    private final String extension;
+    private final String contentType;
+    
+    static ImageType detect(byte[] header, int length) {
+        if (length >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+            return JPEG;
+        }
+        if (length >= 8 && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G') {
+            return PNG;
+        }
+        if (length >= 6 && header[0] == 'G' && header[1] == 'I' && header[2] == 'F' && header[3] == '8') {
+            return GIF;
+        }
+        if (length >= 12 && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return WEBP;
+        }
+        return null;
+    }
+    
+    static ImageType fromExtension(String extension) {
+        for (ImageType type : values()) {
+            if (type.extension.equals(extension)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
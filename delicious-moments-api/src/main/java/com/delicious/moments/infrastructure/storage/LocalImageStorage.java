@@ -0,0 +1,170 @@
+package com.delicious.moments.infrastructure.storage;
+
+import com.delicious.moments.domain.file.service.ImageStorage;
+import com.delicious.moments.domain.file.valueobject.ImageFile;
+import com.delicious.moments.domain.file.valueobject.StoredImage;
+import com.delicious.moments.infrastructure.config.FileStorageProperties;
+import com.delicious.moments.shared.exception.BusinessException;
+import com.delicious.moments.shared.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 本地文件系统图片存储（代替对象存储）
+ * <p>
+ * 上传内容以固定大小的缓冲区流式写入临时文件，同时计算 SHA-256，堆上不保留整个文件。
+ * 写完后按摘要改名为 {@code <摘要前两位>/<摘要>.<扩展名>}，目标已存在即为重复内容，直接丢弃临时文件。
+ * 缩略图与原图放在同一目录，命名为 {@code <摘要>_w<宽度>.<扩展名>}。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(FileStorageProperties.class)
+public class LocalImageStorage implements ImageStorage {
+    
+    private static final Pattern KEY_PATTERN = Pattern.compile("([0-9a-f]{64})\\.([a-z]{3,4})");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final FileStorageProperties properties;
+    
+    private Path root;
+    private Path tempDir;
+    private ThumbnailGenerator thumbnails;
+    
+    @PostConstruct
+    public void start() throws IOException {
+        root = Path.of(properties.getUploadPath()).toAbsolutePath().normalize();
+        tempDir = Files.createDirectories(root.resolve("tmp"));
+        thumbnails = new ThumbnailGenerator(properties.getThumbnailThreads(), properties.getThumbnailQueueCapacity(),
+            properties.getThumbnailMaxSourcePixels());
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        thumbnails.shutdown();
+    }
+    
+    @Override
+    public StoredImage store(InputStream in) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int headerLength = in.readNBytes(buffer, 0, ImageType.HEADER_LENGTH);
+        ImageType type = ImageType.detect(buffer, headerLength);
+        if (type == null) {
+            throw new BusinessException(ErrorCode.FILE_TYPE_NOT_SUPPORTED, "只支持 JPEG、PNG、GIF、WebP 图片");
+        }
+        
+        MessageDigest digest = sha256();
+        long maxSize = properties.getMaxImageSize().toBytes();
+        long size = 0;
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                int n = headerLength;
+                while (n > 0) {
+                    size += n;
+                    if (size > maxSize) {
+                        throw new BusinessException(ErrorCode.FILE_SIZE_EXCEEDED);
+                    }
+                    digest.update(buffer, 0, n);
+                    out.write(buffer, 0, n);
+                    n = in.read(buffer);
+                }
+            }
+            
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = originalPath(hash, type);
+            boolean deduplicated = Files.exists(target);
+            if (!deduplicated) {
+                Files.createDirectories(target.getParent());
+                // 并发上传相同内容时后改名的覆盖先改名的，内容相同
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            submitThumbnails(hash, type, target);
+            log.debug("图片已存储: hash={}, size={}, deduplicated={}", hash, size, deduplicated);
+            return new StoredImage(hash + "." + type.getExtension(), type.getContentType(), size, deduplicated);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+    
+    @Override
+    public Optional<ImageFile> open(String key, Integer width) {
+        Matcher matcher = KEY_PATTERN.matcher(key);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        ImageType type = ImageType.fromExtension(matcher.group(2));
+        if (type == null) {
+            return Optional.empty();
+        }
+        String hash = matcher.group(1);
+        if (width != null && properties.getThumbnailWidths().contains(width)) {
+            ImageFile thumbnail = toImageFile(thumbnailPath(hash, type, width), type, true);
+            if (thumbnail != null) {
+                return Optional.of(thumbnail);
+            }
+            // 缩略图未生成（队列满或原图不够宽）时返回原图，不允许长期缓存
+            ImageFile original = toImageFile(originalPath(hash, type), type, false);
+            if (original != null) {
+                submitThumbnails(hash, type, original.getPath());
+            }
+            return Optional.ofNullable(original);
+        }
+        return Optional.ofNullable(toImageFile(originalPath(hash, type), type, true));
+    }
+    
+    @Override
+    public List<Integer> thumbnailWidths() {
+        return properties.getThumbnailWidths();
+    }
+    
+    private void submitThumbnails(String hash, ImageType type, Path original) {
+        if (type == ImageType.GIF || type == ImageType.WEBP) {
+            // 动图缩放会丢帧，WebP 没有内置解码器，只保留原图
+            return;
+        }
+        thumbnails.submit(original, type, properties.getThumbnailWidths(), width -> thumbnailPath(hash, type, width));
+    }
+    
+    private Path originalPath(String hash, ImageType type) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash + "." + type.getExtension());
+    }
+    
+    private Path thumbnailPath(String hash, ImageType type, int width) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash + "_w" + width + "." + type.getExtension());
+    }
+    
+    private static ImageFile toImageFile(Path path, ImageType type, boolean immutable) {
+        try {
+            return new ImageFile(path, type.getContentType(), Files.size(path), immutable);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+    
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.delicious.moments.infrastructure.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 缩略图生成
+ * <p>
+ * 固定线程数、有界队列，队列满时直接放弃（不阻塞上传请求），缺失的缩略图在首次访问时再提交。
+ * 解码时按目标宽度在水平、垂直两个方向上做同比例降采样，只解码需要的像素，大图不会整张解码到内存；
+ * 宽 × 高超过上限的原图（如极窄极高、降采样后仍然过大的图片）不生成缩略图。
+ */
+@Slf4j
+final class ThumbnailGenerator {
+    
+    private final ThreadPoolExecutor executor;
+    private final long maxSourcePixels;
+    /**
+     * 已提交、尚未完成的原图，避免重复提交
+     */
+    private final Set<Path> pending = ConcurrentHashMap.newKeySet();
+    
+    ThumbnailGenerator(int threads, int queueCapacity, long maxSourcePixels) {
+        this.maxSourcePixels = maxSourcePixels;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), r -> {
+                Thread thread = new Thread(r, "thumbnail-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    /**
+     * 提交生成任务
+     *
+     * @param target 宽度到缩略图路径的映射
+     */
+    void submit(Path source, ImageType type, List<Integer> widths, IntFunction<Path> target) {
+        if (!pending.add(source)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(source, type, widths, target);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("缩略图生成失败: source={}", source, e);
+                } finally {
+                    pending.remove(source);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(source);
+            log.debug("缩略图队列已满，稍后访问时再生成: source={}", source);
+        }
+    }
+    
+    void shutdown() {
+        executor.shutdown();
+    }
+    
+    private void generate(Path source, ImageType type, List<Integer> widths, IntFunction<Path> target)
+            throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                // 没有可用的解码器（如 WebP），只保留原图
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > maxSourcePixels) {
+                    log.debug("原图像素超过上限，不生成缩略图: source={}, size={}x{}", source, sourceWidth, sourceHeight);
+                    return;
+                }
+                int maxWidth = 0;
+                for (int width : widths) {
+                    if (width < sourceWidth && !Files.exists(target.apply(width))) {
+                        maxWidth = Math.max(maxWidth, width);
+                    }
+                }
+                if (maxWidth == 0) {
+                    return;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                // 缩略图高度随宽度等比缩放，垂直方向取同一步长，解码出的图片保持原图宽高比
+                int subsampling = Math.max(1, sourceWidth / maxWidth);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+                for (int width : widths) {
+                    Path path = target.apply(width);
+                    if (width < sourceWidth && !Files.exists(path)) {
+                        write(scale(decoded, width, type), type, path);
+                    }
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+    
+    private static BufferedImage scale(BufferedImage source, int width, ImageType type) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        boolean alpha = type == ImageType.PNG;
+        BufferedImage scaled = new BufferedImage(width, height,
+            alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+    
+    /**
+     * 先写临时文件再原子改名，读取方不会看到写了一半的缩略图
+     */
+    private static void write(BufferedImage image, ImageType type, Path path) throws IOException {
+        Path temp = Files.createTempFile(path.getParent(), "thumb-", ".part");
+        try {
+            if (!ImageIO.write(image, type == ImageType.PNG ? "png" : "jpg", temp.toFile())) {
+                return;
+            }
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.delicious.moments.infrastructure.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 文件响应输出
+ * <p>
+ * 连接器支持 sendfile 时只设置请求属性，由 Tomcat 在请求结束后用 {@link FileChannel#transferTo}
+ * 直接写入 socket，文件内容不经过用户态缓冲区；否则在当前线程用 transferTo 写入响应输出流。
+ */
+public final class FileResponseWriter {
+    
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    
+    private FileResponseWriter() {
+    }
+    
+    /**
+     * 写出文件内容，调用前应已设置 Content-Type 和缓存相关的响应头
+     */
+    public static void write(HttpServletRequest request, HttpServletResponse response, Path path, long size)
+            throws IOException {
+        response.setContentLengthLong(size);
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+    }
+}
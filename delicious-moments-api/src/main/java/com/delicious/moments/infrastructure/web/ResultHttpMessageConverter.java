@@ -0,0 +1,168 @@
+package com.delicious.moments.infrastructure.web;
+
+import com.delicious.moments.interfaces.dto.response.RawJson;
+import com.delicious.moments.interfaces.dto.response.Result;
+import com.delicious.moments.shared.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link Result} 响应专用的消息转换器（只写）
+ * <p>
+ * 信封字段用预编码的字段名直接写入输出流，data 按运行时类型使用预先构建并缓存的 {@link ObjectWriter}，
+ * 省去每次响应查找序列化器和创建中间缓冲的开销；data 为 {@link RawJson} 时字节原样写出，不经过 Jackson。
+ * 输出与 Jackson 直接序列化 Result 一致（NON_NULL，字段顺序 code/message/data/timestamp）。
+ */
+public class ResultHttpMessageConverter extends AbstractGenericHttpMessageConverter<Result<?>> {
+    
+    private static final SerializableString CODE = new SerializedString("code");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+    
+    private static final byte[] CODE_PREFIX = "{\"code\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MESSAGE_PREFIX = ",\"message\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DATA_PREFIX = ",\"data\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TIMESTAMP_PREFIX = ",\"timestamp\":".getBytes(StandardCharsets.UTF_8);
+    /**
+     * 成功响应 data 之前的固定部分
+     */
+    private static final byte[] SUCCESS_HEAD = concat(
+        CODE_PREFIX, ascii(ErrorCode.SUCCESS.getCode()), MESSAGE_PREFIX,
+        JsonStringEncoder.getInstance().quoteAsUTF8(ErrorCode.SUCCESS.getMessage()), new byte[]{'"'});
+    
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    
+    public ResultHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.objectMapper = objectMapper;
+    }
+    
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Result.class == clazz;
+    }
+    
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+    
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+    
+    @Override
+    public Result<?> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("不支持读取 Result", inputMessage);
+    }
+    
+    @Override
+    protected Result<?> readInternal(Class<? extends Result<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("不支持读取 Result", inputMessage);
+    }
+    
+    @Override
+    protected void writeInternal(Result<?> result, Type type, HttpOutputMessage outputMessage) throws IOException {
+        write(result, outputMessage.getBody());
+    }
+    
+    /**
+     * 把 Result 写入输出流，不关闭输出流
+     */
+    public void write(Result<?> result, OutputStream out) throws IOException {
+        if (result.getData() instanceof RawJson raw) {
+            writeRaw(result, raw, out);
+            return;
+        }
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.writeStartObject();
+            gen.writeFieldName(CODE);
+            gen.writeNumber(result.getCode());
+            if (result.getMessage() != null) {
+                gen.writeFieldName(MESSAGE);
+                gen.writeString(result.getMessage());
+            }
+            Object data = result.getData();
+            if (data != null) {
+                gen.writeFieldName(DATA);
+                writerFor(data.getClass()).writeValue(gen, data);
+            }
+            if (result.getTimestamp() != null) {
+                gen.writeFieldName(TIMESTAMP);
+                gen.writeNumber(result.getTimestamp());
+            }
+            gen.writeEndObject();
+        }
+    }
+    
+    private void writeRaw(Result<?> result, RawJson raw, OutputStream out) throws IOException {
+        if (result.getCode() == ErrorCode.SUCCESS.getCode() && ErrorCode.SUCCESS.getMessage().equals(result.getMessage())) {
+            out.write(SUCCESS_HEAD);
+        } else {
+            out.write(CODE_PREFIX);
+            out.write(ascii(result.getCode()));
+            if (result.getMessage() != null) {
+                out.write(MESSAGE_PREFIX);
+                out.write(JsonStringEncoder.getInstance().quoteAsUTF8(result.getMessage()));
+                out.write('"');
+            }
+        }
+        out.write(DATA_PREFIX);
+        out.write(raw.getBytes());
+        if (result.getTimestamp() != null) {
+            out.write(TIMESTAMP_PREFIX);
+            out.write(ascii(result.getTimestamp()));
+        }
+        out.write('}');
+    }
+    
+    /**
+     * 按 data 运行时类型缓存的写出器，构建时即解析好根序列化器
+     */
+    private ObjectWriter writerFor(Class<?> dataClass) {
+        ObjectWriter writer = writers.get(dataClass);
+        if (writer == null) {
+            writer = writers.computeIfAbsent(dataClass, objectMapper::writerFor);
+        }
+        return writer;
+    }
+    
+    private static byte[] ascii(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+    }
+    
+    private static byte[] concat(byte[]... parts) {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        byte[] out = new byte[length];
+        int pos = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, out, pos, part.length);
+            pos += part.length;
+        }
+        return out;
+    }
+}
@@ -0,0 +1,109 @@
+package com.delicious.moments.interfaces.controller;
+
+import com.delicious.moments.application.service.DishApplicationService;
+import com.delicious.moments.application.service.DishArchiveApplicationService;
+import com.delicious.moments.interfaces.dto.response.CursorPage;
+import com.delicious.moments.interfaces.dto.response.DishDTO;
+import com.delicious.moments.interfaces.dto.response.DishImportResultDTO;
+import com.delicious.moments.interfaces.dto.response.DishSearchHitDTO;
+import com.delicious.moments.interfaces.dto.response.Result;
+import com.delicious.moments.interfaces.interceptor.CurrentUser;
+import com.delicious.moments.interfaces.interceptor.FamilyScoped;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 菜谱控制器
+ */
+@Slf4j
+@Tag(name = "菜谱管理", description = "菜谱相关接口")
+@Validated
+@RestController
+@RequestMapping("/dishes")
+@RequiredArgsConstructor
+public class DishController {
+    
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    
+    private final DishApplicationService dishApplicationService;
+    private final DishArchiveApplicationService dishArchiveApplicationService;
+    
+    @Operation(summary = "游标分页查询菜谱列表")
+    @FamilyScoped
+    @GetMapping
+    public Result<CursorPage<DishDTO>> listDishes(
+            @RequestParam Long familyId,
+            @Parameter(description = "排序方式：latest最新 cooked制作最多 liked点赞最多")
+            @RequestParam(defaultValue = "latest") String sort,
+            @Parameter(description = "上一页返回的 nextCursor，第一页不传")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
+            @Parameter(description = "是否返回总数")
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        return Result.success(dishApplicationService.listDishes(familyId, sort, cursor, size, withTotal));
+    }
+    
+    @Operation(summary = "检索菜谱", description = "按菜名、标签或菜名拼音首字母检索，结果综合匹配度和受欢迎程度排序")
+    @FamilyScoped
+    @GetMapping("/search")
+    public Result<List<DishSearchHitDTO>> searchDishes(
+            @RequestParam Long familyId,
+            @RequestParam @NotBlank(message = "关键词不能为空") String keyword,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) Integer limit) {
+        return Result.success(dishApplicationService.searchDishes(familyId, keyword, limit));
+    }
+    
+    @Operation(summary = "导出菜谱库", description = "以 NDJSON 流式返回家庭的全部菜谱，每行一个菜谱（含食材和标签）")
+    @FamilyScoped
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportDishes(@RequestParam Long familyId) {
+        StreamingResponseBody body = out -> {
+            try {
+                dishArchiveApplicationService.exportDishes(familyId, out);
+            } catch (RuntimeException e) {
+                // 响应已开始输出，无法再改为错误响应：继续抛出，容器不写分块结束标记直接断开连接，
+                // 客户端据此识别下载不完整，而不是把截断的文件当作完整的导出
+                log.warn("菜谱导出中断: familyId={}", familyId, e);
+                throw e;
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"dishes-" + familyId + ".ndjson\"")
+            .body(body);
+    }
+    
+    @Operation(summary = "导入菜谱库", description = "请求体为导出格式的 NDJSON，分类和标签按名称匹配，不存在则自动创建")
+    @FamilyScoped
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public Result<DishImportResultDTO> importDishes(
+            @RequestParam Long familyId,
+            HttpServletRequest request,
+            InputStream body) {
+        Long userId = CurrentUser.get(request);
+        return Result.success(dishArchiveApplicationService.importDishes(familyId, userId, body));
+    }
+    
+    @Operation(summary = "获取菜谱详情")
+    @GetMapping("/{id}")
+    public Result<DishDTO> getDish(@PathVariable Long id, HttpServletRequest request) {
+        return Result.success(dishApplicationService.getDish(CurrentUser.require(request), id));
+    }
+}
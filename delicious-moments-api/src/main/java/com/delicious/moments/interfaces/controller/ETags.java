@@ -0,0 +1,28 @@
+package com.delicious.moments.interfaces.controller;
+
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+
+/**
+ * 基于聚合版本号的 ETag 条件请求
+ * <p>
+ * ETag 由聚合类型、ID 和版本号组成；响应体中含时间戳，字节并不完全相同，因此使用弱 ETag。
+ */
+final class ETags {
+    
+    private ETags() {
+    }
+    
+    static String of(String aggregate, Long id, int version) {
+        return "W/\"" + aggregate + "-" + id + "-" + version + "\"";
+    }
+    
+    /**
+     * 检查 If-None-Match：与当前版本一致时设置 304 并返回 true，调用方直接返回 null；
+     * 否则在响应中写入 ETag，调用方继续正常处理。版本号未知时不做任何处理。
+     */
+    static boolean notModified(WebRequest request, String aggregate, Long id, Optional<Integer> version) {
+        return version.isPresent() && request.checkNotModified(of(aggregate, id, version.get()));
+    }
+}
@@ -0,0 +1,71 @@
+package com.delicious.moments.interfaces.controller;
+
+import com.delicious.moments.application.service.FileApplicationService;
+import com.delicious.moments.domain.file.valueobject.ImageFile;
+import com.delicious.moments.infrastructure.config.FileStorageProperties;
+import com.delicious.moments.infrastructure.web.FileResponseWriter;
+import com.delicious.moments.interfaces.dto.response.ImageUploadDTO;
+import com.delicious.moments.interfaces.dto.response.Result;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * 文件控制器
+ */
+@Tag(name = "文件管理", description = "图片上传与访问接口")
+@RestController
+@RequestMapping("/files")
+@RequiredArgsConstructor
+public class FileController {
+    
+    private final FileApplicationService fileApplicationService;
+    private final FileStorageProperties properties;
+    
+    @Operation(summary = "上传图片", description = "支持 JPEG、PNG、GIF、WebP，相同内容的图片返回同一地址")
+    @PostMapping(value = "/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public Result<ImageUploadDTO> uploadImage(@RequestParam("file") MultipartFile file) {
+        return Result.success(fileApplicationService.uploadImage(file));
+    }
+    
+    @Operation(summary = "获取图片")
+    @GetMapping("/{key}")
+    public void getImage(
+            @PathVariable String key,
+            @Parameter(description = "缩略图宽度，需为配置的宽度之一")
+            @RequestParam(name = "w", required = false) Integer width,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Optional<ImageFile> image = fileApplicationService.openImage(key, width);
+        if (image.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        ImageFile file = image.get();
+        if (!file.isImmutable()) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        } else {
+            response.setHeader(HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(properties.getCacheMaxAge()).cachePublic().immutable().getHeaderValue());
+            // 内容寻址，key 与宽度即可唯一确定内容
+            String etag = "\"" + key + (width == null ? "" : "-w" + width) + "\"";
+            if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+                return;
+            }
+        }
+        response.setContentType(file.getContentType());
+        FileResponseWriter.write(request, response, file.getPath(), file.getSize());
+    }
+}
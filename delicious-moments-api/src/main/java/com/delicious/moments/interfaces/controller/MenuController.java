@@ -0,0 +1,78 @@
+package com.delicious.moments.interfaces.controller;
+
+import com.delicious.moments.application.service.MenuNutritionService;
+import com.delicious.moments.application.service.MenuPlanApplicationService;
+import com.delicious.moments.application.service.MenuRecommendationService;
+import com.delicious.moments.interfaces.dto.response.DishRecommendationDTO;
+import com.delicious.moments.interfaces.dto.response.MenuNutritionDTO;
+import com.delicious.moments.interfaces.dto.response.RawJson;
+import com.delicious.moments.interfaces.dto.response.Result;
+import com.delicious.moments.interfaces.interceptor.FamilyScoped;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 菜单控制器
+ */
+@Tag(name = "菜单管理", description = "菜单相关接口")
+@Validated
+@RestController
+@RequestMapping("/menus")
+@RequiredArgsConstructor
+public class MenuController {
+    
+    private final MenuPlanApplicationService menuPlanApplicationService;
+    private final MenuRecommendationService menuRecommendationService;
+    private final MenuNutritionService menuNutritionService;
+    
+    @Operation(summary = "获取家庭某天的菜单计划", description = "响应 data 结构见 MenuPlanDTO")
+    @FamilyScoped
+    @GetMapping("/plan")
+    public Result<RawJson> getMenuPlan(
+            @RequestParam Long familyId,
+            @Parameter(description = "菜单日期，格式 yyyy-MM-dd")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return Result.success(menuPlanApplicationService.getMenuPlanJson(familyId, date));
+    }
+    
+    @Operation(summary = "获取菜单营养", description = "日期范围内逐日、逐餐的卡路里和三大营养素合计（每份营养 × 份量），最多 92 天")
+    @FamilyScoped
+    @GetMapping("/nutrition")
+    public Result<MenuNutritionDTO> getMenuNutrition(
+            @RequestParam Long familyId,
+            @Parameter(description = "开始日期，格式 yyyy-MM-dd")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "结束日期（含），格式 yyyy-MM-dd")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return Result.success(menuNutritionService.getNutrition(familyId, startDate, endDate));
+    }
+    
+    @Operation(summary = "推荐菜谱", description = "综合受欢迎程度、餐次习惯、点菜人偏好、久未制作、近期标签重复和卡路里目标打分，结果标签尽量分散")
+    @FamilyScoped
+    @GetMapping("/recommendations")
+    public Result<List<DishRecommendationDTO>> recommendDishes(
+            @RequestParam Long familyId,
+            @Parameter(description = "目标日期，格式 yyyy-MM-dd")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "餐次：breakfast/lunch/dinner")
+            @RequestParam(required = false) @Pattern(regexp = "breakfast|lunch|dinner", message = "无效的餐次") String mealTime,
+            @Parameter(description = "点菜人ID，按其偏好推荐")
+            @RequestParam(required = false) Long selectorId,
+            @Parameter(description = "每道菜的目标卡路里")
+            @RequestParam(required = false) @Min(1) Integer calorieTarget,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) Integer limit) {
+        return Result.success(menuRecommendationService.recommend(familyId, date, mealTime, selectorId,
+            calorieTarget, limit));
+    }
+}
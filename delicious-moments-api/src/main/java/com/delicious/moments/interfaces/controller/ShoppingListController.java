@@ -0,0 +1,47 @@
+package com.delicious.moments.interfaces.controller;
+
+import com.delicious.moments.application.service.ShoppingListApplicationService;
+import com.delicious.moments.interfaces.dto.request.GenerateShoppingListRequest;
+import com.delicious.moments.interfaces.dto.response.Result;
+import com.delicious.moments.interfaces.dto.response.ShoppingListDTO;
+import com.delicious.moments.interfaces.interceptor.CurrentUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 购物清单控制器
+ */
+@Tag(name = "购物清单", description = "购物清单相关接口")
+@RestController
+@RequestMapping("/shopping-list")
+@RequiredArgsConstructor
+public class ShoppingListController {
+    
+    private final ShoppingListApplicationService shoppingListApplicationService;
+    
+    @Operation(summary = "生成购物清单")
+    @PostMapping("/generate")
+    public Result<ShoppingListDTO> generate(@Valid @RequestBody GenerateShoppingListRequest request,
+                                            HttpServletRequest httpRequest) {
+        ShoppingListDTO shoppingList = shoppingListApplicationService.generate(CurrentUser.require(httpRequest),
+            request.getFamilyId(), request.getStartDate(), request.getEndDate());
+        return Result.success(shoppingList);
+    }
+    
+    @Operation(summary = "获取购物清单", description = "支持 If-None-Match，清单未变更时返回 304")
+    @GetMapping("/{id}")
+    public Result<ShoppingListDTO> getShoppingList(@PathVariable Long id, HttpServletRequest request,
+                                                   WebRequest webRequest) {
+        Long userId = CurrentUser.require(request);
+        if (ETags.notModified(webRequest, "shopping-list", id,
+                shoppingListApplicationService.getShoppingListVersion(userId, id))) {
+            return null;
+        }
+        return Result.success(shoppingListApplicationService.getShoppingList(userId, id));
+    }
+}
@@ -0,0 +1,70 @@
+package com.delicious.moments.interfaces.controller;
+
+import com.delicious.moments.application.service.SyncApplicationService;
+import com.delicious.moments.interfaces.dto.response.SyncChunkDTO;
+import com.delicious.moments.interfaces.interceptor.FamilyScoped;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+/**
+ * 增量同步控制器
+ */
+@Slf4j
+@Tag(name = "增量同步", description = "小程序本地数据增量同步接口")
+@RestController
+@RequestMapping("/sync")
+public class SyncController {
+    
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    
+    private final SyncApplicationService syncApplicationService;
+    private final ObjectWriter chunkWriter;
+    
+    public SyncController(SyncApplicationService syncApplicationService, ObjectMapper objectMapper) {
+        this.syncApplicationService = syncApplicationService;
+        this.chunkWriter = objectMapper.writerFor(SyncChunkDTO.class);
+    }
+    
+    @Operation(summary = "获取水位线之后的变更",
+        description = "以 NDJSON 分块流式返回，每行一个 SyncChunkDTO，最后一行为新的水位线")
+    @FamilyScoped
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> sync(
+            @RequestParam Long familyId,
+            @Parameter(description = "上次同步返回的水位线，不传时返回全量数据")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        StreamingResponseBody body = out -> {
+            try {
+                syncApplicationService.streamChanges(familyId, since, chunk -> writeLine(out, chunk));
+            } catch (RuntimeException e) {
+                // 响应已开始输出，无法再改为错误响应；客户端未收到水位线行，会用原水位线重试
+                log.warn("增量同步中断: familyId={}, since={}", familyId, since, e);
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+    
+    private void writeLine(OutputStream out, SyncChunkDTO chunk) {
+        try {
+            out.write(chunkWriter.writeValueAsBytes(chunk));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
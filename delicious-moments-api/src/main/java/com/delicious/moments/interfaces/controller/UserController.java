@@ -1,14 +1,21 @@
 package com.delicious.moments.interfaces.controller;
 
 import com.delicious.moments.application.service.UserApplicationService;
+import com.delicious.moments.interfaces.dto.request.BatchUserQueryRequest;
 import com.delicious.moments.interfaces.dto.request.UpdateProfileRequest;
 import com.delicious.moments.interfaces.dto.response.Result;
 import com.delicious.moments.interfaces.dto.response.UserDTO;
+import com.delicious.moments.interfaces.dto.response.UserSummaryDTO;
+import com.delicious.moments.interfaces.interceptor.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Map;
 
 /**
  * 用户控制器
@@ -21,18 +28,32 @@ public class UserController {
     
     private final UserApplicationService userApplicationService;
     
-    @Operation(summary = "获取用户信息")
+    @Operation(summary = "获取当前用户的资料", description = "支持 If-None-Match，资料未变更时返回 304")
     @GetMapping("/profile")
-    public Result<UserDTO> getUserProfile(@RequestParam Long userId) {
+    public Result<UserDTO> getUserProfile(HttpServletRequest httpRequest, WebRequest webRequest) {
+        Long userId = CurrentUser.require(httpRequest);
+        if (ETags.notModified(webRequest, "user", userId, userApplicationService.getUserProfileVersion(userId))) {
+            return null;
+        }
         UserDTO userDTO = userApplicationService.getUserProfile(userId);
         return Result.success(userDTO);
     }
     
-    @Operation(summary = "更新用户资料")
+    @Operation(summary = "批量获取用户公开信息", description = "只返回与当前用户同属一个家庭的用户，不含手机号")
+    @PostMapping("/batch")
+    public Result<Map<Long, UserSummaryDTO>> getUserSummaries(
+            @Valid @RequestBody BatchUserQueryRequest request,
+            HttpServletRequest httpRequest) {
+        Long userId = CurrentUser.require(httpRequest);
+        return Result.success(userApplicationService.getUserSummaries(userId, request.getUserIds()));
+    }
+    
+    @Operation(summary = "更新当前用户的资料")
     @PutMapping("/profile")
     public Result<Void> updateUserProfile(
-            @RequestParam Long userId,
-            @Valid @RequestBody UpdateProfileRequest request) {
+            @Valid @RequestBody UpdateProfileRequest request,
+            HttpServletRequest httpRequest) {
+        Long userId = CurrentUser.require(httpRequest);
         userApplicationService.updateUserProfile(userId, request);
         return Result.success();
     }
@@ -0,0 +1,23 @@
+package com.delicious.moments.interfaces.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 批量查询用户请求
+ */
+@Data
+@Schema(description = "批量查询用户请求")
+public class BatchUserQueryRequest {
+    
+    @Schema(description = "用户ID列表")
+    @NotEmpty(message = "用户ID列表不能为空")
+    @Size(max = 1000, message = "单次最多查询1000个用户")
+    private List<@NotNull(message = "用户ID不能为空") @Positive(message = "用户ID必须为正数") Long> userIds;
+}
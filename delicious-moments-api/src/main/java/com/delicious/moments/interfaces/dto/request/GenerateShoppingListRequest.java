@@ -0,0 +1,27 @@
+package com.delicious.moments.interfaces.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 生成购物清单请求
+ */
+@Data
+@Schema(description = "生成购物清单请求")
+public class GenerateShoppingListRequest {
+    
+    @Schema(description = "家庭ID")
+    @NotNull(message = "家庭ID不能为空")
+    private Long familyId;
+    
+    @Schema(description = "开始日期")
+    @NotNull(message = "开始日期不能为空")
+    private LocalDate startDate;
+    
+    @Schema(description = "结束日期")
+    @NotNull(message = "结束日期不能为空")
+    private LocalDate endDate;
+}
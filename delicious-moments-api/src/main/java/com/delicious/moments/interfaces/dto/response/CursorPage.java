@@ -0,0 +1,45 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 游标分页响应结果
+ * <p>
+ * 与 {@link PageResult} 不同，不按页码定位：客户端用 nextCursor 请求下一页，
+ * 每一页的查询代价与第一页相同。total 仅在请求时统计。
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPage<T> implements Serializable {
+    
+    private List<T> records;
+    private Integer size;
+    private Boolean hasMore;
+    /**
+     * 下一页游标，没有下一页时为空
+     */
+    private String nextCursor;
+    /**
+     * 总记录数，未请求统计时为空
+     */
+    private Long total;
+    
+    public CursorPage() {
+    }
+    
+    public CursorPage(List<T> records, String nextCursor, Long total) {
+        this.records = records;
+        this.size = records.size();
+        this.hasMore = nextCursor != null;
+        this.nextCursor = nextCursor;
+        this.total = total;
+    }
+    
+    public static <T> CursorPage<T> of(List<T> records, String nextCursor, Long total) {
+        return new CursorPage<>(records, nextCursor, total);
+    }
+}
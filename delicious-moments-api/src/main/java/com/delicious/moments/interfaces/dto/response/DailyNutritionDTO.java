@@ -0,0 +1,27 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 单日营养DTO
+ */
+@Data
+@Schema(description = "单日营养")
+public class DailyNutritionDTO {
+    
+    @Schema(description = "日期")
+    private LocalDate date;
+    
+    @Schema(description = "当天是否有菜单计划")
+    private Boolean planned;
+    
+    @Schema(description = "按餐次的合计：breakfast早餐 lunch午餐 dinner晚餐")
+    private Map<String, NutritionDTO> meals;
+    
+    @Schema(description = "全天合计")
+    private NutritionDTO total;
+}
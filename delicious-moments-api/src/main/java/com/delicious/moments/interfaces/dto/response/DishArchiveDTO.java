@@ -0,0 +1,72 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 菜谱归档（NDJSON 导入/导出的一行）
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "菜谱归档")
+public class DishArchiveDTO {
+    
+    @Schema(description = "菜名")
+    private String name;
+    
+    @Schema(description = "封面图")
+    private String coverUrl;
+    
+    @Schema(description = "描述")
+    private String description;
+    
+    @Schema(description = "热量")
+    private Integer calories;
+    
+    @Schema(description = "蛋白质")
+    private BigDecimal protein;
+    
+    @Schema(description = "脂肪")
+    private BigDecimal fat;
+    
+    @Schema(description = "碳水化合物")
+    private BigDecimal carbohydrate;
+    
+    @Schema(description = "烹饪时间（分钟）")
+    private Integer cookingTime;
+    
+    @Schema(description = "难度")
+    private Integer difficulty;
+    
+    @Schema(description = "份量")
+    private Integer servingSize;
+    
+    @Schema(description = "分类名称，导入时家庭中不存在则自动创建")
+    private String category;
+    
+    @Schema(description = "标签名称，导入时家庭中不存在则自动创建")
+    private List<String> tags;
+    
+    @Schema(description = "食材")
+    private List<Ingredient> ingredients;
+    
+    /**
+     * 归档中的食材
+     */
+    @Data
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Ingredient {
+        
+        private String name;
+        
+        private BigDecimal quantity;
+        
+        private String unit;
+        
+        private String category;
+    }
+}
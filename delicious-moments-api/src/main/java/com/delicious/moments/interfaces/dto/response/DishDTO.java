@@ -0,0 +1,53 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * 菜谱DTO
+ */
+@Data
+@Schema(description = "菜谱信息")
+public class DishDTO {
+    
+    @Schema(description = "菜谱ID")
+    private Long dishId;
+    
+    @Schema(description = "家庭ID")
+    private Long familyId;
+    
+    @Schema(description = "菜名")
+    private String name;
+    
+    @Schema(description = "封面图URL")
+    private String coverUrl;
+    
+    @Schema(description = "描述")
+    private String description;
+    
+    @Schema(description = "卡路里")
+    private Integer calories;
+    
+    @Schema(description = "烹饪时间(分钟)")
+    private Integer cookingTime;
+    
+    @Schema(description = "难度：1简单 2中等 3困难")
+    private Integer difficulty;
+    
+    @Schema(description = "份量（人数）")
+    private Integer servingSize;
+    
+    @Schema(description = "制作次数")
+    private Integer cookedCount;
+    
+    @Schema(description = "点赞次数")
+    private Integer likeCount;
+    
+    @Schema(description = "平均评分")
+    private BigDecimal avgRating;
+    
+    @Schema(description = "分类ID")
+    private Long categoryId;
+}
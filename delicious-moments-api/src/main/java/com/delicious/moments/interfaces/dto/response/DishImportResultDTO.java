@@ -0,0 +1,24 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * 菜谱导入结果
+ */
+@Data
+@Schema(description = "菜谱导入结果")
+public class DishImportResultDTO {
+    
+    @Schema(description = "导入的菜谱数")
+    private int dishes;
+    
+    @Schema(description = "写入的行数（菜谱、食材和标签关联）")
+    private int rows;
+    
+    @Schema(description = "耗时（毫秒）")
+    private long elapsedMillis;
+    
+    @Schema(description = "写入速度（行/秒）")
+    private long rowsPerSecond;
+}
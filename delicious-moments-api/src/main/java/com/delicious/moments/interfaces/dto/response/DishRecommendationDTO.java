@@ -0,0 +1,29 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 菜谱推荐结果DTO
+ */
+@Data
+@Schema(description = "菜谱推荐结果")
+public class DishRecommendationDTO {
+    
+    @Schema(description = "菜谱ID")
+    private Long dishId;
+    
+    @Schema(description = "菜名")
+    private String name;
+    
+    @Schema(description = "卡路里")
+    private Integer calories;
+    
+    @Schema(description = "综合得分")
+    private Float score;
+    
+    @Schema(description = "最近一次制作日期，没做过时为空")
+    private LocalDate lastCookedDate;
+}
@@ -0,0 +1,27 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * 菜谱检索结果DTO
+ */
+@Data
+@Schema(description = "菜谱检索结果")
+public class DishSearchHitDTO {
+    
+    @Schema(description = "菜谱ID")
+    private Long dishId;
+    
+    @Schema(description = "菜名")
+    private String name;
+    
+    @Schema(description = "制作次数")
+    private Integer cookedCount;
+    
+    @Schema(description = "点赞次数")
+    private Integer likeCount;
+    
+    @Schema(description = "综合得分")
+    private Float score;
+}
@@ -0,0 +1,32 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * 图片上传结果
+ */
+@Data
+@Schema(description = "图片上传结果")
+public class ImageUploadDTO {
+    
+    @Schema(description = "图片地址，可用作菜谱封面或用户头像")
+    private String url;
+    
+    @Schema(description = "图片标识（内容摘要 + 扩展名）")
+    private String key;
+    
+    @Schema(description = "图片类型")
+    private String contentType;
+    
+    @Schema(description = "字节数")
+    private long size;
+    
+    @Schema(description = "是否与已上传的图片内容相同")
+    private boolean deduplicated;
+    
+    @Schema(description = "缩略图地址（宽度 -> 地址），后台生成，生成完成前返回原图")
+    private Map<Integer, String> thumbnails;
+}
@@ -0,0 +1,45 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * 菜单项DTO
+ */
+@Data
+@Schema(description = "菜单项信息")
+public class MenuItemDTO {
+    
+    @Schema(description = "菜单项ID")
+    private Long menuItemId;
+    
+    @Schema(description = "状态：1待制作 2制作中 3已完成")
+    private Integer status;
+    
+    @Schema(description = "备注")
+    private String notes;
+    
+    @Schema(description = "菜谱ID")
+    private Long dishId;
+    
+    @Schema(description = "菜名")
+    private String dishName;
+    
+    @Schema(description = "封面图URL")
+    private String coverUrl;
+    
+    @Schema(description = "卡路里")
+    private Integer calories;
+    
+    @Schema(description = "烹饪时间(分钟)")
+    private Integer cookingTime;
+    
+    @Schema(description = "点菜人ID")
+    private Long selectorId;
+    
+    @Schema(description = "点菜人昵称")
+    private String selectorNickname;
+    
+    @Schema(description = "点菜人头像URL")
+    private String selectorAvatarUrl;
+}
@@ -0,0 +1,33 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 日期范围营养DTO
+ */
+@Data
+@Schema(description = "日期范围内的菜单营养")
+public class MenuNutritionDTO {
+    
+    @Schema(description = "开始日期")
+    private LocalDate startDate;
+    
+    @Schema(description = "结束日期")
+    private LocalDate endDate;
+    
+    @Schema(description = "有菜单计划的天数")
+    private Integer plannedDays;
+    
+    @Schema(description = "逐日营养")
+    private List<DailyNutritionDTO> days;
+    
+    @Schema(description = "范围合计")
+    private NutritionDTO total;
+    
+    @Schema(description = "按有计划的天数平均的每日合计，没有计划时为空")
+    private NutritionDTO dailyAverage;
+}
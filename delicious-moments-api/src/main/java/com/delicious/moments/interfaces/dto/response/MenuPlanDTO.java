@@ -0,0 +1,40 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 菜单计划DTO
+ */
+@Data
+@Schema(description = "菜单计划信息")
+public class MenuPlanDTO {
+    
+    @Schema(description = "菜单计划ID，当天没有计划时为空")
+    private Long menuPlanId;
+    
+    @Schema(description = "家庭ID")
+    private Long familyId;
+    
+    @Schema(description = "菜单日期")
+    private LocalDate menuDate;
+    
+    @Schema(description = "状态：1计划中 2已完成 3已取消")
+    private Integer status;
+    
+    @Schema(description = "总卡路里")
+    private Integer totalCalories;
+    
+    @Schema(description = "菜品总数")
+    private Integer totalItems;
+    
+    @Schema(description = "按餐次分组的菜单项：breakfast早餐 lunch午餐 dinner晚餐")
+    private Map<String, List<MenuItemDTO>> meals;
+    
+    @Schema(description = "营养合计（按餐次和全天）")
+    private DailyNutritionDTO nutrition;
+}
@@ -0,0 +1,26 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * 营养合计DTO
+ */
+@Data
+@Schema(description = "营养合计（每份营养 × 份量）")
+public class NutritionDTO {
+    
+    @Schema(description = "卡路里")
+    private BigDecimal calories;
+    
+    @Schema(description = "蛋白质(g)")
+    private BigDecimal protein;
+    
+    @Schema(description = "脂肪(g)")
+    private BigDecimal fat;
+    
+    @Schema(description = "碳水化合物(g)")
+    private BigDecimal carbohydrate;
+}
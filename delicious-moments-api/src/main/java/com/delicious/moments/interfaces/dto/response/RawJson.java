@@ -0,0 +1,48 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 已序列化的 JSON 值（UTF-8 字节），作为 {@link Result} 的 data 时原样写出
+ * <p>
+ * 用于缓存的不可变响应内容；字节数组不复制，创建后不得再修改。
+ */
+public final class RawJson extends JsonSerializable.Base {
+    
+    private final byte[] bytes;
+    
+    private RawJson(byte[] bytes) {
+        this.bytes = bytes;
+    }
+    
+    public static RawJson of(byte[] bytes) {
+        return new RawJson(bytes);
+    }
+    
+    public byte[] getBytes() {
+        return bytes;
+    }
+    
+    public int length() {
+        return bytes.length;
+    }
+    
+    /**
+     * 未经过 ResultHttpMessageConverter 时（如其他转换器），退回为原始值写出
+     */
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeRawValue(new String(bytes, StandardCharsets.UTF_8));
+    }
+    
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
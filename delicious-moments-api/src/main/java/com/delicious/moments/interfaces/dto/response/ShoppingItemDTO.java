@@ -0,0 +1,32 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * 购物项DTO
+ */
+@Data
+@Schema(description = "购物项")
+public class ShoppingItemDTO {
+    
+    @Schema(description = "购物项ID")
+    private Long itemId;
+    
+    @Schema(description = "食材名称")
+    private String ingredientName;
+    
+    @Schema(description = "数量")
+    private BigDecimal quantity;
+    
+    @Schema(description = "单位")
+    private String unit;
+    
+    @Schema(description = "类别")
+    private String category;
+    
+    @Schema(description = "是否已勾选")
+    private Boolean checked;
+}
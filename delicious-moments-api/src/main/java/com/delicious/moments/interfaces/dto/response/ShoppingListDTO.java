@@ -0,0 +1,40 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 购物清单DTO
+ */
+@Data
+@Schema(description = "购物清单")
+public class ShoppingListDTO {
+    
+    @Schema(description = "购物清单ID")
+    private Long shoppingListId;
+    
+    @Schema(description = "家庭ID")
+    private Long familyId;
+    
+    @Schema(description = "开始日期")
+    private LocalDate startDate;
+    
+    @Schema(description = "结束日期")
+    private LocalDate endDate;
+    
+    @Schema(description = "状态：1-待购买 2-购买中 3-已完成")
+    private Integer status;
+    
+    @Schema(description = "总项数")
+    private Integer totalItems;
+    
+    @Schema(description = "已勾选项数")
+    private Integer checkedItems;
+    
+    @Schema(description = "按类别分组的购物项")
+    private Map<String, List<ShoppingItemDTO>> groupedItems;
+}
@@ -0,0 +1,30 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 增量同步响应分块（NDJSON 的一行）
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "增量同步分块")
+public class SyncChunkDTO {
+    
+    @Schema(description = "实体类型：category分类 tag标签 dish菜谱 menu_item菜单项 shopping_item购物项")
+    private String entity;
+    
+    @Schema(description = "新增或修改的记录")
+    private List<Map<String, Object>> upserts;
+    
+    @Schema(description = "已删除的记录ID")
+    private List<Long> deletes;
+    
+    @Schema(description = "新的水位线，只出现在最后一行；未收到该行说明同步未完成，应使用原水位线重试")
+    private LocalDateTime watermark;
+}
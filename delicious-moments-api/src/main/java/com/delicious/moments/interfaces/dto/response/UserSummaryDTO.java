@@ -0,0 +1,21 @@
+package com.delicious.moments.interfaces.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * 用户公开信息DTO（不含手机号等私人信息）
+ */
+@Data
+@Schema(description = "用户公开信息")
+public class UserSummaryDTO {
+    
+    @Schema(description = "用户ID")
+    private Long userId;
+    
+    @Schema(description = "昵称")
+    private String nickname;
+    
+    @Schema(description = "头像URL")
+    private String avatarUrl;
+}
@@ -0,0 +1,40 @@
+package com.delicious.moments.interfaces.interceptor;
+
+import com.delicious.moments.shared.exception.BusinessException;
+import com.delicious.moments.shared.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 当前请求的用户
+ * <p>
+ * 由认证过滤器验证 Token 后通过请求属性写入，控制器和拦截器只从这里读取，不信任请求参数中的用户ID。
+ */
+public final class CurrentUser {
+    
+    public static final String ATTRIBUTE = CurrentUser.class.getName() + ".USER_ID";
+    
+    private CurrentUser() {
+    }
+    
+    public static void set(HttpServletRequest request, Long userId) {
+        request.setAttribute(ATTRIBUTE, userId);
+    }
+    
+    /**
+     * 当前用户ID，未认证时返回 null
+     */
+    public static Long get(HttpServletRequest request) {
+        return (Long) request.getAttribute(ATTRIBUTE);
+    }
+    
+    /**
+     * 当前用户ID，未认证时抛出未授权异常
+     */
+    public static Long require(HttpServletRequest request) {
+        Long userId = get(request);
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        return userId;
+    }
+}
@@ -0,0 +1,67 @@
+package com.delicious.moments.interfaces.interceptor;
+
+import com.delicious.moments.application.service.FamilyMembershipService;
+import com.delicious.moments.shared.exception.BusinessException;
+import com.delicious.moments.shared.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 家庭权限拦截器
+ * <p>
+ * 对标注了 {@link FamilyScoped} 的接口，取出家庭ID和当前用户，通过成员身份缓存校验，
+ * 控制器和应用服务内不再重复检查。未标注的接口直接放行。
+ * <p>
+ * 按资源ID访问的接口（菜谱详情、购物清单）和家庭ID在请求体中的接口，请求上没有家庭ID，
+ * 由应用服务解析出所属家庭后调用 {@link FamilyMembershipService#checkMember} 校验。
+ */
+@Component
+@RequiredArgsConstructor
+public class FamilyAccessInterceptor implements HandlerInterceptor {
+    
+    private final FamilyMembershipService familyMembershipService;
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        FamilyScoped scope = method.getMethodAnnotation(FamilyScoped.class);
+        if (scope == null) {
+            return true;
+        }
+        Long userId = CurrentUser.require(request);
+        long familyId = familyId(request, scope.value());
+        if (scope.creatorOnly()) {
+            familyMembershipService.checkCreator(userId, familyId);
+        } else {
+            familyMembershipService.checkMember(userId, familyId);
+        }
+        return true;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static long familyId(HttpServletRequest request, String name) {
+        String value = request.getParameter(name);
+        if (value == null) {
+            Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            value = variables == null ? null : variables.get(name);
+        }
+        if (value == null) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR, "缺少家庭ID");
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR, "无效的家庭ID");
+        }
+    }
+}
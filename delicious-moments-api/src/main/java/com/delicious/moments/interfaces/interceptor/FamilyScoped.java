@@ -0,0 +1,26 @@
+package com.delicious.moments.interfaces.interceptor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记家庭范围的接口，由 {@link FamilyAccessInterceptor} 在进入控制器前校验当前用户的成员身份
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FamilyScoped {
+    
+    /**
+     * 家庭ID所在的请求参数或路径变量名
+     */
+    String value() default "familyId";
+    
+    /**
+     * 是否只允许家庭创建者访问
+     */
+    boolean creatorOnly() default false;
+}
@@ -15,6 +15,8 @@ public enum ErrorCode {
     NOT_FOUND(1002, "资源不存在"),
     UNAUTHORIZED(1003, "未授权"),
     FORBIDDEN(1004, "无权限"),
+    CONCURRENT_MODIFICATION(1005, "数据已被修改，请刷新后重试"),
+    TOO_MANY_REQUESTS(1006, "请求过于频繁，请稍后重试"),
     
     // 用户相关 2xxx
     USER_NOT_FOUND(2001, "用户不存在"),
@@ -1,11 +1,14 @@
 package com.delicious.moments.shared.exception;
 
 import com.delicious.moments.interfaces.dto.response.Result;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 /**
  * 全局异常处理器
@@ -42,6 +45,28 @@ public class GlobalExceptionHandler {
         return Result.error(ErrorCode.PARAM_ERROR.getCode(), message);
     }
     
+    /**
+     * 方法参数校验异常（@Validated 控制器上的 @RequestParam 约束）
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public Result<?> handleConstraintViolationException(ConstraintViolationException e) {
+        String message = e.getConstraintViolations().stream()
+            .findFirst()
+            .map(ConstraintViolation::getMessage)
+            .orElse("参数校验失败");
+        log.warn("参数校验异常: {}", message);
+        return Result.error(ErrorCode.PARAM_ERROR.getCode(), message);
+    }
+    
+    /**
+     * 上传文件超出 multipart 大小限制
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public Result<?> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException e) {
+        log.warn("上传文件超出大小限制: {}", e.getMessage());
+        return Result.error(ErrorCode.FILE_SIZE_EXCEEDED);
+    }
+    
     /**
      * 系统异常
      */
@@ -0,0 +1,135 @@
+package com.delicious.moments.shared.util;
+
+/**
+ * long 键到 long 计数的开放寻址哈希表
+ * <p>
+ * 键和值直接存放在基本类型数组中，累加时不产生装箱对象。键必须为正数（0 作为空槽标记）。
+ * 非线程安全。
+ */
+public class LongCountMap {
+    
+    private static final long EMPTY = 0L;
+    
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private int mask;
+    
+    public LongCountMap() {
+        this(16);
+    }
+    
+    public LongCountMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize * 2 - 1, 8)) << 1;
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+    
+    /**
+     * 为键累加计数，返回累加后的值
+     */
+    public long add(long key, long delta) {
+        if (key <= EMPTY) {
+            throw new IllegalArgumentException("键必须为正数: " + key);
+        }
+        int slot = indexOf(key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+            if (size * 4 > keys.length * 3) {
+                rehash(keys.length << 1);
+                slot = indexOf(key);
+            }
+        }
+        return values[slot] += delta;
+    }
+    
+    public long get(long key) {
+        int slot = indexOf(key);
+        return keys[slot] == EMPTY ? 0 : values[slot];
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * 计数最大的键，计数相同时取较小的键；为空时返回 0
+     */
+    public long maxKey() {
+        long bestKey = EMPTY;
+        long bestValue = Long.MIN_VALUE;
+        for (int i = 0; i < keys.length; i++) {
+            long key = keys[i];
+            if (key == EMPTY) {
+                continue;
+            }
+            if (values[i] > bestValue || (values[i] == bestValue && key < bestKey)) {
+                bestKey = key;
+                bestValue = values[i];
+            }
+        }
+        return bestKey;
+    }
+    
+    public void forEach(Visitor visitor) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                visitor.accept(keys[i], values[i]);
+            }
+        }
+    }
+    
+    public void addAll(LongCountMap other) {
+        other.forEach(this::add);
+    }
+    
+    private int indexOf(long key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+    
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = indexOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+    
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> sb.append(sb.length() > 1 ? ", " : "").append(key).append('=').append(value));
+        return sb.append('}').toString();
+    }
+    
+    /**
+     * 键值访问器
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        
+        void accept(long key, long value);
+    }
+}
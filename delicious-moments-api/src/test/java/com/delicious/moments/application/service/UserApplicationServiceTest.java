@@ -0,0 +1,94 @@
+package com.delicious.moments.application.service;
+
+import com.delicious.moments.domain.user.aggregate.User;
+import com.delicious.moments.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 同一OpenID的并发首次登录只创建一个用户
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class UserApplicationServiceTest {
+    
+    private static final int THREADS = 16;
+    private static final String OPEN_ID = "openid_concurrent";
+    
+    @Autowired
+    private UserApplicationService userApplicationService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM user_profile");
+        jdbcTemplate.update("DELETE FROM user_aggregate");
+    }
+    
+    @Test
+    void concurrentGetOrCreateUserCreatesSingleUser() throws Exception {
+        List<User> users = runConcurrently(() -> userApplicationService.getOrCreateUser(OPEN_ID, "妈妈", null));
+        
+        assertSingleUser(users);
+    }
+    
+    /**
+     * 绕过进程内合并，模拟多个节点同时插入
+     */
+    @Test
+    void concurrentSaveIfAbsentCreatesSingleUser() throws Exception {
+        List<User> users = runConcurrently(() -> userRepository.saveIfAbsent(User.create(OPEN_ID, "妈妈", null)));
+        
+        assertSingleUser(users);
+    }
+    
+    private List<User> runConcurrently(Callable<User> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<User>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<User> users = new ArrayList<>();
+            for (Future<User> future : futures) {
+                users.add(future.get());
+            }
+            return users;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private void assertSingleUser(List<User> users) {
+        Long userId = jdbcTemplate.queryForObject(
+            "SELECT id FROM user_aggregate WHERE openid = ?", Long.class, OPEN_ID);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_aggregate", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM user_profile WHERE user_id = ?", Integer.class, userId)).isEqualTo(1);
+        assertThat(users).allSatisfy(user -> assertThat(user.getUserId().getValue()).isEqualTo(userId));
+    }
+}
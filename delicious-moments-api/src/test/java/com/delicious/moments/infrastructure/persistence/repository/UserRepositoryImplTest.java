@@ -0,0 +1,77 @@
+package com.delicious.moments.infrastructure.persistence.repository;
+
+import com.delicious.moments.domain.user.aggregate.User;
+import com.delicious.moments.domain.user.valueobject.UserId;
+import com.delicious.moments.support.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 用户聚合联表加载：每次 findById 只发出一条 SELECT
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@Import(SqlStatementCounter.class)
+class UserRepositoryImplTest {
+    
+    @Autowired
+    private UserRepositoryImpl userRepository;
+    
+    @Autowired
+    private SqlStatementCounter statementCounter;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private long userId;
+    
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM user_profile");
+        jdbcTemplate.update("DELETE FROM user_aggregate");
+        jdbcTemplate.update("INSERT INTO user_aggregate (openid, version) VALUES ('openid_join', 3)");
+        userId = jdbcTemplate.queryForObject("SELECT id FROM user_aggregate WHERE openid = 'openid_join'", Long.class);
+        jdbcTemplate.update("INSERT INTO user_profile (user_id, nickname, avatar_url, phone) VALUES (?, '妈妈', 'a.png', '13800000000')",
+            userId);
+        statementCounter.reset();
+    }
+    
+    @Test
+    void findByIdIssuesSingleSelect() {
+        Optional<User> user = userRepository.findById(UserId.of(userId));
+        
+        assertThat(user).isPresent();
+        assertThat(user.get().getNickname()).isEqualTo("妈妈");
+        assertThat(user.get().getVersion()).isEqualTo(3);
+        assertThat(statementCounter.selectCount())
+            .as("statements: %s", statementCounter.getStatements())
+            .isEqualTo(1);
+    }
+    
+    @Test
+    void findByIdWithoutProfileIssuesSingleSelect() {
+        jdbcTemplate.update("DELETE FROM user_profile");
+        statementCounter.reset();
+        
+        Optional<User> user = userRepository.findById(UserId.of(userId));
+        
+        assertThat(user).isPresent();
+        assertThat(user.get().getNickname()).isNull();
+        assertThat(statementCounter.selectCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void findByIdOfMissingUserIssuesSingleSelect() {
+        assertThat(userRepository.findById(UserId.of(userId + 1000))).isEmpty();
+        assertThat(statementCounter.selectCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,70 @@
+package com.delicious.moments.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 记录经过数据源的 SQL 语句（JDBC 层，在 MyBatis 之下）
+ * <p>
+ * 包装数据源返回的连接，记录每次 prepareStatement 的 SQL，用于断言一次操作发出的语句数。
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class SqlStatementCounter implements BeanPostProcessor {
+    
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+    
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(dataSource, method, args);
+                    return result instanceof Connection connection ? wrap(connection) : result;
+                });
+        }
+        return bean;
+    }
+    
+    public void reset() {
+        statements.clear();
+    }
+    
+    /**
+     * 已记录的 SELECT 语句数
+     */
+    public long selectCount() {
+        return statements.stream()
+            .filter(sql -> sql.stripLeading().toUpperCase(Locale.ROOT).startsWith("SELECT"))
+            .count();
+    }
+    
+    public List<String> getStatements() {
+        return List.copyOf(statements);
+    }
+    
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                if (method.getName().startsWith("prepare") && args != null && args[0] instanceof String sql) {
+                    statements.add(sql);
+                }
+                return invoke(connection, method, args);
+            });
+    }
+    
+    private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
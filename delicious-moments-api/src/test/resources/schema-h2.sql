@@ -0,0 +1,26 @@
+-- 集成测试表结构（H2 MySQL 兼容模式，仅包含用户上下文）
+
+CREATE TABLE IF NOT EXISTS user_aggregate (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    openid VARCHAR(100) NOT NULL,
+    union_id VARCHAR(100),
+    session_key VARCHAR(100),
+    version INT DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    deleted_at TIMESTAMP NULL,
+    CONSTRAINT uk_openid UNIQUE (openid)
+);
+
+CREATE TABLE IF NOT EXISTS user_profile (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    nickname VARCHAR(50),
+    avatar_url VARCHAR(255),
+    phone VARCHAR(20),
+    gender TINYINT,
+    birthday DATE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_user_id UNIQUE (user_id)
+);